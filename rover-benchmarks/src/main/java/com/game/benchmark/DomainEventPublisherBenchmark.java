@@ -0,0 +1,94 @@
+package com.game.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.AbstractDomainEventSubscriber;
+import com.game.domain.model.event.DomainEventPublisherSubscriber;
+import com.game.domain.model.event.rover.RoverTurnedEvent;
+
+/**
+ * Synchronous dispatch of one event to a growing number of subscribers of its type
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventPublisherBenchmark {
+
+	@Param({ "1", "8", "64" })
+	private int numberOfSubscribers;
+
+	private DomainEventPublisherSubscriber publisher;
+
+	private RoverTurnedEvent event;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		publisher = DomainEventPublisherSubscriber.instance();
+		publisher.clear();
+		for (int i = 0; i < numberOfSubscribers; i++) {
+			publisher.subscribe(new CountingSubscriber(i));
+		}
+		event = new RoverTurnedEvent.Builder()
+				.withRoverId(new RoverIdentifierDto(new RoverIdentifier(UUID.randomUUID(), GameContext.ROVER_NAME_PREFIX), 0))
+				.withPreviousOrientation(Orientation.NORTH).withCurrentOrientation(Orientation.EAST).build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		// restores the subscribers of the game
+		GameContext.getInstance().reset();
+	}
+
+	@Benchmark
+	public void publish() {
+		publisher.publish(event);
+	}
+
+	static class CountingSubscriber extends AbstractDomainEventSubscriber<RoverTurnedEvent> {
+
+		long count;
+
+		CountingSubscriber(int index) {
+			this.id = CountingSubscriber.class.getSimpleName() + index;
+		}
+
+		@Override
+		public void handleEvent(RoverTurnedEvent event) {
+			count++;
+		}
+
+		@Override
+		public Class<RoverTurnedEvent> subscribedToEventType() {
+			return RoverTurnedEvent.class;
+		}
+
+		@Override
+		public boolean isSynchronous() {
+			return true;
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.game.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.store.ConcurrentEventStoreImpl;
+import com.game.domain.model.event.store.EventStore;
+import com.game.domain.model.event.store.EventStoreImpl;
+
+/**
+ * {@link EventStore#addEvent(DomainEvent)} under contention of several writer threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class EventStoreBenchmark {
+
+	@Param({ "concurrent", "synchronized" })
+	private String implementation;
+
+	private EventStore eventStore;
+
+	private DomainEvent event;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		eventStore = "concurrent".equals(implementation) ? new ConcurrentEventStoreImpl() : new EventStoreImpl();
+		event = new RoverMovedEvent.Builder()
+				.withRoverId(new RoverIdentifierDto(new RoverIdentifier(UUID.randomUUID(), GameContext.ROVER_NAME_PREFIX), 0))
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, 1))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, 2)).build();
+	}
+
+	@Benchmark
+	public void addEvent() {
+		eventStore.addEvent(event);
+	}
+
+}
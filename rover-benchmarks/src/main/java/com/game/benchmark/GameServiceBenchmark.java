@@ -0,0 +1,107 @@
+package com.game.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.application.service.GameService;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverTurnInstruction;
+
+/**
+ * Whole command pipeline: {@link GameService} -> domain services -> entities -> events -> subscribers and event store
+ * The game is reset before each iteration, so that the event store does not grow across iterations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GameServiceBenchmark {
+
+	private static final int PLATEAU_SIZE = 1000;
+
+	/**
+	 * Rovers landed by one measured call of {@link #initializeRover()}, far below the
+	 * PLATEAU_SIZE * (PLATEAU_SIZE + 1) free locations of the plateau
+	 */
+	private static final int ROVERS_PER_BATCH = 100_000;
+
+	private GameService gameService;
+
+	private UUID plateauId;
+
+	private RoverIdentifier roverId;
+
+	private int numberOfRovers;
+
+	private int stepsToEdge;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		GameContext.getInstance().reset();
+		gameService = GameContext.getInstance().getGameService();
+		plateauId = UUID.randomUUID();
+		gameService.execute(new PlateauInitializeCommand.Builder().withId(plateauId).withWidth(PLATEAU_SIZE)
+				.withHeight(PLATEAU_SIZE).build());
+		roverId = new RoverIdentifier(plateauId, GameContext.ROVER_NAME_PREFIX + "BENCHMARK");
+		gameService.execute(new RoverInitializeCommand.Builder().withPlateauUuid(plateauId).withName(roverId.getName())
+				.withAbscissa(0).withOrdinate(0).withOrientation('E').build());
+		numberOfRovers = 0;
+		stepsToEdge = PLATEAU_SIZE;
+	}
+
+	/**
+	 * One new rover per call, from the second row of the plateau
+	 * The plateau filling up, the calls are measured by batches of ROVERS_PER_BATCH, one per iteration:
+	 * the score is the time to land a whole batch
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 3, batchSize = ROVERS_PER_BATCH)
+	@Measurement(iterations = 5, batchSize = ROVERS_PER_BATCH)
+	public void initializeRover() {
+		int index = numberOfRovers++;
+		gameService.execute(new RoverInitializeCommand.Builder().withPlateauUuid(plateauId)
+				.withName(GameContext.ROVER_NAME_PREFIX + index).withAbscissa(index % (PLATEAU_SIZE + 1))
+				.withOrdinate(1 + index / (PLATEAU_SIZE + 1)).withOrientation('N').build());
+	}
+
+	/**
+	 * One move per call, the rover crossing the first row back and forth: the half turn at
+	 * each edge only adds two turns every PLATEAU_SIZE moves
+	 */
+	@Benchmark
+	public void moveRover() {
+		if (stepsToEdge == 0) {
+			gameService.execute(new RoverTurnCommand(roverId, RoverTurnInstruction.LEFT));
+			gameService.execute(new RoverTurnCommand(roverId, RoverTurnInstruction.LEFT));
+			stepsToEdge = PLATEAU_SIZE;
+		}
+		gameService.execute(new RoverMoveCommand(roverId, 1));
+		stepsToEdge--;
+	}
+
+	@Benchmark
+	public void turnRover() {
+		gameService.execute(new RoverTurnCommand(roverId, RoverTurnInstruction.RIGHT));
+	}
+
+}
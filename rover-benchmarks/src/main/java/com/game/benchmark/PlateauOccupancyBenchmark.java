@@ -0,0 +1,81 @@
+package com.game.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.game.domain.model.entity.plateau.PlateauOccupancy;
+import com.game.domain.model.service.plateau.PlateauFactory;
+
+/**
+ * Occupancy lookups and moves at several plateau sizes, the occupancy implementation
+ * (dense or sparse) being the one selected by the {@link PlateauFactory}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PlateauOccupancyBenchmark {
+
+	private static final int NUMBER_OF_LOCATIONS = 1024;
+
+	@Param({ "100", "1000", "10000", "1000000" })
+	private int size;
+
+	private PlateauOccupancy occupancy;
+
+	private final int[] xs = new int[NUMBER_OF_LOCATIONS];
+
+	private final int[] ys = new int[NUMBER_OF_LOCATIONS];
+
+	private int index;
+
+	/**
+	 * The moving rover only goes to the odd locations, the even ones being occupied
+	 */
+	private int roverIndex = 1;
+
+	@Setup
+	public void setup() {
+		occupancy = PlateauFactory.createOccupancy(size, size);
+		Random random = new Random(42);
+		for (int i = 0; i < NUMBER_OF_LOCATIONS; i++) {
+			xs[i] = random.nextInt(size);
+			ys[i] = random.nextInt(size);
+			if (i % 2 == 0) {
+				occupancy.setOccupied(xs[i], ys[i]);
+			}
+		}
+		occupancy.setOccupied(xs[roverIndex], ys[roverIndex]);
+	}
+
+	@Benchmark
+	public boolean isOccupied() {
+		int i = index++ & (NUMBER_OF_LOCATIONS - 1);
+		return occupancy.isOccupied(xs[i], ys[i]);
+	}
+
+	@Benchmark
+	public boolean tryMove() {
+		int target = (roverIndex + 2) & (NUMBER_OF_LOCATIONS - 1);
+		boolean moved = occupancy.tryMove(xs[roverIndex], ys[roverIndex], xs[target], ys[target]);
+		if (moved) {
+			roverIndex = target;
+		}
+		return moved;
+	}
+
+}
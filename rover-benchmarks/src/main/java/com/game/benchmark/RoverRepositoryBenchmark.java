@@ -0,0 +1,76 @@
+package com.game.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.service.rover.RoverService;
+
+/**
+ * Rovers of one plateau among all the rovers of the game
+ * The rovers are added straight to the repository, without any event
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoverRepositoryBenchmark {
+
+	@Param({ "1000", "100000" })
+	private int numberOfRovers;
+
+	@Param({ "1", "100" })
+	private int numberOfPlateaus;
+
+	private RoverService roverService;
+
+	private UUID[] plateauIds;
+
+	private int index;
+
+	@Setup
+	public void setup() {
+		GameContext.getInstance().reset();
+		roverService = GameContext.getInstance().getRoverService();
+		plateauIds = new UUID[numberOfPlateaus];
+		for (int i = 0; i < numberOfPlateaus; i++) {
+			plateauIds[i] = UUID.randomUUID();
+		}
+		for (int i = 0; i < numberOfRovers; i++) {
+			roverService.getRoverRepository()
+					.add(new Rover(new RoverIdentifier(plateauIds[i % numberOfPlateaus], GameContext.ROVER_NAME_PREFIX + i),
+							new TwoDimensionalCoordinates(i, 0), Orientation.NORTH));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		GameContext.getInstance().reset();
+	}
+
+	@Benchmark
+	public List<Rover> getAllRoversOnPlateau() {
+		return roverService.getAllRoversOnPlateau(plateauIds[index++ % numberOfPlateaus]);
+	}
+
+}
@@ -3,17 +3,12 @@ package com.game.adapter.file;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import com.game.domain.application.command.VoidApplicationCommand;
-import com.game.domain.application.command.plateau.PlateauInitializeCommand;
-import com.game.domain.application.command.rover.RoverInitializeCommand;
-import com.game.domain.application.command.rover.RoverMoveCommand;
-import com.game.domain.application.command.rover.RoverTurnCommand;
 import com.game.domain.application.context.GameContext;
 import com.game.domain.application.service.GameService;
-import com.game.domain.model.entity.rover.RoverIdentifier;
-import com.game.domain.model.entity.rover.RoverTurnInstruction;
 
 /**
  * Primary adapter as defined by Hexagonal Architecture
@@ -23,61 +18,57 @@ import com.game.domain.model.entity.rover.RoverTurnInstruction;
  */
 public class GameFileAdapter {
 
+	/**
+	 * Number of commands given at once to {@link GameService#execute(List)}
+	 */
+	static final int CHUNK_SIZE = 1000;
+
 	GameService gameService = GameContext.getInstance().getGameService();
 
-	public void executeGame(File file) {
-		gameService.execute(getCommandsFromFile(file));
+	/**
+	 * Parallel mode, null when the commands are executed one after the other
+	 */
+	private final ForkJoinPool pool;
+
+	public GameFileAdapter() {
+		this(null);
 	}
 
 	/**
-	 * We mock the File Parsing here as we are only
-	 * interested in the domain model in this presentation.
-	 * We leave it to you as an exercise ;-)
-	 * @param file
-	 * @return
+	 * @param pool executes the rovers which do not interact in parallel, see {@link ParallelMissionExecutor}
 	 */
-	private List<VoidApplicationCommand> getCommandsFromFile(File file) {
-		
-		UUID plateauId = UUID.randomUUID();
-		// ********* Given **********
-		// initialization plateau command (5,5)
-		List<VoidApplicationCommand> commands = new ArrayList<>();
-		commands.add(new PlateauInitializeCommand.Builder().withObserverSpeed(0).withId(plateauId).withWidth(5)
-				.withHeight(5).build());
+	public GameFileAdapter(ForkJoinPool pool) {
+		this.pool = pool;
+	}
 
-		// rover1 commands
-		// Rover 1 initialization (1,2) and Orientation 'N' 
-		String rover1Name = GameContext.ROVER_NAME_PREFIX + 1;
-		commands.add(new RoverInitializeCommand.Builder().withPlateauUuid(plateauId).withName(rover1Name)
-				.withAbscissa(1).withOrdinate(2).withOrientation('N').build());
-		RoverIdentifier rover1 = new RoverIdentifier(plateauId, rover1Name);
-		// Rover 1 move commands  LMLMLMLMMs
-		commands.add(new RoverTurnCommand(rover1, RoverTurnInstruction.LEFT));
-		commands.add(new RoverMoveCommand(rover1, 1));
-		commands.add(new RoverTurnCommand(rover1, RoverTurnInstruction.LEFT));
-		commands.add(new RoverMoveCommand(rover1, 1));
-		commands.add(new RoverTurnCommand(rover1, RoverTurnInstruction.LEFT));
-		commands.add(new RoverMoveCommand(rover1, 1));
-		commands.add(new RoverTurnCommand(rover1, RoverTurnInstruction.LEFT));
-		commands.add(new RoverMoveCommand(rover1, 2));
+	/**
+	 * The commands are read from the file while the game goes on, see {@link MissionFileReader}
+	 * @param file
+	 */
+	public void executeGame(File file) {
+		if (pool != null) {
+			try (Stream<VoidApplicationCommand> commands = getCommandsFromFile(file)) {
+				new ParallelMissionExecutor(gameService, pool).execute(commands.iterator());
+			}
+			return;
+		}
+		List<VoidApplicationCommand> chunk = new ArrayList<>(CHUNK_SIZE);
+		try (Stream<VoidApplicationCommand> commands = getCommandsFromFile(file)) {
+			commands.forEachOrdered(command -> {
+				chunk.add(command);
+				if (chunk.size() == CHUNK_SIZE) {
+					gameService.execute(chunk);
+					chunk.clear();
+				}
+			});
+		}
+		if (!chunk.isEmpty()) {
+			gameService.execute(chunk);
+		}
+	}
 
-		// rover2 commands
-		// rover 2 initialization  (3,2) and Orientation 'E'
-		String rover2Name = GameContext.ROVER_NAME_PREFIX + 2;
-		commands.add(new RoverInitializeCommand.Builder().withPlateauUuid(plateauId).withName(rover2Name)
-				.withAbscissa(3).withOrdinate(3).withOrientation('E').build());
-		RoverIdentifier rover2 = new RoverIdentifier(plateauId, rover2Name);
-		// Rover 2 move commands  MMRMMRMRRM
-		commands.add(new RoverMoveCommand(rover2, 2));
-		commands.add(new RoverTurnCommand(rover2, RoverTurnInstruction.RIGHT));
-		commands.add(new RoverMoveCommand(rover2, 2));
-		commands.add(new RoverTurnCommand(rover2, RoverTurnInstruction.RIGHT));
-		commands.add(new RoverMoveCommand(rover2, 1));
-		commands.add(new RoverTurnCommand(rover2, RoverTurnInstruction.RIGHT));
-		commands.add(new RoverTurnCommand(rover2, RoverTurnInstruction.RIGHT));
-		commands.add(new RoverMoveCommand(rover2, 1));
-		
-		return commands;
+	Stream<VoidApplicationCommand> getCommandsFromFile(File file) {
+		return MissionFileReader.commands(file.toPath());
 	}
 
 }
@@ -1,6 +1,7 @@
 package com.game.adapter.file;
 
 import java.io.File;
+import java.net.URISyntaxException;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,15 +13,29 @@ public class GameIntegration {
 
 	public static void main(String[] args) {
 
+		// state of the previous run, when the snapshots are enabled
+		GameContext.getInstance().recover();
+
 		GameIntegration integrationTest = new GameIntegration();
-		integrationTest.runWithFileAdapter();
+		integrationTest.runWithFileAdapter(args.length > 0 ? new File(args[0]) : getDefaultMission());
+	}
+
+	/**
+	 * The classic two rovers mission
+	 */
+	private static File getDefaultMission() {
+		try {
+			return new File(GameIntegration.class.getResource("/mission.txt").toURI());
+		} catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 
-	private void runWithFileAdapter() {
+	private void runWithFileAdapter(File file) {
 		
 		// the client will run only this part
 		GameFileAdapter adapter = new GameFileAdapter();
-		adapter.executeGame(new File("myFileNotNeededForNow"));
+		adapter.executeGame(file);
 	
 		// extra part just to print the results on the console
 		printInfos();
@@ -39,8 +54,8 @@ public class GameIntegration {
 				String.valueOf(GameContext.getInstance().getPlateauService().isLocationBusy(plateauId,
 						rover.getCoordinates())))));
 		
-		// print all the Events stored in the Event Store
-		GameContext.getInstance().getEventStore().getAllEvents().forEach(System.out::println);
+		// print all the Events stored in the Event Store, read lazily
+		GameContext.getInstance().getEventStore().streamFrom(0).forEach(System.out::println);
 		
 		System.out.println("***************** Using Read/Projected Model ********************");
 		System.out.println("Number of rovers currently in play: " + GameContext.getInstance().getRoverService().getReadRoverRepository().getNumberOfEntities());
@@ -0,0 +1,301 @@
+package com.game.adapter.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverTurnInstruction;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.MissionFileException;
+
+/**
+ * Reads the commands of a mission file in the classic format, one command at a time:
+ * <pre>
+ * 5 5          plateau width and height
+ * 1 2 N        rover position and orientation
+ * LMLMLMLMM    rover instructions
+ * 3 3 E        next rover...
+ * MMRMMRMRRM
+ * </pre>
+ * The bytes are decoded in place from a buffered {@link FileChannel}, without any String per line,
+ * and a run of moves becomes one {@link RoverMoveCommand}: the memory used does not depend on the
+ * size of the file. The rovers are named {@link GameContext#ROVER_NAME_PREFIX} followed by their rank in the file.
+ */
+public class MissionFileReader implements Iterator<VoidApplicationCommand>, Closeable {
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final int EOF = -1;
+
+	private static final int NO_BYTE = -2;
+
+	private enum Expected {
+		PLATEAU, ROVER, INSTRUCTIONS, END
+	}
+
+	private final Path path;
+
+	private final UUID plateauId;
+
+	private final FileChannel channel;
+
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+	private Expected expected = Expected.PLATEAU;
+
+	private int pushedBack = NO_BYTE;
+
+	private int line = 1;
+
+	private int numberOfRovers;
+
+	private RoverIdentifier roverId;
+
+	private VoidApplicationCommand next;
+
+	public MissionFileReader(Path path) {
+		this(path, UUID.randomUUID());
+	}
+
+	public MissionFileReader(Path path, UUID plateauId) {
+		this.path = path;
+		this.plateauId = plateauId;
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		} catch (IOException e) {
+			throw new MissionFileException(String.format(GameExceptionLabels.MISSION_FILE_IO_ERROR, path), e);
+		}
+		// nothing read yet
+		buffer.flip();
+	}
+
+	/**
+	 * @return the commands of the file, read while the stream is consumed. The stream should be closed
+	 */
+	public static Stream<VoidApplicationCommand> commands(Path path) {
+		MissionFileReader reader = new MissionFileReader(path);
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(reader::close);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			next = readCommand();
+		}
+		return next != null;
+	}
+
+	@Override
+	public VoidApplicationCommand next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		VoidApplicationCommand command = next;
+		next = null;
+		return command;
+	}
+
+	@Override
+	public void close() {
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new MissionFileException(String.format(GameExceptionLabels.MISSION_FILE_IO_ERROR, path), e);
+		}
+	}
+
+	private VoidApplicationCommand readCommand() {
+		while (true) {
+			switch (expected) {
+			case PLATEAU:
+				if (!skipBlankLines()) {
+					throw malformed("missing plateau dimensions");
+				}
+				int width = readInt();
+				int height = readInt();
+				endOfLine();
+				expected = Expected.ROVER;
+				return new PlateauInitializeCommand.Builder().withObserverSpeed(0).withId(plateauId).withWidth(width)
+						.withHeight(height).build();
+			case ROVER:
+				if (!skipBlankLines()) {
+					expected = Expected.END;
+					return null;
+				}
+				int abscissa = readInt();
+				int ordinate = readInt();
+				char orientation = readOrientation();
+				endOfLine();
+				roverId = new RoverIdentifier(plateauId, GameContext.ROVER_NAME_PREFIX + ++numberOfRovers);
+				expected = Expected.INSTRUCTIONS;
+				return new RoverInitializeCommand.Builder().withPlateauUuid(plateauId).withName(roverId.getName())
+						.withAbscissa(abscissa).withOrdinate(ordinate).withOrientation(orientation).build();
+			case INSTRUCTIONS:
+				VoidApplicationCommand instruction = readInstruction();
+				if (instruction != null) {
+					return instruction;
+				}
+				expected = Expected.ROVER;
+				break;
+			default:
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * @return null at the end of the instructions line
+	 */
+	private VoidApplicationCommand readInstruction() {
+		while (true) {
+			int c = read();
+			switch (c) {
+			case ' ':
+			case '\t':
+			case '\r':
+				break;
+			case '\n':
+				line++;
+				return null;
+			case EOF:
+				return null;
+			case 'L':
+				return new RoverTurnCommand(roverId, RoverTurnInstruction.LEFT);
+			case 'R':
+				return new RoverTurnCommand(roverId, RoverTurnInstruction.RIGHT);
+			case 'M':
+				int moves = 1;
+				while ((c = read()) == 'M' && moves < Integer.MAX_VALUE) {
+					moves++;
+				}
+				pushBack(c);
+				return new RoverMoveCommand(roverId, moves);
+			default:
+				throw unexpected(c);
+			}
+		}
+	}
+
+	/**
+	 * @return false at the end of the file
+	 */
+	private boolean skipBlankLines() {
+		while (true) {
+			int c = read();
+			if (c == EOF) {
+				return false;
+			} else if (c == '\n') {
+				line++;
+			} else if (c != ' ' && c != '\t' && c != '\r') {
+				pushBack(c);
+				return true;
+			}
+		}
+	}
+
+	private int readInt() {
+		int c = skipSpaces();
+		boolean negative = c == '-';
+		if (negative) {
+			c = read();
+		}
+		if (c < '0' || c > '9') {
+			throw unexpected(c);
+		}
+		long value = 0;
+		while (c >= '0' && c <= '9') {
+			value = value * 10 + (c - '0');
+			if (value > Integer.MAX_VALUE) {
+				throw malformed("number out of range");
+			}
+			c = read();
+		}
+		pushBack(c);
+		return (int) (negative ? -value : value);
+	}
+
+	private char readOrientation() {
+		int c = skipSpaces();
+		if (c == EOF || c == '\n') {
+			throw malformed("missing rover orientation");
+		}
+		return (char) c;
+	}
+
+	private void endOfLine() {
+		int c = skipSpaces();
+		if (c == '\n') {
+			line++;
+		} else if (c != EOF) {
+			throw unexpected(c);
+		}
+	}
+
+	/**
+	 * @return the first byte which is not a space
+	 */
+	private int skipSpaces() {
+		int c;
+		do {
+			c = read();
+		} while (c == ' ' || c == '\t' || c == '\r');
+		return c;
+	}
+
+	private int read() {
+		if (pushedBack != NO_BYTE) {
+			int c = pushedBack;
+			pushedBack = NO_BYTE;
+			return c;
+		}
+		if (!buffer.hasRemaining()) {
+			buffer.clear();
+			try {
+				int read;
+				do {
+					read = channel.read(buffer);
+				} while (read == 0);
+				buffer.flip();
+				if (read < 0) {
+					return EOF;
+				}
+			} catch (IOException e) {
+				throw new MissionFileException(String.format(GameExceptionLabels.MISSION_FILE_IO_ERROR, path), e);
+			}
+		}
+		return buffer.get() & 0xFF;
+	}
+
+	private void pushBack(int c) {
+		pushedBack = c;
+	}
+
+	private MissionFileException unexpected(int c) {
+		return malformed(c == EOF ? "unexpected end of file"
+				: c == '\n' ? "unexpected end of line" : String.format("unexpected character [%c]", (char) c));
+	}
+
+	private MissionFileException malformed(String detail) {
+		return new MissionFileException(String.format(GameExceptionLabels.MISSION_FILE_MALFORMED, path, line, detail));
+	}
+
+}
@@ -0,0 +1,251 @@
+package com.game.adapter.file;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.application.service.GameService;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverPath;
+
+/**
+ * Parallel execution mode of a mission, partitioned by rover
+ * <ol>
+ * <li>A command without aggregate (the plateau initialization) is a barrier: it is executed alone,
+ * once the previous commands are done</li>
+ * <li>The commands are read by windows of bounded size, each window boundary being a barrier too: the
+ * rovers which landed in a previous window start from their current location</li>
+ * <li>Between two barriers, the locations each rover can stand on are computed from its instructions
+ * (see {@link RoverPath}) and claimed on a location occupancy map: the rovers claiming the same
+ * location may interact and are put in the same group</li>
+ * <li>Each group is executed by one task of the pool, its commands in the order of the file. The groups
+ * never share a location, so the game ends as if the commands had been executed one after the other</li>
+ * </ol>
+ * The failure thrown is the first one in the order of the file, as in sequential mode. The commands of the
+ * other groups following it in the file may have been executed meanwhile.
+ * Only the commands of the current window, and the locations they claim, are held in memory.
+ */
+public class ParallelMissionExecutor {
+
+	private final GameService gameService;
+
+	private final ForkJoinPool pool;
+
+	private final int windowSize;
+
+	public ParallelMissionExecutor(GameService gameService, ForkJoinPool pool) {
+		this(gameService, pool, GameFileAdapter.CHUNK_SIZE);
+	}
+
+	ParallelMissionExecutor(GameService gameService, ForkJoinPool pool, int windowSize) {
+		this.gameService = gameService;
+		this.pool = pool;
+		this.windowSize = windowSize;
+	}
+
+	public void execute(Iterator<VoidApplicationCommand> commands) {
+		List<VoidApplicationCommand> pending = new ArrayList<>();
+		while (commands.hasNext()) {
+			VoidApplicationCommand command = commands.next();
+			if (command.aggregateId() == null) {
+				executeInGroups(pending);
+				pending.clear();
+				gameService.execute(command);
+			} else {
+				pending.add(command);
+				if (pending.size() == windowSize) {
+					executeInGroups(pending);
+					pending.clear();
+				}
+			}
+		}
+		executeInGroups(pending);
+	}
+
+	private void executeInGroups(List<VoidApplicationCommand> commands) {
+		if (commands.isEmpty()) {
+			return;
+		}
+		List<List<Integer>> groups = new MissionPartition(commands).getGroups();
+		if (groups.size() < 2) {
+			gameService.execute(commands);
+			return;
+		}
+		AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+		Map<Integer, RuntimeException> failures = new ConcurrentHashMap<>();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(groups.size());
+		for (List<Integer> group : groups) {
+			tasks.add(pool.submit(() -> executeGroup(commands, group, firstFailure, failures)));
+		}
+		tasks.forEach(ForkJoinTask::join);
+		if (!failures.isEmpty()) {
+			throw failures.get(firstFailure.get());
+		}
+	}
+
+	/**
+	 * Stops before the commands following a failure in the file: all the commands preceding
+	 * the first failure are executed, so that it is the one of the sequential mode
+	 */
+	private void executeGroup(List<VoidApplicationCommand> commands, List<Integer> group, AtomicInteger firstFailure,
+			Map<Integer, RuntimeException> failures) {
+		for (int index : group) {
+			if (index > firstFailure.get()) {
+				return;
+			}
+			try {
+				gameService.execute(commands.get(index));
+			} catch (RuntimeException e) {
+				failures.put(index, e);
+				firstFailure.accumulateAndGet(index, Math::min);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Groups the commands of the rovers whose paths cross, with a union-find over the rovers
+	 */
+	static class MissionPartition {
+
+		private final List<VoidApplicationCommand> commands;
+
+		private final Map<Object, Integer> rovers = new HashMap<>();
+
+		private final List<RoverPath> paths = new ArrayList<>();
+
+		private final List<Integer> parents = new ArrayList<>();
+
+		/**
+		 * Location as {@link com.game.domain.model.entity.dimensions.PackedCoordinates} -> first rover claiming it
+		 */
+		private final Map<Long, Integer> occupancy = new HashMap<>();
+
+		private final int[] roverOfCommand;
+
+		/**
+		 * Set when the path of a rover is unknown: everything is executed in one group
+		 */
+		private boolean sequential;
+
+		MissionPartition(List<VoidApplicationCommand> commands) {
+			this.commands = commands;
+			this.roverOfCommand = new int[commands.size()];
+			for (int i = 0; i < commands.size(); i++) {
+				claimLocations(i, commands.get(i));
+			}
+		}
+
+		/**
+		 * @return the indexes of the commands of each group, in the order of the file
+		 */
+		List<List<Integer>> getGroups() {
+			Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+			for (int i = 0; i < commands.size(); i++) {
+				int group = sequential ? 0 : find(roverOfCommand[i]);
+				groups.computeIfAbsent(group, key -> new ArrayList<>()).add(i);
+			}
+			return new ArrayList<>(groups.values());
+		}
+
+		private void claimLocations(int index, VoidApplicationCommand command) {
+			Object id = command.aggregateId();
+			Integer rover = rovers.get(id);
+			if (rover == null) {
+				rover = rovers.size();
+				rovers.put(id, rover);
+				parents.add(rover);
+				paths.add(null);
+			}
+			roverOfCommand[index] = rover;
+			if (sequential) {
+				return;
+			}
+			try {
+				RoverPath path = paths.get(rover);
+				if (command instanceof RoverInitializeCommand) {
+					RoverInitializeCommand initialize = (RoverInitializeCommand) command;
+					paths.set(rover, newPath(rover, (RoverIdentifier) id,
+							new TwoDimensionalCoordinates(initialize.getAbscissa(), initialize.getOrdinate()),
+							Orientation.get(String.valueOf(initialize.getOrientation()))));
+				} else if (path == null) {
+					// rover landed before, it starts from its current location
+					Rover landed = GameContext.getInstance().getRoverService().getRover((RoverIdentifier) id);
+					path = newPath(rover, (RoverIdentifier) id, landed.getPosition(), landed.getOrientation());
+					paths.set(rover, path);
+					follow(path, command);
+				} else {
+					follow(path, command);
+				}
+			} catch (RuntimeException e) {
+				// let the execution report the error
+				sequential = true;
+			}
+		}
+
+		private RoverPath newPath(int rover, RoverIdentifier id, TwoDimensionalCoordinates start,
+				Orientation orientation) {
+			Plateau plateau = GameContext.getInstance().getPlateauService().getPlateau(id.getPlateauId());
+			return new RoverPath(start, orientation, GameContext.getInstance().getRoverStepLength(), plateau.getWidth(),
+					plateau.getHeight(), location -> claim(location, rover));
+		}
+
+		private void follow(RoverPath path, VoidApplicationCommand command) {
+			if (command instanceof RoverMoveCommand) {
+				path.move(((RoverMoveCommand) command).getNumberOfMoves());
+			} else if (command instanceof RoverTurnCommand) {
+				path.turn(((RoverTurnCommand) command).getTurn());
+			} else {
+				sequential = true;
+			}
+		}
+
+		private void claim(long location, int rover) {
+			Integer owner = occupancy.putIfAbsent(location, rover);
+			if (owner != null && owner != rover) {
+				union(owner, rover);
+			}
+		}
+
+		private int find(int rover) {
+			int root = rover;
+			while (parents.get(root) != root) {
+				root = parents.get(root);
+			}
+			// path compression
+			while (parents.get(rover) != root) {
+				int parent = parents.get(rover);
+				parents.set(rover, root);
+				rover = parent;
+			}
+			return root;
+		}
+
+		private void union(int rover, int other) {
+			int root = find(rover);
+			int otherRoot = find(other);
+			if (root != otherRoot) {
+				// the rover appearing first in the file stays the root
+				parents.set(Math.max(root, otherRoot), Math.min(root, otherRoot));
+			}
+		}
+
+	}
+
+}
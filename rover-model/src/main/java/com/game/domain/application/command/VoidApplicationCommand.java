@@ -2,4 +2,15 @@ package com.game.domain.application.command;
 
 public interface VoidApplicationCommand extends ApplicationCommand<Void> {
 
+	/**
+	 * Identifier of the aggregate updated by the command: in the sharded execution mode of the
+	 * GameService, the commands of the same aggregate are executed one at a time, in their order
+	 * 
+	 * @return null (default) for a command which has to wait for the previous ones, such as
+	 *         the initialization of a plateau the next rovers will land on
+	 */
+	default Object aggregateId() {
+		return null;
+	}
+
 }
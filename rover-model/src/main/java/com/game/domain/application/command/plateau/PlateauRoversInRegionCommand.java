@@ -0,0 +1,46 @@
+package com.game.domain.application.command.plateau;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.game.domain.application.command.ReturnApplicationCommand;
+import com.game.domain.application.service.GameServiceCommandVisitor;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+
+/**
+ * Lists the rovers located in a rectangle of the plateau, bounds included
+ */
+public class PlateauRoversInRegionCommand implements ReturnApplicationCommand<List<RoverIdentifier>> {
+
+	private UUID id;
+
+	private TwoDimensionalCoordinates lowerLeft;
+
+	private TwoDimensionalCoordinates upperRight;
+
+	public PlateauRoversInRegionCommand(UUID uuid, TwoDimensionalCoordinates lowerLeft,
+			TwoDimensionalCoordinates upperRight) {
+		this.id = uuid;
+		this.lowerLeft = lowerLeft;
+		this.upperRight = upperRight;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public TwoDimensionalCoordinates getLowerLeft() {
+		return lowerLeft;
+	}
+
+	public TwoDimensionalCoordinates getUpperRight() {
+		return upperRight;
+	}
+
+	@Override
+	public List<RoverIdentifier> acceptVisitor(GameServiceCommandVisitor visitor) {
+		return visitor.visit(this);
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.game.domain.application.command.plateau;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.game.domain.application.command.ReturnApplicationCommand;
+import com.game.domain.application.service.GameServiceCommandVisitor;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+
+/**
+ * Lists the rovers within a distance of a location of the plateau, the nearest first
+ */
+public class PlateauRoversWithinDistanceCommand implements ReturnApplicationCommand<List<RoverIdentifier>> {
+
+	private UUID id;
+
+	private TwoDimensionalCoordinates coordinates;
+
+	private int distance;
+
+	public PlateauRoversWithinDistanceCommand(UUID uuid, TwoDimensionalCoordinates coordinates, int distance) {
+		this.id = uuid;
+		this.coordinates = coordinates;
+		this.distance = distance;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public TwoDimensionalCoordinates getCoordinates() {
+		return coordinates;
+	}
+
+	public int getDistance() {
+		return distance;
+	}
+
+	@Override
+	public List<RoverIdentifier> acceptVisitor(GameServiceCommandVisitor visitor) {
+		return visitor.visit(this);
+	}
+
+}
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import com.game.domain.application.command.VoidApplicationCommand;
 import com.game.domain.application.service.GameServiceCommandVisitor;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 
 /**
  * Initializes a rover with coordinates and orientation
@@ -88,6 +89,14 @@ public class RoverInitializeCommand implements VoidApplicationCommand {
 
 	}
 
+	/**
+	 * Same key as the next commands of the rover
+	 */
+	@Override
+	public Object aggregateId() {
+		return new RoverIdentifier(plateauUuid, name);
+	}
+
 	@Override
 	public Void acceptVisitor(GameServiceCommandVisitor visitor) {
 		visitor.visit(this);
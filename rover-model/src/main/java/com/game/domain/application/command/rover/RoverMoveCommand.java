@@ -28,6 +28,11 @@ public class RoverMoveCommand implements VoidApplicationCommand {
 		return numberOfMoves;
 	}
 
+	@Override
+	public Object aggregateId() {
+		return roverId;
+	}
+
 	@Override
 	public Void acceptVisitor(GameServiceCommandVisitor visitor) {
 		visitor.visit(this);
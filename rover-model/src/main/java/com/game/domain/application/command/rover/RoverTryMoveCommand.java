@@ -0,0 +1,37 @@
+package com.game.domain.application.command.rover;
+
+import com.game.domain.application.command.ReturnApplicationCommand;
+import com.game.domain.application.service.GameServiceCommandVisitor;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverMoveResult;
+
+/**
+ * Same as {@link RoverMoveCommand}, answering how the move ended
+ * instead of failing when the rover is blocked
+ *
+ */
+public class RoverTryMoveCommand implements ReturnApplicationCommand<RoverMoveResult> {
+
+	private RoverIdentifier roverId;
+
+	private int numberOfMoves;
+
+	public RoverTryMoveCommand(RoverIdentifier roverId, int numberOfMoves) {
+		this.roverId = roverId;
+		this.numberOfMoves = numberOfMoves;
+	}
+
+	public RoverIdentifier getRoverId() {
+		return roverId;
+	}
+
+	public int getNumberOfMoves() {
+		return numberOfMoves;
+	}
+
+	@Override
+	public RoverMoveResult acceptVisitor(GameServiceCommandVisitor visitor) {
+		return visitor.visit(this);
+	}
+
+}
@@ -24,6 +24,11 @@ public class RoverTurnCommand implements VoidApplicationCommand  {
 		return roverId;
 	}
 
+	@Override
+	public Object aggregateId() {
+		return roverId;
+	}
+
 	@Override
 	public Void acceptVisitor(GameServiceCommandVisitor visitor) {
 		visitor.visit(this);
@@ -1,5 +1,8 @@
 package com.game.domain.application.context;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -8,22 +11,44 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.game.core.validation.ArgumentCheck;
+import com.game.domain.application.recovery.GameRecovery;
 import com.game.domain.application.service.GameService;
 import com.game.domain.application.service.GameServiceImpl;
+import com.game.domain.application.service.ShardedCommandExecutor;
 import com.game.domain.model.entity.dimensions.RelativisticTwoDimensions;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.event.AsyncEventDispatcher;
+import com.game.domain.model.event.AsyncEventDispatcher.BackpressurePolicy;
+import com.game.domain.model.event.BaseDomainEvent;
 import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.DomainEventPublisherSubscriber;
+import com.game.domain.model.event.EventClock;
 import com.game.domain.model.event.store.EventStore;
-import com.game.domain.model.event.store.EventStoreImpl;
+import com.game.domain.model.event.store.BatchingEventStore;
+import com.game.domain.model.event.store.ConcurrentEventStoreImpl;
+import com.game.domain.model.event.subscriber.plateau.PlateauInitializedEventSubscriber;
+import com.game.domain.model.event.subscriber.plateau.PlateauInitializedWithExceptionEventSubscriber;
+import com.game.domain.model.event.subscriber.plateau.PlateauSwitchedLocationEventSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverInitializedEventReadSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverInitializedEventSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverInitializedWithExceptionEventSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverMovedEventSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverMovedWithExceptionEventSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverTurnedEventSubscriber;
+import com.game.domain.model.exception.EventStoreException;
 import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.SnapshotException;
 import com.game.domain.model.service.locator.ServiceLocator;
+import com.game.domain.model.service.plateau.PlateauFactory;
 import com.game.domain.model.service.plateau.PlateauService;
 import com.game.domain.model.service.plateau.PlateauServiceImpl;
 import com.game.domain.model.service.rover.RoverService;
 import com.game.domain.model.service.rover.RoverServiceImpl;
+import com.game.infrastructure.persistence.event.impl.MappedSegmentEventStoreImpl;
 import com.game.infrastructure.persistence.impl.InMemoryPlateauRepositoryImpl;
 import com.game.infrastructure.persistence.impl.InMemoryRoverRepositoryImpl;
 import com.game.infrastructure.persistence.read.impl.ReadRoverRepositoryImpl;
+import com.game.infrastructure.persistence.snapshot.impl.FileSnapshotStoreImpl;
 
 /**
  * Application context whose responsibility is to keep track of the game state.
@@ -53,11 +78,95 @@ public class GameContext {
 	 */
 	public static final int MINIMAL_RELATIVISTIC_SPEED = RelativisticTwoDimensions.SPEED_OF_LIGHT/3; 
 
+	/**
+	 * Number of rovers expected on a plateau by default, used to size its occupancy index
+	 */
+	public static final int DEFAULT_EXPECTED_ROVERS_PER_PLATEAU = 1024;
+
+	/**
+	 * Memory (in bytes) per expected rover above which the plateau locations
+	 * are indexed sparsely instead of one bit per location
+	 */
+	public static final int MAXIMAL_DENSE_OCCUPANCY_BYTES_PER_ROVER = 1024;
+
+	/**
+	 * System property giving the directory of the durable event log
+	 * If not set, the events are kept in memory
+	 */
+	public static final String EVENT_STORE_DIRECTORY_PROPERTY = "game.eventstore.directory";
+
+	/**
+	 * System property giving the number of partitions (threads) of the asynchronous event dispatch
+	 * If not set, all the subscribers are called synchronously
+	 */
+	public static final String EVENT_DISPATCH_PARTITIONS_PROPERTY = "game.events.async.partitions";
+
+	public static final String EVENT_DISPATCH_QUEUE_CAPACITY_PROPERTY = "game.events.async.queue.capacity";
+
+	/**
+	 * BLOCK (default) or REJECT, see {@link AsyncEventDispatcher.BackpressurePolicy}
+	 */
+	public static final String EVENT_DISPATCH_BACKPRESSURE_PROPERTY = "game.events.async.backpressure";
+
+	/**
+	 * System property (true/false) enabling the bulk moves, see {@link #isBulkMoveEnabled()}
+	 */
+	public static final String BULK_MOVE_PROPERTY = "game.rover.move.bulk";
+
+	/**
+	 * System property giving the number of rovers expected on a plateau, see {@link #getExpectedRoversPerPlateau()}
+	 */
+	public static final String EXPECTED_ROVERS_PER_PLATEAU_PROPERTY = "game.plateau.expected.rovers";
+
+	/**
+	 * System property giving the directory of the aggregates snapshots
+	 * If set, the game state is recovered at startup by {@link #recover()}, see {@link GameRecovery}
+	 */
+	public static final String SNAPSHOT_DIRECTORY_PROPERTY = "game.snapshot.directory";
+
+	/**
+	 * System property giving the number of events stored between two snapshots
+	 */
+	public static final String SNAPSHOT_INTERVAL_PROPERTY = "game.snapshot.interval";
+
+	public static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+	/**
+	 * System property giving the number of plateaus replayed in parallel on recovery
+	 */
+	public static final String REPLAY_PARTITIONS_PROPERTY = "game.replay.partitions";
+
+	/**
+	 * MONOTONIC (default), COARSE or SYSTEM, see {@link EventClock.Type}
+	 */
+	public static final String EVENT_CLOCK_PROPERTY = "game.events.clock";
+
+	/**
+	 * System property giving the number of shards (threads) executing the commands, see {@link ShardedCommandExecutor}
+	 * If not set, the commands are executed by the calling thread
+	 */
+	public static final String COMMAND_SHARDS_PROPERTY = "game.commands.shards";
+
+	public static final String COMMAND_QUEUE_CAPACITY_PROPERTY = "game.commands.queue.capacity";
+
 	private int roverStepLength = ROVER_STEP_LENGTH;
 
+	private boolean bulkMoveEnabled;
+
+	private int expectedRoversPerPlateau = DEFAULT_EXPECTED_ROVERS_PER_PLATEAU;
+
+	private GameRecovery gameRecovery;
+
+	private ShardedCommandExecutor commandExecutor;
+
 	private static GameContext GAME_CONTEXT = new GameContext();
 
 	private Map<UUID, Plateau> plateauMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on each reset, so that the entities may keep the plateaus they resolved
+	 */
+	private volatile int generation;
 	
 	public static final Function<DomainEvent, Void> storeEventFunction = event -> {
 		getInstance().getEventStore().addEvent(event);
@@ -73,12 +182,109 @@ public class GameContext {
 	 */
 	private void configure() {
 		ServiceLocator locator = new ServiceLocator();
-		locator.loadApplicationService(ServiceLocator.GAME_SERVICE, new GameServiceImpl());
+		locator.loadApplicationService(ServiceLocator.GAME_SERVICE, new GameServiceImpl(createCommandExecutor()));
 		PlateauService plateauService = new PlateauServiceImpl(new InMemoryPlateauRepositoryImpl());
 		locator.loadDomainService(ServiceLocator.PLATEAU_SERVICE, plateauService);
 		locator.loadDomainService(ServiceLocator.ROVER_SERVICE, new RoverServiceImpl(plateauService , new InMemoryRoverRepositoryImpl(), new ReadRoverRepositoryImpl()));
-		locator.loadEventStore(ServiceLocator.EVENT_STORE, new EventStoreImpl());
+		locator.loadEventStore(ServiceLocator.EVENT_STORE, new BatchingEventStore(createEventStore()));
 		ServiceLocator.load(locator);
+		registerSubscribers();
+		configureEventDispatch();
+		BaseDomainEvent.useClock(EventClock.Type
+				.valueOf(System.getProperty(EVENT_CLOCK_PROPERTY, EventClock.Type.MONOTONIC.name())).create());
+		bulkMoveEnabled = Boolean.getBoolean(BULK_MOVE_PROPERTY);
+		expectedRoversPerPlateau = Integer.getInteger(EXPECTED_ROVERS_PER_PLATEAU_PROPERTY,
+				DEFAULT_EXPECTED_ROVERS_PER_PLATEAU);
+	}
+
+	/**
+	 * Restores the state of the previous run and enables the snapshots, when the
+	 * {@link #SNAPSHOT_DIRECTORY_PROPERTY} is set. No-op otherwise.
+	 * To be called once by the application at startup, before the first command: unlike an
+	 * error raised while the context is loaded, the failure can then be reported.
+	 * The snapshots require the durable event store ({@link #EVENT_STORE_DIRECTORY_PROPERTY}):
+	 * an in-memory store restarts empty, behind the sequence of the snapshots
+	 * 
+	 * @return the number of events replayed after the latest snapshot
+	 */
+	public synchronized long recover() {
+		String directory = System.getProperty(SNAPSHOT_DIRECTORY_PROPERTY);
+		if (directory == null) {
+			return 0;
+		}
+		if (System.getProperty(EVENT_STORE_DIRECTORY_PROPERTY) == null) {
+			throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_WITHOUT_DURABLE_EVENT_STORE,
+					directory, EVENT_STORE_DIRECTORY_PROPERTY));
+		}
+		GameRecovery recovery = new GameRecovery(new FileSnapshotStoreImpl(Paths.get(directory)), getEventStore(),
+				getPlateauService(), getRoverService(),
+				Integer.getInteger(SNAPSHOT_INTERVAL_PROPERTY, DEFAULT_SNAPSHOT_INTERVAL),
+				Integer.getInteger(REPLAY_PARTITIONS_PROPERTY, 1));
+		long replayed = recovery.recover();
+		gameRecovery = recovery;
+		return replayed;
+	}
+
+	private ShardedCommandExecutor createCommandExecutor() {
+		if (commandExecutor != null) {
+			commandExecutor.shutdown();
+		}
+		String shards = System.getProperty(COMMAND_SHARDS_PROPERTY);
+		commandExecutor = shards == null ? null
+				: new ShardedCommandExecutor(Integer.parseInt(shards),
+						Integer.getInteger(COMMAND_QUEUE_CAPACITY_PROPERTY, ShardedCommandExecutor.DEFAULT_QUEUE_CAPACITY));
+		return commandExecutor;
+	}
+
+	private void configureEventDispatch() {
+		String partitions = System.getProperty(EVENT_DISPATCH_PARTITIONS_PROPERTY);
+		AsyncEventDispatcher dispatcher = partitions == null ? null
+				: new AsyncEventDispatcher(Integer.parseInt(partitions),
+						Integer.getInteger(EVENT_DISPATCH_QUEUE_CAPACITY_PROPERTY, AsyncEventDispatcher.DEFAULT_QUEUE_CAPACITY),
+						BackpressurePolicy.valueOf(System.getProperty(EVENT_DISPATCH_BACKPRESSURE_PROPERTY, BackpressurePolicy.BLOCK.name())));
+		AsyncEventDispatcher previous = DomainEventPublisherSubscriber.instance().useAsyncDispatcher(dispatcher);
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
+	/**
+	 * Registers once for all the threads the Domain Events subscribers
+	 */
+	private void registerSubscribers() {
+		DomainEventPublisherSubscriber publisherSubscriber = DomainEventPublisherSubscriber.instance();
+		publisherSubscriber.clear();
+		publisherSubscriber.subscribe(new PlateauInitializedEventSubscriber());
+		publisherSubscriber.subscribe(new PlateauInitializedWithExceptionEventSubscriber());
+		publisherSubscriber.subscribe(new RoverInitializedEventSubscriber());
+		// in case of something went wrong during Rover initialization
+		publisherSubscriber.subscribe(new RoverInitializedWithExceptionEventSubscriber());
+		// marks the plateau location as occupied/released for the rover position
+		publisherSubscriber.subscribe(new PlateauSwitchedLocationEventSubscriber());
+		// for read/projected purpose
+		publisherSubscriber.subscribe(new RoverInitializedEventReadSubscriber());
+		publisherSubscriber.subscribe(new RoverMovedEventSubscriber());
+		// in case of something went wrong during Rover moves
+		publisherSubscriber.subscribe(new RoverMovedWithExceptionEventSubscriber());
+		publisherSubscriber.subscribe(new RoverTurnedEventSubscriber());
+	}
+
+	private EventStore createEventStore() {
+		String directory = System.getProperty(EVENT_STORE_DIRECTORY_PROPERTY);
+		return directory == null ? new ConcurrentEventStoreImpl() : new MappedSegmentEventStoreImpl(Paths.get(directory));
+	}
+
+	/**
+	 * Releases the resources (mapped files) held by the current event store
+	 */
+	private void closeEventStore() {
+		if (ServiceLocator.getEventStore() instanceof Closeable) {
+			try {
+				((Closeable) ServiceLocator.getEventStore()).close();
+			} catch (IOException e) {
+				throw new EventStoreException(e.getMessage(), e);
+			}
+		}
 	}
 
 	public static GameContext getInstance() {
@@ -106,10 +312,56 @@ public class GameContext {
 		return ServiceLocator.getEventStore();
 	}
 
+	/**
+	 * @return null until the state is recovered, see {@link #recover()}
+	 */
+	public GameRecovery getGameRecovery() {
+		return gameRecovery;
+	}
+
+	/**
+	 * Takes a snapshot of the aggregates if enough events were stored since the last one
+	 * No-op when the snapshots are not enabled
+	 */
+	public void takeSnapshotIfDue() {
+		if (gameRecovery != null) {
+			gameRecovery.takeSnapshotIfDue();
+		}
+	}
+
 	public int getRoverStepLength() {
 		return roverStepLength;
 	}
 
+	/**
+	 * In bulk mode, a rover moving several times in a row computes its whole path at once
+	 * and publishes one compacted {@link com.game.domain.model.event.rover.RoverMovedEvent}
+	 * instead of one event (and one validation) per step.
+	 * The locations of the path are still claimed one after the other as the rover advances,
+	 * so that a rover moving concurrently (e.g. in sharded mode) is never jumped over: the outcome
+	 * is the one of the step by step moves in some sequential order
+	 */
+	public boolean isBulkMoveEnabled() {
+		return bulkMoveEnabled;
+	}
+
+	public void setBulkMoveEnabled(boolean bulkMoveEnabled) {
+		this.bulkMoveEnabled = bulkMoveEnabled;
+	}
+
+	/**
+	 * Number of rovers expected on a plateau, choosing how its locations are indexed when
+	 * it is initialized: a dense bitset for a plateau expected to be crowded, whatever its size,
+	 * a sparse index otherwise, see {@link PlateauFactory#createOccupancy(int, int, int)}
+	 */
+	public int getExpectedRoversPerPlateau() {
+		return expectedRoversPerPlateau;
+	}
+
+	public void setExpectedRoversPerPlateau(int expectedRoversPerPlateau) {
+		this.expectedRoversPerPlateau = expectedRoversPerPlateau;
+	}
+
 	/**
 	 * Adding a plateau to the game will initialize the game
 	 *  Rovers are then allowed to be added/initialized as well
@@ -121,14 +373,22 @@ public class GameContext {
 
 	public void reset() {
 		plateauMap.clear();
+		generation++;
 		roverStepLength = 1;
+		closeEventStore();
 		configure();
+		// the state is not restored again, see recover()
+		gameRecovery = null;
 	}
 
 	public Plateau getPlateau(UUID uuid) {
 		return plateauMap.get(uuid);
 	}
 	
+	public int getGeneration() {
+		return generation;
+	}
+
 	public List<Plateau> getAllPlateau(){
 		return new ArrayList<Plateau>(plateauMap.values());
 	}
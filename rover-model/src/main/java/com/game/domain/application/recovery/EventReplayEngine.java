@@ -0,0 +1,139 @@
+package com.game.domain.application.recovery;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import com.game.domain.model.event.AsyncEventDispatcher;
+import com.game.domain.model.event.AsyncEventDispatcher.BackpressurePolicy;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.DomainEventSubscriber;
+import com.game.domain.model.event.SubscriberRegistry;
+import com.game.domain.model.event.exception.BaseDomainEventWithException;
+import com.game.domain.model.event.store.EventStore;
+import com.game.domain.model.exception.EventStoreException;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.service.plateau.PlateauService;
+import com.game.domain.model.service.rover.RoverService;
+
+/**
+ * Rebuilds the plateau and rover repositories (and the rover read projection) given to the
+ * services by streaming the stored events in their order, e.g. after a crash.
+ * Additional projections can be built over the history with {@link #withProjection(DomainEventSubscriber)}.
+ * <p>
+ * With several partitions, the events are replayed in parallel per plateau: the events of a plateau
+ * (and of its rovers) are all applied by the same partition in their stored order, the plateaus being
+ * independent from each other. The projections are then called concurrently for distinct plateaus.
+ * </p>
+ */
+public class EventReplayEngine {
+
+	private final PlateauService plateauService;
+
+	private final RoverService roverService;
+
+	private final int numberOfPartitions;
+
+	private SubscriberRegistry projections = SubscriberRegistry.EMPTY;
+
+	public EventReplayEngine(PlateauService plateauService, RoverService roverService) {
+		this(plateauService, roverService, 1);
+	}
+
+	public EventReplayEngine(PlateauService plateauService, RoverService roverService, int numberOfPartitions) {
+		this.plateauService = plateauService;
+		this.roverService = roverService;
+		this.numberOfPartitions = numberOfPartitions;
+	}
+
+	/**
+	 * The projection receives the replayed events of its subscribed type. As for the repositories,
+	 * the exception it may throw for a ...WithExceptionEvent (i.e. a failure already recorded) is ignored
+	 */
+	public EventReplayEngine withProjection(DomainEventSubscriber<?, String> projection) {
+		projections = projections.with(projection);
+		return this;
+	}
+
+	/**
+	 * @return the number of events replayed
+	 */
+	public long replay(EventStore eventStore, long fromSequence) {
+		try (Stream<DomainEvent> events = eventStore.streamFrom(fromSequence)) {
+			return replay(events);
+		}
+	}
+
+	/**
+	 * @return the number of events replayed
+	 * @throws EventStoreException if an event can not be applied
+	 */
+	public long replay(Stream<DomainEvent> events) {
+		EventReplayer replayer = new EventReplayer(plateauService, roverService);
+		long count = numberOfPartitions > 1 ? replayInParallel(events, replayer) : replayInOrder(events, replayer);
+		replayer.rebuildTouchedPlateaus();
+		return count;
+	}
+
+	private long replayInOrder(Stream<DomainEvent> events, EventReplayer replayer) {
+		long count = 0;
+		Iterator<DomainEvent> iterator = events.iterator();
+		while (iterator.hasNext()) {
+			apply(iterator.next(), replayer);
+			count++;
+		}
+		return count;
+	}
+
+	private long replayInParallel(Stream<DomainEvent> events, EventReplayer replayer) {
+		AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(numberOfPartitions,
+				AsyncEventDispatcher.DEFAULT_QUEUE_CAPACITY, BackpressurePolicy.BLOCK);
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		long count = 0;
+		try {
+			Iterator<DomainEvent> iterator = events.iterator();
+			while (iterator.hasNext() && failure.get() == null) {
+				DomainEvent event = iterator.next();
+				dispatcher.dispatch(event.plateauId(), event, () -> {
+					try {
+						apply(event, replayer);
+					} catch (RuntimeException exception) {
+						failure.compareAndSet(null, exception);
+					}
+				});
+				count++;
+			}
+			dispatcher.flush(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EventStoreException(String.format(GameExceptionLabels.EVENT_REPLAY_INTERRUPTED, count), e);
+		} finally {
+			dispatcher.shutdown();
+		}
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		return count;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void apply(DomainEvent event, EventReplayer replayer) {
+		try {
+			replayer.apply(event);
+		} catch (RuntimeException exception) {
+			throw new EventStoreException(String.format(GameExceptionLabels.EVENT_REPLAY_FAILED, event), exception);
+		}
+		for (DomainEventSubscriber<?, ?> projection : projections.subscribersFor(event.getClass())) {
+			try {
+				((DomainEventSubscriber<DomainEvent, ?>) projection).handleEvent(event);
+			} catch (RuntimeException exception) {
+				if (!(event instanceof BaseDomainEventWithException)) {
+					throw new EventStoreException(String.format(GameExceptionLabels.EVENT_REPLAY_FAILED, event),
+							exception);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.game.domain.application.recovery;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.plateau.PlateauInitializedEvent;
+import com.game.domain.model.event.rover.RoverInitializedEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverMovedWithExceptionEvent;
+import com.game.domain.model.event.rover.RoverTurnedEvent;
+import com.game.domain.model.repository.RoverRepository;
+import com.game.domain.model.service.plateau.PlateauService;
+import com.game.domain.model.service.rover.RoverService;
+
+/**
+ * Applies stored events to the repositories and to the read projection, without validating
+ * nor publishing anything: the subscribers side effects (e.g. the exception re-thrown for a
+ * ...WithExceptionEvent) are not replayed.
+ * <p>
+ * The events carry absolute values (position, orientation, version), so that applying again an event
+ * already reflected in the state leaves it unchanged: the state of a snapshot taken while commands
+ * were running converges once the tail of the event store is replayed.
+ * The plateau locations are not replayed one by one but rebuilt at the end from the position of
+ * the rovers, for the plateaus touched by the replayed events only.
+ * </p>
+ */
+class EventReplayer {
+
+	private final PlateauService plateauService;
+
+	private final RoverService roverService;
+
+	private final RoverRepository roverRepository;
+
+	/**
+	 * The events of distinct plateaus may be applied concurrently, see {@link EventReplayEngine}
+	 */
+	private final Set<UUID> touchedPlateaus = ConcurrentHashMap.newKeySet();
+
+	EventReplayer(PlateauService plateauService, RoverService roverService) {
+		this.plateauService = plateauService;
+		this.roverService = roverService;
+		this.roverRepository = roverService.getRoverRepository();
+	}
+
+	void apply(DomainEvent event) {
+		if (event instanceof PlateauInitializedEvent) {
+			PlateauInitializedEvent initializedEvent = (PlateauInitializedEvent) event;
+			plateauService.addPlateau(new Plateau(initializedEvent.getPlateauId(), initializedEvent.getDimensions())
+					.initializeLocations());
+		} else if (event instanceof RoverInitializedEvent) {
+			RoverInitializedEvent initializedEvent = (RoverInitializedEvent) event;
+			if (!roverRepository.exists(initializedEvent.getRoverId())) {
+				roverRepository.add(new Rover(initializedEvent.getRoverId(), initializedEvent.getPosition(),
+						initializedEvent.getOrientation()));
+				roverService.getReadRoverRepository().add(initializedEvent.getRoverId());
+			}
+			touchedPlateaus.add(initializedEvent.getRoverId().getPlateauId());
+		} else if (event instanceof RoverMovedEvent) {
+			RoverMovedEvent movedEvent = (RoverMovedEvent) event;
+			Rover rover = findRover(movedEvent.getRoverId());
+			if (rover != null) {
+				rover.setPosition(movedEvent.getCurrentPosition());
+			}
+		} else if (event instanceof RoverTurnedEvent) {
+			RoverTurnedEvent turnedEvent = (RoverTurnedEvent) event;
+			Rover rover = findRover(turnedEvent.getRoverId());
+			if (rover != null) {
+				rover.setOrientation(turnedEvent.getCurrentOrientation());
+			}
+		} else if (event instanceof RoverMovedWithExceptionEvent) {
+			RoverIdentifier roverId = ((RoverMovedWithExceptionEvent) event).getRoverId();
+			roverRepository.remove(roverId);
+			touchedPlateaus.add(roverId.getPlateauId());
+		}
+		// the plateau locations are rebuilt from the rovers, and the other ...WithExceptionEvent
+		// did not change the state
+	}
+
+	/**
+	 * Loads the rover updated by the event and sets its version as the subscribers of the event did
+	 * 
+	 * @return null if the rover has been removed since
+	 */
+	private Rover findRover(RoverIdentifierDto roverId) {
+		if (!roverRepository.exists(roverId.getId())) {
+			return null;
+		}
+		Rover rover = roverRepository.load(roverId.getId());
+		rover.setVersion(roverId.getVersion() + 1);
+		touchedPlateaus.add(roverId.getId().getPlateauId());
+		return rover;
+	}
+
+	/**
+	 * To be called once all the events have been applied
+	 */
+	void rebuildTouchedPlateaus() {
+		touchedPlateaus.forEach(plateauId -> {
+			Plateau plateau = plateauService.getPlateau(plateauId);
+			plateau.rebuildLocations(roverRepository.getAllRoversOnPlateau(plateauId));
+			plateauService.updatePlateau(plateau);
+		});
+		touchedPlateaus.clear();
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.game.domain.application.recovery;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.event.store.EventStore;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.SnapshotException;
+import com.game.domain.model.service.plateau.PlateauService;
+import com.game.domain.model.service.rover.RoverService;
+import com.game.domain.model.snapshot.GameSnapshot;
+import com.game.domain.model.snapshot.SnapshotStore;
+
+/**
+ * Takes periodic {@link GameSnapshot} of the aggregates and restores the game state at startup
+ * from the latest snapshot followed by the events stored since, so that the restart time
+ * is bounded by the snapshot interval instead of the whole history.
+ */
+public class GameRecovery {
+
+	private final SnapshotStore snapshotStore;
+
+	private final EventStore eventStore;
+
+	private final PlateauService plateauService;
+
+	private final RoverService roverService;
+
+	/**
+	 * Number of events stored between two snapshots
+	 */
+	private final long snapshotInterval;
+
+	/**
+	 * Number of plateaus replayed in parallel, see {@link EventReplayEngine}
+	 */
+	private final int replayPartitions;
+
+	private volatile long lastSnapshotSequence;
+
+	public GameRecovery(SnapshotStore snapshotStore, EventStore eventStore, PlateauService plateauService,
+			RoverService roverService, long snapshotInterval) {
+		this(snapshotStore, eventStore, plateauService, roverService, snapshotInterval, 1);
+	}
+
+	public GameRecovery(SnapshotStore snapshotStore, EventStore eventStore, PlateauService plateauService,
+			RoverService roverService, long snapshotInterval, int replayPartitions) {
+		this.snapshotStore = snapshotStore;
+		this.eventStore = eventStore;
+		this.plateauService = plateauService;
+		this.roverService = roverService;
+		this.snapshotInterval = snapshotInterval;
+		this.replayPartitions = replayPartitions;
+	}
+
+	/**
+	 * Loads the latest snapshot (if any) then replays the events stored after it
+	 * The event store must hold all the events covered by the snapshot, otherwise the
+	 * new events would reuse their sequences
+	 * 
+	 * @return the number of events replayed
+	 */
+	public long recover() {
+		Optional<GameSnapshot> snapshot = snapshotStore.loadLatest();
+		long sequence = snapshot.map(GameSnapshot::getSequence).orElse(0L);
+		if (sequence > eventStore.size()) {
+			throw new SnapshotException(
+					String.format(GameExceptionLabels.SNAPSHOT_AHEAD_OF_EVENT_STORE, sequence, eventStore.size()));
+		}
+		snapshot.ifPresent(this::restore);
+		long replayed = new EventReplayEngine(plateauService, roverService, replayPartitions).replay(eventStore,
+				sequence);
+		lastSnapshotSequence = sequence;
+		return replayed;
+	}
+
+	/**
+	 * The events stored while the state is copied are replayed on recovery as well,
+	 * the sequence is then read first
+	 */
+	public synchronized GameSnapshot takeSnapshot() {
+		long sequence = eventStore.size();
+		GameSnapshot snapshot = new GameSnapshot(sequence, plateauService.getAllPlateaus(),
+				new ArrayList<>(roverService.getRoverRepository().getAllRovers()));
+		snapshotStore.save(snapshot);
+		lastSnapshotSequence = sequence;
+		return snapshot;
+	}
+
+	/**
+	 * Takes a snapshot if at least {@link #snapshotInterval} events were stored since the last one
+	 */
+	public void takeSnapshotIfDue() {
+		if (eventStore.size() - lastSnapshotSequence >= snapshotInterval) {
+			synchronized (this) {
+				if (eventStore.size() - lastSnapshotSequence >= snapshotInterval) {
+					takeSnapshot();
+				}
+			}
+		}
+	}
+
+	public long getLastSnapshotSequence() {
+		return lastSnapshotSequence;
+	}
+
+	private void restore(GameSnapshot snapshot) {
+		for (Plateau plateau : snapshot.getPlateaus()) {
+			plateauService.updatePlateau(plateau);
+		}
+		for (Rover rover : snapshot.getRovers()) {
+			roverService.getRoverRepository().update(rover);
+			roverService.getReadRoverRepository().add(rover.getId());
+		}
+	}
+
+}
@@ -1,13 +1,20 @@
 package com.game.domain.application.service;
 
+import java.util.List;
+
 import com.game.domain.application.command.plateau.PlateauGetCommand;
 import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.plateau.PlateauRoversInRegionCommand;
+import com.game.domain.application.command.plateau.PlateauRoversWithinDistanceCommand;
 import com.game.domain.application.command.rover.RoverGetCommand;
 import com.game.domain.application.command.rover.RoverInitializeCommand;
 import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTryMoveCommand;
 import com.game.domain.application.command.rover.RoverTurnCommand;
 import com.game.domain.model.entity.plateau.Plateau;
 import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverMoveResult;
 
 public class GameServiceCommandVisitor {
 	
@@ -25,6 +32,14 @@ public class GameServiceCommandVisitor {
 		return gameService.execute(command);
 	}
 	
+	public List<RoverIdentifier> visit(PlateauRoversInRegionCommand command) {
+		return gameService.execute(command);
+	}
+
+	public List<RoverIdentifier> visit(PlateauRoversWithinDistanceCommand command) {
+		return gameService.execute(command);
+	}
+
 	public void visit(RoverInitializeCommand command) {
 		gameService.execute(command);
 	}
@@ -33,6 +48,10 @@ public class GameServiceCommandVisitor {
 		gameService.execute(command);
 	}
 	
+	public RoverMoveResult visit(RoverTryMoveCommand command) {
+		return gameService.execute(command);
+	}
+
 	public void visit(RoverTurnCommand command) {
 		gameService.execute(command);
 	}
@@ -1,15 +1,24 @@
 package com.game.domain.application.service;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.game.domain.application.command.ApplicationCommand;
 import com.game.domain.application.command.ReturnApplicationCommand;
 import com.game.domain.application.command.VoidApplicationCommand;
 import com.game.domain.application.command.plateau.PlateauGetCommand;
 import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.plateau.PlateauRoversInRegionCommand;
+import com.game.domain.application.command.plateau.PlateauRoversWithinDistanceCommand;
 import com.game.domain.application.command.rover.RoverGetCommand;
 import com.game.domain.application.command.rover.RoverInitializeCommand;
 import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTryMoveCommand;
 import com.game.domain.application.command.rover.RoverTurnCommand;
 import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
@@ -17,16 +26,10 @@ import com.game.domain.model.entity.plateau.Plateau;
 import com.game.domain.model.entity.rover.Orientation;
 import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
-import com.game.domain.model.event.DomainEventPublisherSubscriber;
-import com.game.domain.model.event.subscriber.plateau.PlateauInitializedEventSubscriber;
-import com.game.domain.model.event.subscriber.plateau.PlateauInitializedWithExceptionEventSubscriber;
-import com.game.domain.model.event.subscriber.plateau.PlateauSwitchedLocationEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverInitializedEventReadSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverInitializedEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverInitializedWithExceptionEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverMovedEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverMovedWithExceptionEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverTurnedEventSubscriber;
+import com.game.domain.model.entity.rover.RoverMoveResult;
+import com.game.domain.model.event.store.EventStore;
+import com.game.domain.model.exception.CommandExecutionException;
+import com.game.domain.model.exception.GameExceptionLabels;
 import com.game.domain.model.service.plateau.PlateauServiceImpl;
 import com.game.domain.model.service.rover.RoverServiceImpl;
 
@@ -40,15 +43,116 @@ import com.game.domain.model.service.rover.RoverServiceImpl;
  * State {@link GameContext}</li>
  * <li>Converts Command objects from outside world to Domain Services calls (All
  * the write commands should have return type = void)</li>
- * <li>Register Domain Events subscribers</li>
  * </ol>
  */
 public class GameServiceImpl implements GameService {
 	
+	/**
+	 * Sharded execution mode, null when the commands are executed by the calling thread
+	 */
+	private final ShardedCommandExecutor commandExecutor;
+
+	public GameServiceImpl() {
+		this(null);
+	}
+
+	/**
+	 * @param commandExecutor executes each command in the shard of its aggregate, see
+	 *                        {@link ShardedCommandExecutor}, null to execute them in the calling thread
+	 */
+	public GameServiceImpl(ShardedCommandExecutor commandExecutor) {
+		this.commandExecutor = commandExecutor;
+	}
+
+	/**
+	 * The events emitted by each command are appended to the event store
+	 * as one group commit when the command completes (successfully or not)
+	 * A snapshot of the aggregates is taken when due, see {@link GameContext#takeSnapshotIfDue()}
+	 * <p>
+	 * In sharded mode the method returns once all the commands are executed. A command without
+	 * aggregate waits for the previous ones. After a failure, the commands following it in the list and
+	 * not started yet are skipped, the commands preceding it are still executed as in sequential mode.
+	 * The failure of the first failed command (in the list order) is thrown.
+	 * </p>
+	 */
 	@Override
 	public void execute(List<VoidApplicationCommand> commands) {
 		GameServiceCommandVisitor commandVisitor = new GameServiceCommandVisitor(this);
-        commands.forEach(command -> command.acceptVisitor(commandVisitor));		
+		if (commandExecutor == null) {
+			commands.forEach(command -> executeInBatch(command, commandVisitor));
+		} else {
+			executeInShards(commands, commandVisitor);
+		}
+	}
+
+	private void executeInBatch(VoidApplicationCommand command, GameServiceCommandVisitor commandVisitor) {
+		EventStore eventStore = GameContext.getInstance().getEventStore();
+		eventStore.beginBatch();
+		try {
+			command.acceptVisitor(commandVisitor);
+		} finally {
+			eventStore.commitBatch();
+		}
+		GameContext.getInstance().takeSnapshotIfDue();
+	}
+
+	private void executeInShards(List<VoidApplicationCommand> commands, GameServiceCommandVisitor commandVisitor) {
+		// index of the first failed command, the commands after it are skipped
+		AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+		List<VoidApplicationCommand> submittedCommands = new ArrayList<>();
+		List<CompletableFuture<Void>> executions = new ArrayList<>();
+		for (int i = 0; i < commands.size(); i++) {
+			if (firstFailure.get() != Integer.MAX_VALUE) {
+				break;
+			}
+			VoidApplicationCommand command = commands.get(i);
+			Object aggregateId = command.aggregateId();
+			if (aggregateId == null) {
+				awaitExecutions(submittedCommands, executions);
+				executeInBatch(command, commandVisitor);
+				continue;
+			}
+			int index = i;
+			submittedCommands.add(command);
+			executions.add(commandExecutor.submit(aggregateId, command, () -> {
+				if (index > firstFailure.get()) {
+					return;
+				}
+				try {
+					executeInBatch(command, commandVisitor);
+				} catch (RuntimeException | Error e) {
+					firstFailure.accumulateAndGet(index, Math::min);
+					throw e;
+				}
+			}));
+		}
+		awaitExecutions(submittedCommands, executions);
+	}
+
+	/**
+	 * Waits for all the executions, then throws the first failure
+	 */
+	private static void awaitExecutions(List<? extends ApplicationCommand<?>> commands, List<CompletableFuture<Void>> executions) {
+		Throwable failure = null;
+		for (int i = 0; i < executions.size(); i++) {
+			try {
+				executions.get(i).get();
+			} catch (ExecutionException e) {
+				failure = failure == null ? e.getCause() : failure;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CommandExecutionException(
+						String.format(GameExceptionLabels.COMMAND_EXECUTION_INTERRUPTED, commands.get(i)), e);
+			}
+		}
+		commands.clear();
+		executions.clear();
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
 	}
 
 	@Override
@@ -63,32 +167,12 @@ public class GameServiceImpl implements GameService {
 	}
 
 	void execute(PlateauInitializeCommand command) {
-
-		// register the subscriber for the given type of event = PlateauInitializedEvent
-		DomainEventPublisherSubscriber.instance().subscribe(new PlateauInitializedEventSubscriber());
-		
-		DomainEventPublisherSubscriber.instance().subscribe(new PlateauInitializedWithExceptionEventSubscriber());
-				
 		GameContext.getInstance().getPlateauService().initializePlateau(command.getPlateauUuid(),
 				new TwoDimensionalCoordinates(command.getWidth(), command.getHeight()),
 				command.getObserverSpeed());
 	}
 
 	void execute(RoverInitializeCommand command) {
-
-		// register the subscriber for the given type of event = RoverInitializedEvent
-		DomainEventPublisherSubscriber.instance().subscribe(new RoverInitializedEventSubscriber());
-
-		// register the subscriber in case of something went wrong during Rover moves
-		DomainEventPublisherSubscriber.instance().subscribe(new RoverInitializedWithExceptionEventSubscriber());
-
-		// register the subscriber for the plateau to mark it as occupied for the rover
-		// position
-		DomainEventPublisherSubscriber.instance().subscribe(new PlateauSwitchedLocationEventSubscriber());
-		
-		// for read/projected purpose
-		DomainEventPublisherSubscriber.instance().subscribe(new RoverInitializedEventReadSubscriber());
-
 		GameContext.getInstance().getRoverService().initializeRover(
 				new RoverIdentifier(command.getPlateauUuid(), command.getName()),
 				new TwoDimensionalCoordinates(command.getAbscissa(), command.getOrdinate()),
@@ -97,25 +181,44 @@ public class GameServiceImpl implements GameService {
 
 	void execute(RoverMoveCommand command) {
 
-		// register the subscriber for the given type of event = RoverMovedEvent
-		DomainEventPublisherSubscriber.instance().subscribe(new RoverMovedEventSubscriber());
-
-		// register the subscriber in case of something went wrong during Rover moves
-		DomainEventPublisherSubscriber.instance().subscribe(new RoverMovedWithExceptionEventSubscriber());
-
-		// register the subscriber for the plateau
-		DomainEventPublisherSubscriber.instance().subscribe(new PlateauSwitchedLocationEventSubscriber());
-
 		// delegates to the rover service
 		GameContext.getInstance().getRoverService().moveRoverNumberOfTimes(command.getRoverId(),
 				command.getNumberOfMoves());
 
 	}
 
-	void execute(RoverTurnCommand command) {
+	/**
+	 * In sharded mode, executed in the shard of the rover after its pending commands
+	 */
+	RoverMoveResult execute(RoverTryMoveCommand command) {
+		if (commandExecutor == null) {
+			return tryMoveInBatch(command);
+		}
+		AtomicReference<RoverMoveResult> result = new AtomicReference<>();
+		List<RoverTryMoveCommand> submittedCommands = new ArrayList<>();
+		List<CompletableFuture<Void>> executions = new ArrayList<>();
+		submittedCommands.add(command);
+		executions.add(commandExecutor.submit(command.getRoverId(), command, () -> result.set(tryMoveInBatch(command))));
+		awaitExecutions(submittedCommands, executions);
+		return result.get();
+	}
+
+	private RoverMoveResult tryMoveInBatch(RoverTryMoveCommand command) {
+		EventStore eventStore = GameContext.getInstance().getEventStore();
+		eventStore.beginBatch();
+		RoverMoveResult result;
+		try {
+			// delegates to the rover service
+			result = GameContext.getInstance().getRoverService().tryMoveRoverNumberOfTimes(command.getRoverId(),
+					command.getNumberOfMoves());
+		} finally {
+			eventStore.commitBatch();
+		}
+		GameContext.getInstance().takeSnapshotIfDue();
+		return result;
+	}
 
-		// register the subscriber for the given type of event = RoverTurnedEvent
-		DomainEventPublisherSubscriber.instance().subscribe(new RoverTurnedEventSubscriber());
+	void execute(RoverTurnCommand command) {
 
 		// delegates to rover service
 		GameContext.getInstance().getRoverService().turnRover(command.getRoverId(), command.getTurn());
@@ -126,7 +229,18 @@ public class GameServiceImpl implements GameService {
 		// delegates to plateau service
 		return GameContext.getInstance().getPlateauService().getPlateau(command.getId());
 	}	
-	
+
+	List<RoverIdentifier> execute(PlateauRoversInRegionCommand command) {
+		// delegates to plateau service, answered by the spatial index of the plateau
+		return GameContext.getInstance().getPlateauService().getRoversInRegion(command.getId(),
+				command.getLowerLeft(), command.getUpperRight());
+	}
+
+	List<RoverIdentifier> execute(PlateauRoversWithinDistanceCommand command) {
+		// delegates to plateau service, answered by the spatial index of the plateau
+		return GameContext.getInstance().getPlateauService().getRoversWithinDistance(command.getId(),
+				command.getCoordinates(), command.getDistance());
+	}
 	
 	Rover execute(RoverGetCommand command) {
 		// delegates to plateau service
@@ -0,0 +1,118 @@
+package com.game.domain.application.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.game.domain.application.command.ApplicationCommand;
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.model.exception.CommandExecutionException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+/**
+ * Executes the commands on a pool of shards, each shard being a single thread consuming
+ * a bounded FIFO queue (a mailbox). A command is routed to its shard by its
+ * {@link VoidApplicationCommand#aggregateId()}: the commands of a given rover are executed
+ * one at a time in their submission order, without any lock nor optimistic locking failure,
+ * while the commands of unrelated rovers are executed in parallel.
+ * <p>
+ * When a mailbox is full, the submitter waits for a free slot.
+ * </p>
+ */
+public class ShardedCommandExecutor {
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private final ThreadPoolExecutor[] shards;
+
+	public ShardedCommandExecutor(int numberOfShards) {
+		this(numberOfShards, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public ShardedCommandExecutor(int numberOfShards, int queueCapacity) {
+		this.shards = new ThreadPoolExecutor[numberOfShards];
+		for (int i = 0; i < numberOfShards; i++) {
+			String threadName = "command-shard-" + i;
+			shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+						Thread thread = new Thread(runnable, threadName);
+						thread.setDaemon(true);
+						return thread;
+					}, blockingHandler());
+		}
+	}
+
+	/**
+	 * Queues the execution in the shard of the aggregate
+	 *
+	 * @return completed when the execution is done, exceptionally if it failed
+	 */
+	public CompletableFuture<Void> submit(Object aggregateId, ApplicationCommand<?> command, Runnable execution) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		shards[shardIndex(aggregateId)].execute(new Execution(command, () -> {
+			try {
+				execution.run();
+				result.complete(null);
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}));
+		return result;
+	}
+
+	/**
+	 * Executes the commands already queued and stops the shards
+	 */
+	public void shutdown() {
+		for (ThreadPoolExecutor shard : shards) {
+			shard.shutdown();
+		}
+	}
+
+	public int getNumberOfShards() {
+		return shards.length;
+	}
+
+	int shardIndex(Object aggregateId) {
+		int hash = aggregateId == null ? 0 : aggregateId.hashCode();
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % shards.length;
+	}
+
+	private static RejectedExecutionHandler blockingHandler() {
+		return (task, executor) -> {
+			Object command = task instanceof Execution ? ((Execution) task).command : task;
+			if (executor.isShutdown()) {
+				throw new CommandExecutionException(String.format(GameExceptionLabels.COMMAND_REJECTED, command));
+			}
+			try {
+				executor.getQueue().put(task);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CommandExecutionException(
+						String.format(GameExceptionLabels.COMMAND_EXECUTION_INTERRUPTED, command), e);
+			}
+		};
+	}
+
+	private static class Execution implements Runnable {
+
+		private final ApplicationCommand<?> command;
+
+		private final Runnable execution;
+
+		Execution(ApplicationCommand<?> command, Runnable execution) {
+			this.command = command;
+			this.execution = execution;
+		}
+
+		@Override
+		public void run() {
+			execution.run();
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.game.domain.model.entity.dimensions;
+
+import com.game.domain.model.entity.rover.Orientation;
+
+/**
+ * Primitive representation of a location: abscissa in the high 32 bits, ordinate in the low 32 bits
+ * of one long. Used on the move hot path (rover position, plateau occupancy, move events) where a
+ * {@link TwoDimensionalCoordinates} per step would be allocated. The latter remains the type
+ * exposed to the outside world.
+ */
+public final class PackedCoordinates {
+
+	/**
+	 * Stands for a missing location (e.g. no previous position when a rover lands on the plateau)
+	 * i.e. the packed value of [Integer.MIN_VALUE, Integer.MIN_VALUE], never a location of a plateau
+	 */
+	public static final long NONE = pack(Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+	private PackedCoordinates() {
+	}
+
+	public static long pack(int x, int y) {
+		return ((long) x << 32) | (y & 0xffffffffL);
+	}
+
+	public static long pack(TwoDimensionalCoordinates coordinates) {
+		return coordinates == null ? NONE : pack(coordinates.getAbscissa(), coordinates.getOrdinate());
+	}
+
+	public static int abscissa(long packed) {
+		return (int) (packed >> 32);
+	}
+
+	public static int ordinate(long packed) {
+		return (int) packed;
+	}
+
+	public static long shift(long packed, Orientation orientation, int stepLength) {
+		return pack(abscissa(packed) + orientation.getDx() * stepLength, ordinate(packed) + orientation.getDy() * stepLength);
+	}
+
+	public static int hash(long packed) {
+		return 31 * abscissa(packed) + ordinate(packed);
+	}
+
+	/**
+	 * Boundary conversion, null for {@link #NONE}
+	 */
+	public static TwoDimensionalCoordinates unpack(long packed) {
+		return packed == NONE ? null : new TwoDimensionalCoordinates(abscissa(packed), ordinate(packed));
+	}
+
+}
@@ -31,10 +31,19 @@ public class RelativisticTwoDimensions implements TwoDimensionalSpace {
 
 	private double lorentzFactor;
 
+	/**
+	 * Contracted lengths, computed once
+	 */
+	private int width;
+
+	private int height;
+
 	public RelativisticTwoDimensions(int speed, TwoDimensions dimensions) {
 		this(dimensions);
 		this.observerSpeed = speed;
 		this.lorentzFactor = calculateLorentzFactor(observerSpeed);
+		this.width = (int) (lorentzFactor * dimensions.getWidth());
+		this.height = (int) (lorentzFactor * dimensions.getHeight());
 	}
 
 	private RelativisticTwoDimensions(TwoDimensions dimensions) {
@@ -55,14 +64,28 @@ public class RelativisticTwoDimensions implements TwoDimensionalSpace {
 				.doubleValue());
 	}
 
+	/**
+	 * @return speed of the observer in m/s
+	 */
+	public int getObserverSpeed() {
+		return (int) observerSpeed;
+	}
+
+	/**
+	 * @return the dimensions at rest, before the contraction
+	 */
+	public TwoDimensions getDimensions() {
+		return dimensions;
+	}
+
 	@Override
 	public int getWidth() {
-		return (int)(lorentzFactor * dimensions.getWidth());
+		return width;
 	}
 
 	@Override
 	public int getHeight() {
-		return (int)(lorentzFactor * dimensions.getHeight());
+		return height;
 	}
 	
 	@Override
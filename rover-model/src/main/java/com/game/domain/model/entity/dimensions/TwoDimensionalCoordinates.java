@@ -1,7 +1,5 @@
 package com.game.domain.model.entity.dimensions;
 
-import java.util.Objects;
-
 import com.game.domain.model.entity.rover.Orientation;
 
 public class TwoDimensionalCoordinates {
@@ -21,31 +19,10 @@ public class TwoDimensionalCoordinates {
 	 * @return
 	 */
 	public TwoDimensionalCoordinates shiftWithOrientation(Orientation orientation, int stepLength) {
-		if (orientation.isHorizontal()) {
-			return shiftAlongAbscissa(stepLength * orientation.getAxisDirection());
-		} else {
-			return shiftAlongOrdinate(stepLength * orientation.getAxisDirection());
-		}
+		return new TwoDimensionalCoordinates(abscissa + orientation.getDx() * stepLength,
+				ordinate + orientation.getDy() * stepLength);
 	}
 
-	/**
-	 * We don't mutate the state, i.e. functional behaviour
-	 * @param step
-	 * @return new coordinates
-	 */
-	private TwoDimensionalCoordinates shiftAlongAbscissa(int stepLength) {
-		return new TwoDimensionalCoordinates(abscissa + stepLength, ordinate);
-	}
-
-	/**
-	 * We don't mutate the state, i.e. functional behaviour
-	 * @param step
-	 * @return new coordinates
-	 */
-	private TwoDimensionalCoordinates shiftAlongOrdinate(int stepLength) {
-		return new TwoDimensionalCoordinates(abscissa, ordinate + stepLength);
-	}
-	
 	@Override
 	public boolean equals(Object obj) {
 
@@ -55,7 +32,7 @@ public class TwoDimensionalCoordinates {
 
 		if (obj instanceof TwoDimensionalCoordinates) {
 			TwoDimensionalCoordinates other = (TwoDimensionalCoordinates) obj;
-			return Objects.equals(abscissa, other.getAbscissa()) && Objects.equals(ordinate, other.getOrdinate());
+			return abscissa == other.abscissa && ordinate == other.ordinate;
 		}
 
 		return false;
@@ -63,13 +40,20 @@ public class TwoDimensionalCoordinates {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(getAbscissa(), getOrdinate());
+		return PackedCoordinates.hash(PackedCoordinates.pack(abscissa, ordinate));
 	}
 
 	public int[] getCoordinates() {
 		return new int[] { getAbscissa(), getOrdinate() };
 	}
 
+	/**
+	 * @return the {@link PackedCoordinates} representation
+	 */
+	public long pack() {
+		return PackedCoordinates.pack(abscissa, ordinate);
+	}
+
 	public int getAbscissa() {
 		return abscissa;
 	}
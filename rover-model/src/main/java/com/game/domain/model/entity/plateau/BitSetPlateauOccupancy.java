@@ -0,0 +1,128 @@
+package com.game.domain.model.entity.plateau;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Dense {@link PlateauOccupancy}: one bit per location, packed row-major in a single long array
+ * i.e. the location (x, y) is the bit y * columns + x
+ * Eight times smaller than a boolean matrix and the neighbour locations of a row share the same words
+ * <p>
+ * The words are updated by CAS, without any lock: the rovers moving on distinct words never contend
+ * and the ones sharing a word only retry their own update.
+ * </p>
+ */
+public class BitSetPlateauOccupancy implements PlateauOccupancy {
+
+	private static final int ADDRESS_BITS_PER_WORD = 6;
+
+	private final int columns;
+
+	private final int rows;
+
+	private final AtomicLongArray words;
+
+	public BitSetPlateauOccupancy(int columns, int rows) {
+		this.columns = columns;
+		this.rows = rows;
+		long numberOfBits = (long) columns * rows;
+		this.words = new AtomicLongArray((int) ((numberOfBits + 63) >>> ADDRESS_BITS_PER_WORD));
+	}
+
+	/**
+	 * Restores the occupancy from the words given by {@link #toWords()}
+	 */
+	public BitSetPlateauOccupancy(int columns, int rows, long[] words) {
+		this.columns = columns;
+		this.rows = rows;
+		this.words = new AtomicLongArray(words);
+	}
+
+	@Override
+	public void setOccupied(int x, int y) {
+		long bitIndex = bitIndex(x, y);
+		long mask = 1L << bitIndex;
+		words.getAndAccumulate(wordIndex(bitIndex), mask, (word, bit) -> word | bit);
+	}
+
+	@Override
+	public void setFree(int x, int y) {
+		long bitIndex = bitIndex(x, y);
+		long mask = 1L << bitIndex;
+		words.getAndAccumulate(wordIndex(bitIndex), mask, (word, bit) -> word & ~bit);
+	}
+
+	@Override
+	public boolean isOccupied(int x, int y) {
+		long bitIndex = bitIndex(x, y);
+		return (words.get(wordIndex(bitIndex)) & (1L << bitIndex)) != 0;
+	}
+
+	@Override
+	public boolean tryOccupy(int x, int y) {
+		long bitIndex = bitIndex(x, y);
+		int wordIndex = wordIndex(bitIndex);
+		long mask = 1L << bitIndex;
+		long word;
+		do {
+			word = words.get(wordIndex);
+			if ((word & mask) != 0) {
+				return false;
+			}
+		} while (!words.compareAndSet(wordIndex, word, word | mask));
+		return true;
+	}
+
+	@Override
+	public boolean tryMove(int fromX, int fromY, int toX, int toY) {
+		// the origin is checked even when the rover does not move
+		checkBounds(fromX, fromY);
+		if (fromX == toX && fromY == toY) {
+			return true;
+		}
+		if (!tryOccupy(toX, toY)) {
+			return false;
+		}
+		setFree(fromX, fromY);
+		return true;
+	}
+
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Copy of the bitmap, e.g. for a snapshot of the plateau
+	 */
+	public long[] toWords() {
+		long[] copy = new long[words.length()];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = words.get(i);
+		}
+		return copy;
+	}
+
+	private long bitIndex(int x, int y) {
+		checkBounds(x, y);
+		return (long) y * columns + x;
+	}
+
+	/**
+	 * Same behaviour as the former boolean matrix for the locations out of the plateau
+	 */
+	private void checkBounds(int x, int y) {
+		if (x < 0 || x >= columns || y < 0 || y >= rows) {
+			throw new ArrayIndexOutOfBoundsException(String.format("Location [%d, %d] out of [%d, %d]", x, y, columns, rows));
+		}
+	}
+
+	private static int wordIndex(long bitIndex) {
+		return (int) (bitIndex >>> ADDRESS_BITS_PER_WORD);
+	}
+
+}
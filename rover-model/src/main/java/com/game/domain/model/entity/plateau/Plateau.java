@@ -1,19 +1,27 @@
 package com.game.domain.model.entity.plateau;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.game.core.validation.ArgumentCheck;
+import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.IdentifiedPublisherDomainEntity;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalSpace;
 import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.event.DomainEvent;
 import com.game.domain.model.event.plateau.PlateauInitializedEvent;
 import com.game.domain.model.event.plateau.PlateauInitializedWithExceptionEvent;
 import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
 import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.PlateauLocationAlreadySetException;
+import com.game.domain.model.service.plateau.PlateauFactory;
 import com.game.domain.model.validation.EntityDefaultValidationNotificationHandler;
 import com.game.domain.model.validation.ValidationNotificationHandler;
 
@@ -22,18 +30,35 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	private TwoDimensionalSpace dimensions;
 
 	/**
-	 * Matrix to keep track of the occupied locations
+	 * Bounds read from the dimensions once, checked on each rover move
 	 */
-	boolean[][] locations;
+	private final int width;
+
+	private final int height;
+
+	/**
+	 * Keeps track of the occupied locations, dense bitset or sparse index
+	 * chosen by {@link PlateauFactory#createOccupancy(int, int, int)}
+	 */
+	PlateauOccupancy locations;
+
+	/**
+	 * Keeps track of which rover stands where, for the region queries
+	 */
+	final PlateauSpatialIndex rovers = new PlateauSpatialIndex();
 
 	public Plateau(UUID uuid, TwoDimensionalSpace dimensions) {
 		this.id = ArgumentCheck.preNotNull(uuid, GameExceptionLabels.MISSING_PLATEAU_UUID);
 		this.dimensions = ArgumentCheck.preNotNull(dimensions, GameExceptionLabels.MISSING_PLATEAU_DIMENSIONS);
+		this.width = dimensions.getWidth();
+		this.height = dimensions.getHeight();
 	}
 
 	public Plateau() {
 		this.dimensions = new TwoDimensions(
 				new TwoDimensionalCoordinates(TwoDimensionalSpace.DEFAULT_WIDTH, TwoDimensionalSpace.DEFAULT_HEIGHT));
+		this.width = dimensions.getWidth();
+		this.height = dimensions.getHeight();
 	}
 	
 	public final Function<DomainEvent, DomainEvent> initializePlateau = event -> {
@@ -48,11 +73,13 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	public final Function<DomainEvent, DomainEvent> switchLocation = event -> {
 		PlateauSwitchedLocationEvent switchEvent = (PlateauSwitchedLocationEvent)event;
 		// update in memory plateau locations
-		if (switchEvent.getPreviousPosition() != null) {
-			this.setLocationFree(switchEvent.getPreviousPosition());
+		if (switchEvent.getCurrentPosition() == null) {
+			this.releaseRoverLocation(switchEvent.getRoverId(), switchEvent.getPreviousPosition());
+		} else if (!this.tryMoveRover(switchEvent.getRoverId(), switchEvent.getPackedPreviousPosition(),
+				switchEvent.getPackedCurrentPosition())) {
+			throw new PlateauLocationAlreadySetException(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET,
+					switchEvent.getCurrentPosition().getAbscissa(), switchEvent.getCurrentPosition().getOrdinate()));
 		}
-		if (switchEvent.getCurrentPosition() != null)
-			this.setLocationOccupied(switchEvent.getCurrentPosition());
 		return event;
 	};
 	
@@ -64,11 +91,46 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	 * negative coordinates
 	 */
 	public Plateau initializeLocations() {
-		this.locations = new boolean[getLocationIndexFromDimensions(
-				dimensions.getWidth())][getLocationIndexFromDimensions(dimensions.getHeight())];
+		return initializeLocations(GameContext.getInstance().getExpectedRoversPerPlateau());
+	}
+
+	/**
+	 * @param expectedRovers number of rovers expected on the plateau, choosing how the locations are indexed
+	 */
+	public Plateau initializeLocations(int expectedRovers) {
+		this.locations = PlateauFactory.createOccupancy(getLocationIndexFromDimensions(width),
+				getLocationIndexFromDimensions(height), expectedRovers);
+		return this;
+	}
+
+	/**
+	 * Restores the locations from a snapshot, the rovers being indexed again from their position
+	 */
+	public Plateau restoreLocations(PlateauOccupancy locations, Collection<Rover> landedRovers) {
+		this.locations = locations;
+		this.rovers.clear();
+		landedRovers.forEach(rover -> rovers.update(rover.getId(), rover.getPackedPosition()));
+		return this;
+	}
+
+	/**
+	 * Rebuilds the locations from the position of the rovers, which remains the reference
+	 * whatever the order in which the moves of concurrent rovers were stored
+	 */
+	public Plateau rebuildLocations(Collection<Rover> landedRovers) {
+		initializeLocations();
+		this.rovers.clear();
+		landedRovers.forEach(rover -> {
+			locations.setOccupied(rover.getXPosition(), rover.getYPosition());
+			rovers.update(rover.getId(), rover.getPackedPosition());
+		});
 		return this;
 	}
 
+	public PlateauOccupancy getLocations() {
+		return locations;
+	}
+
 	/**
 	 * Mark the position as busy/already set
 	 * 
@@ -76,7 +138,7 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	 * @return
 	 */
 	public void setLocationOccupied(TwoDimensionalCoordinates coordinates) {
-		locations[coordinates.getAbscissa()][coordinates.getOrdinate()] = true;
+		locations.setOccupied(coordinates.getAbscissa(), coordinates.getOrdinate());
 	}
 
 	/**
@@ -86,7 +148,134 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	 * @return
 	 */
 	public void setLocationFree(TwoDimensionalCoordinates coordinates) {
-		locations[coordinates.getAbscissa()][coordinates.getOrdinate()] = false;
+		locations.setFree(coordinates.getAbscissa(), coordinates.getOrdinate());
+	}
+
+	/**
+	 * Atomically marks the location as busy if it was free
+	 * 
+	 * @param coordinates
+	 * @return false if the location was already busy
+	 */
+	public boolean tryOccupyLocation(TwoDimensionalCoordinates coordinates) {
+		return locations.tryOccupy(coordinates.getAbscissa(), coordinates.getOrdinate());
+	}
+
+	/**
+	 * Atomically moves from the previous location (if any) to the current one,
+	 * only if the current location is free. To be preferred to a check of
+	 * {@link #isLocationBusy(TwoDimensionalCoordinates)} followed by an update,
+	 * as two rovers could then claim the same location
+	 * 
+	 * @param previous null for a rover landing on the plateau
+	 * @param current
+	 * @return false (and nothing changed) if the current location was already busy
+	 */
+	public boolean tryMoveLocation(TwoDimensionalCoordinates previous, TwoDimensionalCoordinates current) {
+		if (previous == null) {
+			return tryOccupyLocation(current);
+		}
+		return locations.tryMove(previous.getAbscissa(), previous.getOrdinate(), current.getAbscissa(),
+				current.getOrdinate());
+	}
+
+	/**
+	 * Scans the straight path starting next to the location (x, y) by steps of (dx, dy)
+	 * The steps inside the plateau are computed in one shot, then only the occupancy
+	 * of these locations is checked, stopping at the first busy one.
+	 * The scan is not atomic: a concurrent rover may enter a location once it has been
+	 * scanned, the result is only a bound for the locations to claim one by one
+	 * 
+	 * @return the number of steps (at most maxSteps) before leaving the plateau or reaching a busy location
+	 */
+	public int getFreePathLength(int x, int y, int dx, int dy, int maxSteps) {
+		int steps = Math.min(maxSteps, Math.min(stepsInside(x, dx, getWidth()), stepsInside(y, dy, getHeight())));
+		for (int i = 1; i <= steps; i++) {
+			if (locations.isOccupied(x + i * dx, y + i * dy)) {
+				return i - 1;
+			}
+		}
+		return Math.max(steps, 0);
+	}
+
+	/**
+	 * Number of steps of the given length from the coordinate staying within [0, max]
+	 */
+	private static int stepsInside(int coordinate, int delta, int max) {
+		if (delta > 0) {
+			return (max - coordinate) / delta;
+		} else if (delta < 0) {
+			return coordinate / -delta;
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Same as {@link #tryMoveLocation(TwoDimensionalCoordinates, TwoDimensionalCoordinates)}
+	 * with {@link PackedCoordinates}, previous being NONE for a rover landing on the plateau
+	 */
+	public boolean tryMoveLocation(long previous, long current) {
+		if (previous == PackedCoordinates.NONE) {
+			return locations.tryOccupy(PackedCoordinates.abscissa(current), PackedCoordinates.ordinate(current));
+		}
+		return locations.tryMove(PackedCoordinates.abscissa(previous), PackedCoordinates.ordinate(previous),
+				PackedCoordinates.abscissa(current), PackedCoordinates.ordinate(current));
+	}
+
+	/**
+	 * Same as {@link #tryMoveLocation(long, long)}, also recording the new
+	 * position of the rover in the spatial index when the move succeeded
+	 * 
+	 * A rover claiming the location it already holds, having claimed its path step by step
+	 * beforehand, succeeds without any change
+	 * 
+	 * @param roverId null when the rover is unknown, only the occupancy is then updated
+	 */
+	public boolean tryMoveRover(RoverIdentifier roverId, long previous, long current) {
+		if (roverId != null && rovers.positionOf(roverId) == current) {
+			return true;
+		}
+		if (!tryMoveLocation(previous, current)) {
+			return false;
+		}
+		if (roverId != null) {
+			rovers.update(roverId, current);
+		}
+		return true;
+	}
+
+	/**
+	 * Frees the location of a rover leaving the plateau: the last one claimed by the rover, which is
+	 * not the given coordinates when the rover failed after claiming its move. The given coordinates
+	 * are only freed for a rover unknown to the index
+	 */
+	public void releaseRoverLocation(RoverIdentifier roverId, TwoDimensionalCoordinates coordinates) {
+		long claimed = roverId == null ? PackedCoordinates.NONE : rovers.remove(roverId);
+		if (claimed != PackedCoordinates.NONE) {
+			locations.setFree(PackedCoordinates.abscissa(claimed), PackedCoordinates.ordinate(claimed));
+		} else {
+			setLocationFree(coordinates);
+		}
+	}
+
+	/**
+	 * @return the rovers located in the rectangle, bounds included
+	 */
+	public List<RoverIdentifier> getRoversInRegion(TwoDimensionalCoordinates lowerLeft,
+			TwoDimensionalCoordinates upperRight) {
+		return rovers.findInRegion(lowerLeft.getAbscissa(), lowerLeft.getOrdinate(), upperRight.getAbscissa(),
+				upperRight.getOrdinate());
+	}
+
+	/**
+	 * @return the rovers within the distance of the location, the nearest first
+	 */
+	public List<RoverIdentifier> getRoversWithinDistance(TwoDimensionalCoordinates coordinates, int distance) {
+		return rovers.findWithinDistance(coordinates.getAbscissa(), coordinates.getOrdinate(), distance);
+	}
+
+	public boolean isLocationBusy(long coordinates) {
+		return locations.isOccupied(PackedCoordinates.abscissa(coordinates), PackedCoordinates.ordinate(coordinates));
 	}
 
 	/**
@@ -96,7 +285,7 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	 * @return
 	 */
 	public boolean isLocationBusy(TwoDimensionalCoordinates coordinates) {
-		return locations[coordinates.getAbscissa()][coordinates.getOrdinate()];
+		return locations.isOccupied(coordinates.getAbscissa(), coordinates.getOrdinate());
 	}
 
 	@Override
@@ -109,11 +298,11 @@ public class Plateau extends IdentifiedPublisherDomainEntity<Plateau, UUID> impl
 	}
 
 	public int getWidth() {
-		return dimensions.getWidth();
+		return width;
 	}
 
 	public int getHeight() {
-		return dimensions.getHeight();
+		return height;
 	}
 	
 	public TwoDimensionalSpace getDimensions() {
@@ -0,0 +1,42 @@
+package com.game.domain.model.entity.plateau;
+
+/**
+ * Keeps track of the occupied locations of a {@link Plateau}
+ * The locations are indexed from 0 to width (resp. height) included
+ * All the updates are atomic, so that the rovers of a plateau can be moved concurrently
+ *
+ */
+public interface PlateauOccupancy {
+
+	void setOccupied(int x, int y);
+
+	void setFree(int x, int y);
+
+	boolean isOccupied(int x, int y);
+
+	/**
+	 * Occupies the location only if it is free
+	 * 
+	 * @return false if the location is already occupied
+	 */
+	boolean tryOccupy(int x, int y);
+
+	/**
+	 * Occupies the location (toX, toY) only if it is free, then frees the location (fromX, fromY)
+	 * The target location is claimed first, so that two moves can never end on the same location
+	 * 
+	 * @return false (and nothing changed) if the target location is already occupied
+	 */
+	boolean tryMove(int fromX, int fromY, int toX, int toY);
+
+	/**
+	 * @return number of locations along the X axis
+	 */
+	int getColumns();
+
+	/**
+	 * @return number of locations along the Y axis
+	 */
+	int getRows();
+
+}
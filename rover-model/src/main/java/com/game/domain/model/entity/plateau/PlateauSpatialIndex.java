@@ -0,0 +1,172 @@
+package com.game.domain.model.entity.plateau;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+
+/**
+ * Spatial index of the rovers landed on a plateau. The plateau is divided into
+ * square buckets of {@link #BUCKET_SIZE} locations: a region query only visits
+ * the buckets overlapping the region instead of loading every rover.
+ * Only the non empty buckets are kept, so that huge plateaus cost nothing more.
+ * The index is kept in sync by the {@link Plateau} when a rover claims or
+ * releases a location.
+ */
+public class PlateauSpatialIndex {
+
+	static final int BUCKET_SHIFT = 5;
+
+	static final int BUCKET_SIZE = 1 << BUCKET_SHIFT;
+
+	/**
+	 * Last known {@link PackedCoordinates} of each rover
+	 */
+	private final Map<RoverIdentifier, Long> positions = new ConcurrentHashMap<>();
+
+	/**
+	 * Rovers (with their position) of each non empty bucket, keyed by the packed
+	 * bucket coordinates
+	 */
+	private final Map<Long, Map<RoverIdentifier, Long>> buckets = new ConcurrentHashMap<>();
+
+	/**
+	 * Records the new position of the rover, moving it to another bucket if needed
+	 */
+	public void update(RoverIdentifier roverId, long position) {
+		Long previous = positions.put(roverId, position);
+		if (previous != null && bucketOf(previous) != bucketOf(position)) {
+			removeFromBucket(roverId, previous);
+		}
+		buckets.compute(bucketOf(position), (key, bucket) -> {
+			Map<RoverIdentifier, Long> rovers = bucket == null ? new ConcurrentHashMap<>() : bucket;
+			rovers.put(roverId, position);
+			return rovers;
+		});
+	}
+
+	/**
+	 * @return the last known position of the rover, {@link PackedCoordinates#NONE} if it is not indexed
+	 */
+	public long positionOf(RoverIdentifier roverId) {
+		Long position = positions.get(roverId);
+		return position == null ? PackedCoordinates.NONE : position;
+	}
+
+	/**
+	 * @return the last known position of the rover, {@link PackedCoordinates#NONE} if it was not indexed
+	 */
+	public long remove(RoverIdentifier roverId) {
+		Long previous = positions.remove(roverId);
+		if (previous == null) {
+			return PackedCoordinates.NONE;
+		}
+		removeFromBucket(roverId, previous);
+		return previous;
+	}
+
+	/**
+	 * @return the rovers located inside the rectangle, bounds included
+	 */
+	public List<RoverIdentifier> findInRegion(int minX, int minY, int maxX, int maxY) {
+		List<RoverIdentifier> result = new ArrayList<>();
+		forEachInRegion(minX, minY, maxX, maxY, (roverId, position) -> result.add(roverId));
+		return result;
+	}
+
+	/**
+	 * @return the rovers at an euclidean distance of (x, y) lower or equal to the
+	 *         radius, the nearest first
+	 */
+	public List<RoverIdentifier> findWithinDistance(int x, int y, int radius) {
+		long maximalSquare = (long) radius * radius;
+		List<Map.Entry<RoverIdentifier, Long>> found = new ArrayList<>();
+		forEachInRegion(saturatedAdd(x, -radius), saturatedAdd(y, -radius), saturatedAdd(x, radius),
+				saturatedAdd(y, radius), (roverId, position) -> {
+					long square = squareDistance(x, y, position);
+					if (square <= maximalSquare) {
+						found.add(new AbstractMap.SimpleImmutableEntry<>(roverId, square));
+					}
+				});
+		found.sort(Comparator.comparing(Map.Entry::getValue));
+		List<RoverIdentifier> result = new ArrayList<>(found.size());
+		found.forEach(entry -> result.add(entry.getKey()));
+		return result;
+	}
+
+	public void clear() {
+		positions.clear();
+		buckets.clear();
+	}
+
+	public int size() {
+		return positions.size();
+	}
+
+	private void forEachInRegion(int minX, int minY, int maxX, int maxY,
+			BiConsumer<RoverIdentifier, Long> action) {
+		if (minX > maxX || minY > maxY) {
+			return;
+		}
+		int minBucketX = minX >> BUCKET_SHIFT, maxBucketX = maxX >> BUCKET_SHIFT;
+		int minBucketY = minY >> BUCKET_SHIFT, maxBucketY = maxY >> BUCKET_SHIFT;
+		long bucketsInRegion = ((long) maxBucketX - minBucketX + 1) * ((long) maxBucketY - minBucketY + 1);
+		if (bucketsInRegion > buckets.size()) {
+			// wide region on a lightly populated plateau: cheaper to scan the non empty buckets
+			buckets.forEach((key, bucket) -> {
+				int bucketX = PackedCoordinates.abscissa(key), bucketY = PackedCoordinates.ordinate(key);
+				if (bucketX >= minBucketX && bucketX <= maxBucketX && bucketY >= minBucketY && bucketY <= maxBucketY) {
+					visit(bucket, minX, minY, maxX, maxY, action);
+				}
+			});
+		} else {
+			for (int bucketX = minBucketX; bucketX <= maxBucketX; bucketX++) {
+				for (int bucketY = minBucketY; bucketY <= maxBucketY; bucketY++) {
+					Map<RoverIdentifier, Long> bucket = buckets.get(PackedCoordinates.pack(bucketX, bucketY));
+					if (bucket != null) {
+						visit(bucket, minX, minY, maxX, maxY, action);
+					}
+				}
+			}
+		}
+	}
+
+	private static void visit(Map<RoverIdentifier, Long> bucket, int minX, int minY, int maxX, int maxY,
+			BiConsumer<RoverIdentifier, Long> action) {
+		bucket.forEach((roverId, position) -> {
+			int x = PackedCoordinates.abscissa(position), y = PackedCoordinates.ordinate(position);
+			if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+				action.accept(roverId, position);
+			}
+		});
+	}
+
+	private void removeFromBucket(RoverIdentifier roverId, long position) {
+		buckets.computeIfPresent(bucketOf(position), (key, bucket) -> {
+			bucket.remove(roverId);
+			return bucket.isEmpty() ? null : bucket;
+		});
+	}
+
+	private static long bucketOf(long position) {
+		return PackedCoordinates.pack(PackedCoordinates.abscissa(position) >> BUCKET_SHIFT,
+				PackedCoordinates.ordinate(position) >> BUCKET_SHIFT);
+	}
+
+	private static long squareDistance(int x, int y, long position) {
+		long dx = (long) PackedCoordinates.abscissa(position) - x;
+		long dy = (long) PackedCoordinates.ordinate(position) - y;
+		return dx * dx + dy * dy;
+	}
+
+	private static int saturatedAdd(int coordinate, int delta) {
+		return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, (long) coordinate + delta));
+	}
+
+}
@@ -0,0 +1,253 @@
+package com.game.domain.model.entity.plateau;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+
+/**
+ * Sparse {@link PlateauOccupancy} for the huge plateaus with few rovers:
+ * memory scales with the number of occupied locations, not with the plateau area.
+ * The occupied locations are kept in open-addressing (linear probing) hash sets
+ * of primitive longs, each location (x, y) being a {@link PackedCoordinates}.
+ * <p>
+ * The locations are spread by hash over independent stripes, each one with its own table and lock,
+ * so that the rovers moving on the same plateau rarely contend. A move across two stripes locks both
+ * of them in stripe order.
+ * </p>
+ */
+public class SparsePlateauOccupancy implements PlateauOccupancy {
+
+	private static final long EMPTY = -1L;
+
+	private static final int MINIMAL_CAPACITY = 16;
+
+	private static final int STRIPE_BITS = 5;
+
+	private final int columns;
+
+	private final int rows;
+
+	private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+
+	public SparsePlateauOccupancy(int columns, int rows, int expectedOccupied) {
+		this.columns = columns;
+		this.rows = rows;
+		int stripeCapacity = tableSizeFor(Math.max(MINIMAL_CAPACITY, (expectedOccupied >> STRIPE_BITS) * 2));
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe(stripeCapacity);
+		}
+	}
+
+	@Override
+	public void setOccupied(int x, int y) {
+		long key = key(x, y);
+		Stripe stripe = stripeFor(key);
+		synchronized (stripe) {
+			stripe.add(key);
+		}
+	}
+
+	@Override
+	public void setFree(int x, int y) {
+		long key = key(x, y);
+		Stripe stripe = stripeFor(key);
+		synchronized (stripe) {
+			stripe.remove(key);
+		}
+	}
+
+	@Override
+	public boolean isOccupied(int x, int y) {
+		long key = key(x, y);
+		Stripe stripe = stripeFor(key);
+		synchronized (stripe) {
+			return stripe.contains(key);
+		}
+	}
+
+	@Override
+	public boolean tryOccupy(int x, int y) {
+		long key = key(x, y);
+		Stripe stripe = stripeFor(key);
+		synchronized (stripe) {
+			return stripe.add(key);
+		}
+	}
+
+	@Override
+	public boolean tryMove(int fromX, int fromY, int toX, int toY) {
+		long from = key(fromX, fromY);
+		long to = key(toX, toY);
+		if (from == to) {
+			return true;
+		}
+		int fromIndex = stripeIndex(from);
+		int toIndex = stripeIndex(to);
+		Stripe first = stripes[Math.min(fromIndex, toIndex)];
+		Stripe second = stripes[Math.max(fromIndex, toIndex)];
+		synchronized (first) {
+			synchronized (second) {
+				if (!stripes[toIndex].add(to)) {
+					return false;
+				}
+				stripes[fromIndex].remove(from);
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	public int getNumberOfOccupiedLocations() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * {@link PackedCoordinates} of the occupied locations, e.g. for a snapshot of the plateau
+	 */
+	public long[] getOccupiedLocations() {
+		LongStream.Builder locations = LongStream.builder();
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				for (long key : stripe.keys) {
+					if (key != EMPTY) {
+						locations.add(key);
+					}
+				}
+			}
+		}
+		return locations.build().toArray();
+	}
+
+	/**
+	 * Same behaviour as the dense occupancy for the locations out of the plateau
+	 */
+	private long key(int x, int y) {
+		if (x < 0 || x >= columns || y < 0 || y >= rows) {
+			throw new ArrayIndexOutOfBoundsException(String.format("Location [%d, %d] out of [%d, %d]", x, y, columns, rows));
+		}
+		return PackedCoordinates.pack(x, y);
+	}
+
+	private Stripe stripeFor(long key) {
+		return stripes[stripeIndex(key)];
+	}
+
+	/**
+	 * The high bits of the hash select the stripe, the low bits the slot inside the stripe
+	 */
+	private static int stripeIndex(long key) {
+		return hash(key) >>> (Integer.SIZE - STRIPE_BITS);
+	}
+
+	private static int hash(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int) key;
+	}
+
+	private static int tableSizeFor(int capacity) {
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		return size <= 0 ? 1 << 30 : size;
+	}
+
+	/**
+	 * Not thread safe, guarded by its own monitor
+	 */
+	private static class Stripe {
+
+		private long[] keys;
+
+		private int mask;
+
+		private int size;
+
+		Stripe(int capacity) {
+			allocate(capacity);
+		}
+
+		boolean contains(long key) {
+			return keys[indexOf(key)] == key;
+		}
+
+		/**
+		 * @return false if the key was already present
+		 */
+		boolean add(long key) {
+			int index = indexOf(key);
+			if (keys[index] == key) {
+				return false;
+			}
+			keys[index] = key;
+			if (++size * 2 > keys.length) {
+				rehash(keys.length * 2);
+			}
+			return true;
+		}
+
+		void remove(long key) {
+			int index = indexOf(key);
+			if (keys[index] != key) {
+				return;
+			}
+			// backward shift deletion: no tombstone, the probe sequences stay short
+			int hole = index;
+			int next = (hole + 1) & mask;
+			while (keys[next] != EMPTY) {
+				int home = hash(keys[next]) & mask;
+				if (((next - home) & mask) >= ((next - hole) & mask)) {
+					keys[hole] = keys[next];
+					hole = next;
+				}
+				next = (next + 1) & mask;
+			}
+			keys[hole] = EMPTY;
+			size--;
+		}
+
+		/**
+		 * @return the slot of the key, or the empty slot where it should be inserted
+		 */
+		private int indexOf(long key) {
+			int index = hash(key) & mask;
+			while (keys[index] != EMPTY && keys[index] != key) {
+				index = (index + 1) & mask;
+			}
+			return index;
+		}
+
+		private void rehash(int capacity) {
+			long[] oldKeys = keys;
+			allocate(capacity);
+			for (long key : oldKeys) {
+				if (key != EMPTY) {
+					keys[indexOf(key)] = key;
+				}
+			}
+		}
+
+		private void allocate(int capacity) {
+			keys = new long[capacity];
+			Arrays.fill(keys, EMPTY);
+			mask = capacity - 1;
+		}
+
+	}
+
+}
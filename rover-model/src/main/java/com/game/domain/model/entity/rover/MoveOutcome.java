@@ -0,0 +1,23 @@
+package com.game.domain.model.entity.rover;
+
+/**
+ * How a move requested through {@link Rover#tryMoveNumberOfTimes(int)} ended
+ */
+public enum MoveOutcome {
+
+	/**
+	 * All the steps were done
+	 */
+	MOVED,
+
+	/**
+	 * Stopped in front of another rover
+	 */
+	BLOCKED_BY_ROVER,
+
+	/**
+	 * Stopped at the edge of the plateau
+	 */
+	OUT_OF_PLATEAU;
+
+}
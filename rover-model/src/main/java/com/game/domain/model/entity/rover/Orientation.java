@@ -11,7 +11,7 @@ import com.game.domain.model.entity.enums.GameEnum;
 
 public enum Orientation implements GameEnum<String> {
 
-	NORTH("N", 1) {
+	NORTH("N", 1, 0, 1) {
 
 		@Override
 		Orientation turnLeft() {
@@ -24,7 +24,7 @@ public enum Orientation implements GameEnum<String> {
 		}
 	},
 
-	EAST("E", 1) {
+	EAST("E", 1, 1, 0) {
 
 		@Override
 		Orientation turnLeft() {
@@ -37,7 +37,7 @@ public enum Orientation implements GameEnum<String> {
 		}
 	},
 
-	SOUTH("S", -1) {
+	SOUTH("S", -1, 0, -1) {
 
 		@Override
 		Orientation turnLeft() {
@@ -50,7 +50,7 @@ public enum Orientation implements GameEnum<String> {
 		}
 	},
 
-	WEST("W", -1) {
+	WEST("W", -1, -1, 0) {
 
 		@Override
 		Orientation turnLeft() {
@@ -70,13 +70,17 @@ public enum Orientation implements GameEnum<String> {
 	 * along the corresponding axis
 	 */
 	private int axisDirection;
-		
-	private static final Orientation[] HORIZONTAL_ORIENTATIONS = {WEST, EAST};
 
+	/**
+	 * Unit shift along each axis, precomputed for the move hot path
+	 */
+	private final int dx, dy;
 
-	Orientation(String value, int axisDirection) {
+	Orientation(String value, int axisDirection, int dx, int dy) {
 		this.value = value;
 		this.axisDirection = axisDirection;
+		this.dx = dx;
+		this.dy = dy;
 	}
 
 	public String getValue() {
@@ -91,12 +95,16 @@ public enum Orientation implements GameEnum<String> {
 
 	abstract Orientation turnRight();
 	
-	public boolean isHorizontal() {
-		return isTypeInArray(this, HORIZONTAL_ORIENTATIONS);
+	public int getDx() {
+		return dx;
+	}
+
+	public int getDy() {
+		return dy;
 	}
 	
-	private static boolean isTypeInArray(final Orientation orientation, final Orientation[] array) {
-		return Arrays.stream(array).anyMatch(orientation::equals);
+	public boolean isHorizontal() {
+		return dy == 0;
 	}
 
 	private static final Map<String, Orientation> lookup = new HashMap<>();
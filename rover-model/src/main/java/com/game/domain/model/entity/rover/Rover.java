@@ -3,12 +3,13 @@ package com.game.domain.model.entity.rover;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
 import com.game.core.validation.ArgumentCheck;
 import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.IdentifiedPublisherDomainEntity;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.plateau.Plateau;
 import com.game.domain.model.event.DomainEvent;
 import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
 import com.game.domain.model.event.rover.RoverInitializedEvent;
@@ -28,21 +29,59 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 
 	private Orientation orientation;
 
-	private TwoDimensionalCoordinates position;
+	/**
+	 * {@link PackedCoordinates}: no allocation when the rover moves
+	 */
+	private long position;
 	
 	/**
 	 * Rover step length - configurable in the GameContext Default = 1
 	 */
 	private int step = GameContext.getInstance().getRoverStepLength();
 
+	/**
+	 * Plateau resolved once, until the next {@link GameContext#reset()}
+	 */
+	private transient Plateau plateau;
+
+	private transient int plateauGeneration;
+
 	public final Function<DomainEvent, DomainEvent> moveRover = event -> {
-		this.position = ((RoverMovedEvent) event).getCurrentPosition();
-		validate(new RoverMovedPositionValidationNotificationHandler());
+		RoverMovedEvent movedEvent = (RoverMovedEvent) event;
+		this.position = movedEvent.getPackedCurrentPosition();
+		if (!RoverValidator.isValidPosition(getPlateau(), position)) {
+			validate(new RoverMovedPositionValidationNotificationHandler());
+		}
+		// the validation only gives a hint on the target location: the move is
+		// claimed atomically on the plateau, a concurrent rover may have taken it meanwhile
+		publishEvent(new PlateauSwitchedLocationEvent.Builder().withPlateauId(movedEvent.getPlateauUUID()).withRoverId(getId())
+				.withPreviousPosition(movedEvent.getPackedPreviousPosition())
+				.withCurrentPosition(movedEvent.getPackedCurrentPosition()).build());
 		return event;
 	};
 	
+	/**
+	 * Same as {@link #moveRover} for a move whose locations were claimed beforehand, see
+	 * {@link #claimPath(Plateau, int)}: the target is held by the rover itself, so it is not
+	 * validated again and claiming it again through the published event changes nothing
+	 */
+	final Function<DomainEvent, DomainEvent> moveRoverAlongClaimedPath = event -> {
+		RoverMovedEvent movedEvent = (RoverMovedEvent) event;
+		this.position = movedEvent.getPackedCurrentPosition();
+		publishEvent(new PlateauSwitchedLocationEvent.Builder().withPlateauId(movedEvent.getPlateauUUID()).withRoverId(getId())
+				.withPreviousPosition(movedEvent.getPackedPreviousPosition())
+				.withCurrentPosition(movedEvent.getPackedCurrentPosition()).build());
+		return event;
+	};
+
 	public final Function<DomainEvent, DomainEvent> initializeRover = event -> {
-		validate(new EntityDefaultValidationNotificationHandler());
+		if (!RoverValidator.isValidPosition(getPlateau(), position)) {
+			validate(new EntityDefaultValidationNotificationHandler());
+		}
+		// the landing location is claimed before the initialization is stored: a rover
+		// losing the location to a concurrent one is neither persisted nor stored
+		publishEvent(new PlateauSwitchedLocationEvent.Builder().withPlateauId(getId().getPlateauId()).withRoverId(getId())
+				.withCurrentPosition(position).build());
 		return event;
 	};
 
@@ -72,7 +111,7 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 	 */
 	public Rover(RoverIdentifier id, TwoDimensionalCoordinates coordinates, Orientation orientation) {
 		this.id = ArgumentCheck.preNotNull(id, GameExceptionLabels.MISSING_ROVER_IDENTIFIER);
-		this.position = ArgumentCheck.preNotNull(coordinates, GameExceptionLabels.MISSING_ROVER_POSITION);
+		this.position = ArgumentCheck.preNotNull(coordinates, GameExceptionLabels.MISSING_ROVER_POSITION).pack();
 		this.orientation = ArgumentCheck.preNotNull(orientation, GameExceptionLabels.MISSING_ROVER_ORIENTATION);
 	}
 
@@ -85,36 +124,142 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 		return validate(new EntityDefaultValidationNotificationHandler());
 	}
 
+	/**
+	 * @return the plateau of the rover, resolved again after a reset of the game
+	 */
+	Plateau getPlateau() {
+		GameContext context = GameContext.getInstance();
+		int generation = context.getGeneration();
+		if (plateau == null || plateauGeneration != generation) {
+			plateau = context.getPlateau(getId().getPlateauId());
+			plateauGeneration = generation;
+		}
+		return plateau;
+	}
+
 	public void move() {
 		moveNumberOfTimes(1);
 	}
 
 	public void moveNumberOfTimes(int numberOfTimes) {
 
-		IntStream.range(0, numberOfTimes).forEach(i -> {
+		if (numberOfTimes > 1 && GameContext.getInstance().isBulkMoveEnabled()) {
+			moveInBulk(numberOfTimes);
+			return;
+		}
+
+		for (int i = 0; i < numberOfTimes; i++) {
 			moveWithEvent(step);
-		});
+		}
 
 	}
 
+	/**
+	 * The free part of the path is scanned on the plateau occupancy, claimed location by location
+	 * and applied as one compacted move. If the rover is blocked before the end (plateau edge,
+	 * other rover or a rover crossing the path since the scan), the remaining steps go through
+	 * the regular single step move, so that they fail exactly as they would have step by step
+	 */
+	private void moveInBulk(int numberOfTimes) {
+
+		Plateau plateau = getPlateau();
+		int dx = orientation.getDx() * step;
+		int dy = orientation.getDy() * step;
+		int freeSteps = plateau.getFreePathLength(getXPosition(), getYPosition(), dx, dy, numberOfTimes);
+		int claimedSteps = claimPath(plateau, freeSteps);
+
+		if (claimedSteps > 0) {
+			moveAlongClaimedPath(claimedSteps);
+		}
+
+		for (int i = claimedSteps; i < numberOfTimes; i++) {
+			moveWithEvent(step);
+		}
+	}
+
+	/**
+	 * Claims the next locations of the path one after the other, holding one location at a time
+	 * as a rover moving step by step does: a rover entering the path after the scan is never
+	 * jumped over, the claim stops in front of it
+	 * 
+	 * @return the number of steps claimed, at most numberOfSteps
+	 */
+	private int claimPath(Plateau plateau, int numberOfSteps) {
+		long claimed = this.position;
+		int claimedSteps = 0;
+		while (claimedSteps < numberOfSteps) {
+			long next = PackedCoordinates.shift(claimed, orientation, step);
+			if (!plateau.tryMoveRover(getId(), claimed, next)) {
+				break;
+			}
+			claimed = next;
+			claimedSteps++;
+		}
+		return claimedSteps;
+	}
+
+	/**
+	 * Moves along the free part of the path only: the rover stops in front of the first
+	 * obstacle and stays in the game, no exception is thrown for it.
+	 * Each location is claimed before the rover moves to it, so that a concurrent rover
+	 * taking the location after the scan blocks the rover as well
+	 * 
+	 * @return how the move ended and the position the rover stopped at
+	 */
+	public RoverMoveResult tryMoveNumberOfTimes(int numberOfTimes) {
+
+		Plateau plateau = getPlateau();
+		int freeSteps = plateau.getFreePathLength(getXPosition(), getYPosition(), orientation.getDx() * step,
+				orientation.getDy() * step, numberOfTimes);
+
+		if (freeSteps > 1 && GameContext.getInstance().isBulkMoveEnabled()) {
+			int claimedSteps = claimPath(plateau, freeSteps);
+			if (claimedSteps > 0) {
+				moveAlongClaimedPath(claimedSteps);
+			}
+			if (claimedSteps < freeSteps) {
+				return new RoverMoveResult(MoveOutcome.BLOCKED_BY_ROVER, getPosition());
+			}
+		} else {
+			for (int i = 0; i < freeSteps; i++) {
+				if (claimPath(plateau, 1) == 0) {
+					return new RoverMoveResult(MoveOutcome.BLOCKED_BY_ROVER, getPosition());
+				}
+				moveAlongClaimedPath(1);
+			}
+		}
+
+		MoveOutcome outcome = MoveOutcome.MOVED;
+		if (freeSteps < numberOfTimes) {
+			long blocked = PackedCoordinates.shift(this.position, orientation, step);
+			int x = PackedCoordinates.abscissa(blocked);
+			int y = PackedCoordinates.ordinate(blocked);
+			outcome = x < 0 || y < 0 || x > plateau.getWidth() || y > plateau.getHeight() ? MoveOutcome.OUT_OF_PLATEAU
+					: MoveOutcome.BLOCKED_BY_ROVER;
+		}
+		return new RoverMoveResult(outcome, getPosition());
+	}
+
+	/**
+	 * One event for all the steps, compacted if more than one. The locations of the steps
+	 * must have been claimed with {@link #claimPath(Plateau, int)}
+	 */
+	private void moveAlongClaimedPath(int numberOfSteps) {
+		RoverMovedEvent event = buildRoverMovedEvent(this.position)
+				.withCurrentPosition(PackedCoordinates.shift(this.position, orientation, numberOfSteps * step))
+				.withNumberOfSteps(numberOfSteps).build();
+		applyAndPublishEvent(event, moveRoverAlongClaimedPath, moveRoverWithException);
+	}
+
 	private void moveWithEvent(int step) {
 		
-		TwoDimensionalCoordinates previousPosition = this.position;
-		
-		TwoDimensionalCoordinates currentPosition = getCoordinates().shiftWithOrientation(this.orientation, step);
-
 		// build event with previous and updated position
-		RoverMovedEvent event = buildRoverMovedEvent(previousPosition)
-				.withCurrentPosition(currentPosition).build();
+		RoverMovedEvent event = buildRoverMovedEvent(this.position)
+				.withCurrentPosition(PackedCoordinates.shift(this.position, this.orientation, step)).build();
 
 		// apply the event to the current in-memory instance
 		// and publish the event for persistence purpose (DB instance + event store)
 		applyAndPublishEvent(event, moveRover, moveRoverWithException);
-		
-		PlateauSwitchedLocationEvent plateauEvent = new PlateauSwitchedLocationEvent.Builder().withPlateauId(event.getPlateauUUID()).
-				withPreviousPosition(previousPosition).withCurrentPosition(currentPosition).build();
-		
-		publishEvent(plateauEvent);
 	}
 
 	/**
@@ -140,7 +285,7 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 		applyAndPublishEvent(event, turnRover);
 	}
 
-	private Builder buildRoverMovedEvent(TwoDimensionalCoordinates previousPosition) {
+	private Builder buildRoverMovedEvent(long previousPosition) {
 		return new RoverMovedEvent.Builder().withRoverId(new RoverIdentifierDto(getId(), getVersion()))
 				.withPreviousPosition(previousPosition);
 	}
@@ -154,11 +299,15 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 	}
 
 	public TwoDimensionalCoordinates getPosition() {
-		return position;
+		return PackedCoordinates.unpack(position);
 	}
 
 	public void setPosition(TwoDimensionalCoordinates position) {
-		this.position = position;
+		this.position = position.pack();
+	}
+
+	public long getPackedPosition() {
+		return position;
 	}
 
 	public Orientation getOrientation() {
@@ -170,15 +319,15 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 	}
 
 	public TwoDimensionalCoordinates getCoordinates() {
-		return position;
+		return getPosition();
 	}
 
 	public int getXPosition() {
-		return getCoordinates().getAbscissa();
+		return PackedCoordinates.abscissa(position);
 	}
 
 	public int getYPosition() {
-		return getCoordinates().getOrdinate();
+		return PackedCoordinates.ordinate(position);
 	}
 
 	@Override
@@ -190,7 +339,7 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 
 		if (obj instanceof Rover) {
 			Rover other = (Rover) obj;
-			return Objects.equals(id, other.getId()) && Objects.equals(getCoordinates(), other.getCoordinates())
+			return Objects.equals(id, other.getId()) && position == other.position
 					&& Objects.equals(getOrientation(), other.getOrientation());
 		}
 
@@ -199,7 +348,7 @@ public class Rover extends IdentifiedPublisherDomainEntity<Rover, RoverIdentifie
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(getId(), getCoordinates(), getOrientation());
+		return Objects.hash(getId(), PackedCoordinates.hash(position), getOrientation());
 	}
 
 	@Override
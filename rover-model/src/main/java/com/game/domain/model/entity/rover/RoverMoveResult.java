@@ -0,0 +1,57 @@
+package com.game.domain.model.entity.rover;
+
+import java.util.Objects;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+
+/**
+ * Result of a move which does not throw: the outcome and the position the rover stopped at
+ */
+public class RoverMoveResult {
+
+	private final MoveOutcome outcome;
+
+	private final TwoDimensionalCoordinates position;
+
+	public RoverMoveResult(MoveOutcome outcome, TwoDimensionalCoordinates position) {
+		this.outcome = outcome;
+		this.position = position;
+	}
+
+	public MoveOutcome getOutcome() {
+		return outcome;
+	}
+
+	public TwoDimensionalCoordinates getPosition() {
+		return position;
+	}
+
+	public boolean isMoved() {
+		return outcome == MoveOutcome.MOVED;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (obj instanceof RoverMoveResult) {
+			RoverMoveResult other = (RoverMoveResult) obj;
+			return outcome == other.getOutcome() && Objects.equals(position, other.getPosition());
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(outcome, position);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Outcome [%s] - Position [%s]", outcome, position);
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.game.domain.model.entity.rover;
+
+import java.util.function.LongConsumer;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+
+/**
+ * Follows the instructions of a rover without moving it, reporting each location it would stand on
+ * as {@link PackedCoordinates}. The other rovers are not considered: the rover never goes outside of
+ * these locations, which tells the rovers that may interact. The path ends at the plateau edge,
+ * where the rover would leave the game
+ */
+public class RoverPath {
+
+	private final int width;
+
+	private final int height;
+
+	private final int stepLength;
+
+	private final LongConsumer visitor;
+
+	private long position;
+
+	private Orientation orientation;
+
+	private boolean outOfPlateau;
+
+	public RoverPath(TwoDimensionalCoordinates start, Orientation orientation, int stepLength, int width, int height,
+			LongConsumer visitor) {
+		this.position = start.pack();
+		this.orientation = orientation;
+		this.stepLength = stepLength;
+		this.width = width;
+		this.height = height;
+		this.visitor = visitor;
+		visitor.accept(position);
+	}
+
+	public void turn(RoverTurnInstruction turn) {
+		switch (turn) {
+		case LEFT:
+			orientation = orientation.turnLeft();
+			break;
+		case RIGHT:
+			orientation = orientation.turnRight();
+			break;
+		default:
+			// do nothing
+		}
+	}
+
+	public void move(int numberOfSteps) {
+		for (int i = 0; i < numberOfSteps && !outOfPlateau; i++) {
+			position = PackedCoordinates.shift(position, orientation, stepLength);
+			int x = PackedCoordinates.abscissa(position);
+			int y = PackedCoordinates.ordinate(position);
+			outOfPlateau = x < 0 || y < 0 || x > width || y > height;
+			if (!outOfPlateau) {
+				visitor.accept(position);
+			}
+		}
+	}
+
+}
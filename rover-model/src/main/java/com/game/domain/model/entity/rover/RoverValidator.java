@@ -1,7 +1,7 @@
 package com.game.domain.model.entity.rover;
 
-import com.game.domain.application.context.GameContext;
-import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.plateau.Plateau;
 import com.game.domain.model.exception.GameExceptionLabels;
 import com.game.domain.model.validation.EntityValidator;
 import com.game.domain.model.validation.ValidationNotificationHandler;
@@ -12,59 +12,49 @@ public class RoverValidator extends EntityValidator<Rover> {
 		super(rover, handler);
 	}
 
+	/**
+	 * Fast path of the validation, run on each step: only primitive comparisons on the bounds of the
+	 * plateau and one occupancy lookup. When it fails, the complete validation gives the reasons
+	 * 
+	 * @param plateau resolved by {@link Rover#getPlateau()}
+	 * @return true if the position is inside the plateau and free
+	 */
+	static boolean isValidPosition(Plateau plateau, long position) {
+		int x = PackedCoordinates.abscissa(position);
+		int y = PackedCoordinates.ordinate(position);
+		return plateau != null && x >= 0 && y >= 0 && x <= plateau.getWidth() && y <= plateau.getHeight()
+				&& !plateau.isLocationBusy(position);
+	}
+
+	/**
+	 * The error messages are only formatted for the failed checks
+	 */
 	@Override
 	protected void doValidate() {
 
-		if (isXPositionNegative())
-			this.notificationHandler()
-					.handleError(String.format(GameExceptionLabels.ROVER_NEGATIVE_X, entity().getXPosition()));
-
-		if (isYPositionNegative())
-			this.notificationHandler()
-					.handleError(String.format(GameExceptionLabels.ROVER_NEGATIVE_Y, entity().getYPosition()));
-
-		if (isXPositionOutOfBoard())
-			this.notificationHandler().handleError(String.format(GameExceptionLabels.ROVER_X_OUT_OF_PLATEAU,
-					entity().getXPosition(), GameContext.getInstance().getPlateau(entity().getId().getPlateauId()).getWidth()));
+		Plateau plateau = entity().getPlateau();
+		int x = entity().getXPosition();
+		int y = entity().getYPosition();
 
-		if (isYPositionOutOfBoard())
-			this.notificationHandler().handleError(String.format(GameExceptionLabels.ROVER_Y_OUT_OF_PLATEAU,
-					entity().getYPosition(), GameContext.getInstance().getPlateau(entity().getId().getPlateauId()).getHeight()));
+		if (x < 0)
+			this.notificationHandler().handleError(String.format(GameExceptionLabels.ROVER_NEGATIVE_X, x));
 
-		if (areBothCoordinatesPositive() && areBothCoordinatesInsideTheBoard() && positionAlreadyBusy())
-			this.notificationHandler().handleError(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET,
-					entity().getXPosition(), entity().getYPosition()));
-
-	}
+		if (y < 0)
+			this.notificationHandler().handleError(String.format(GameExceptionLabels.ROVER_NEGATIVE_Y, y));
 
+		boolean xOutOfBoard = x > plateau.getWidth();
+		if (xOutOfBoard)
+			this.notificationHandler().handleError(
+					String.format(GameExceptionLabels.ROVER_X_OUT_OF_PLATEAU, x, plateau.getWidth()));
 
-	private boolean isXPositionNegative() {
-		return entity().getXPosition() < 0;
-	}
+		boolean yOutOfBoard = y > plateau.getHeight();
+		if (yOutOfBoard)
+			this.notificationHandler().handleError(
+					String.format(GameExceptionLabels.ROVER_Y_OUT_OF_PLATEAU, y, plateau.getHeight()));
 
-	private boolean isYPositionNegative() {
-		return entity().getYPosition() < 0;
-	}
+		if (x >= 0 && y >= 0 && !xOutOfBoard && !yOutOfBoard && plateau.isLocationBusy(entity().getPackedPosition()))
+			this.notificationHandler().handleError(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET, x, y));
 
-	private boolean areBothCoordinatesPositive() {
-		return !(isXPositionNegative() || isYPositionNegative());
-	}
-
-	private boolean isXPositionOutOfBoard() {
-		return entity().getXPosition() > GameContext.getInstance().getPlateau(entity().getId().getPlateauId()).getWidth();
-	}
-
-	private boolean isYPositionOutOfBoard() {
-		return entity().getYPosition() > GameContext.getInstance().getPlateau(entity().getId().getPlateauId()).getHeight();
-	}
-
-	private boolean areBothCoordinatesInsideTheBoard() {
-		return !(isXPositionOutOfBoard() || isYPositionOutOfBoard());
-	}
-	
-	private boolean positionAlreadyBusy() {
-		return GameContext.getInstance().getPlateau(entity().getId().getPlateauId())
-				.isLocationBusy(new TwoDimensionalCoordinates(entity().getXPosition(), entity().getYPosition()));
 	}
 
 }
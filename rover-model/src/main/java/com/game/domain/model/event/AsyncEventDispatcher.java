@@ -0,0 +1,187 @@
+package com.game.domain.model.event;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.game.domain.model.exception.EventPublicationException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+/**
+ * Delivers the events to the asynchronous subscribers on a pool of partitions.
+ * Each partition is a single thread consuming a bounded FIFO queue, and an event is routed
+ * to its partition by its rover identifier (or plateau identifier for the plateau events):
+ * the events of a given rover/plateau are thus handled in their publication order,
+ * while the events of unrelated aggregates are handled in parallel.
+ * <p>
+ * When a partition queue is full, the {@link BackpressurePolicy} decides whether the publisher
+ * waits for a free slot or gets an {@link EventPublicationException}.
+ * </p>
+ * The exceptions of the deliveries are collected and thrown by the next {@link #flush(long, TimeUnit)}
+ * or {@link #shutdown()}: the first one, carrying the next ones as suppressed exceptions.
+ */
+public class AsyncEventDispatcher {
+
+	public enum BackpressurePolicy {
+		/**
+		 * The publisher waits until the queue has room for the event
+		 */
+		BLOCK,
+		/**
+		 * The event is rejected with an {@link EventPublicationException}
+		 */
+		REJECT
+	}
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private final ThreadPoolExecutor[] partitions;
+
+	private final int queueCapacity;
+
+	private final Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+
+	public AsyncEventDispatcher(int numberOfPartitions) {
+		this(numberOfPartitions, DEFAULT_QUEUE_CAPACITY, BackpressurePolicy.BLOCK);
+	}
+
+	public AsyncEventDispatcher(int numberOfPartitions, int queueCapacity, BackpressurePolicy policy) {
+		this.queueCapacity = queueCapacity;
+		this.partitions = new ThreadPoolExecutor[numberOfPartitions];
+		for (int i = 0; i < numberOfPartitions; i++) {
+			String threadName = "event-dispatch-" + i;
+			ThreadPoolExecutor partition = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+						Thread thread = new Thread(runnable, threadName);
+						thread.setDaemon(true);
+						return thread;
+					}, rejectionHandler(policy));
+			partitions[i] = partition;
+		}
+	}
+
+	/**
+	 * Queues the delivery of the event in the partition of its aggregate
+	 */
+	public void dispatch(DomainEvent event, Runnable delivery) {
+		dispatch(partitionKey(event), event, delivery);
+	}
+
+	/**
+	 * Same with an explicit partition key: the deliveries of the same key are run in their dispatch order
+	 */
+	public void dispatch(Object partitionKey, DomainEvent event, Runnable delivery) {
+		partitions[partitionIndex(partitionKey)].execute(new Delivery(event, delivery));
+	}
+
+	/**
+	 * Waits until all the events dispatched so far have been delivered
+	 * @return false if the timeout elapsed before
+	 * @throws RuntimeException the first delivery failure collected so far
+	 */
+	public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(partitions.length);
+		for (ThreadPoolExecutor partition : partitions) {
+			// FIFO single thread: the marker runs after all the tasks already queued
+			partition.getQueue().put(latch::countDown);
+			partition.prestartCoreThread();
+		}
+		boolean flushed = latch.await(timeout, unit);
+		throwFailures();
+		return flushed;
+	}
+
+	/**
+	 * Delivers the events already queued and stops the partitions
+	 * @throws RuntimeException the first delivery failure collected so far
+	 */
+	public void shutdown() {
+		for (ThreadPoolExecutor partition : partitions) {
+			partition.shutdown();
+		}
+		throwFailures();
+	}
+
+	public int getNumberOfPartitions() {
+		return partitions.length;
+	}
+
+	int partitionIndex(DomainEvent event) {
+		return partitionIndex(partitionKey(event));
+	}
+
+	private int partitionIndex(Object key) {
+		int hash = key == null ? 0 : key.hashCode();
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % partitions.length;
+	}
+
+	private static Object partitionKey(DomainEvent event) {
+		return event.roverId() != null ? event.roverId() : event.plateauId();
+	}
+
+	private RejectedExecutionHandler rejectionHandler(BackpressurePolicy policy) {
+		if (policy == BackpressurePolicy.REJECT) {
+			return (task, executor) -> {
+				throw new EventPublicationException(
+						String.format(GameExceptionLabels.EVENT_QUEUE_FULL, eventOf(task), queueCapacity));
+			};
+		}
+		return (task, executor) -> {
+			if (executor.isShutdown()) {
+				throw new EventPublicationException(
+						String.format(GameExceptionLabels.EVENT_QUEUE_FULL, eventOf(task), queueCapacity));
+			}
+			try {
+				executor.getQueue().put(task);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new EventPublicationException(
+						String.format(GameExceptionLabels.EVENT_DISPATCH_INTERRUPTED, eventOf(task)), e);
+			}
+		};
+	}
+
+	private void throwFailures() {
+		RuntimeException failure = failures.poll();
+		if (failure == null) {
+			return;
+		}
+		RuntimeException next;
+		while ((next = failures.poll()) != null) {
+			failure.addSuppressed(next);
+		}
+		throw failure;
+	}
+
+	private static Object eventOf(Runnable task) {
+		return task instanceof Delivery ? ((Delivery) task).event : task;
+	}
+
+	private class Delivery implements Runnable {
+
+		private final DomainEvent event;
+
+		private final Runnable delivery;
+
+		Delivery(DomainEvent event, Runnable delivery) {
+			this.event = event;
+			this.delivery = delivery;
+		}
+
+		@Override
+		public void run() {
+			try {
+				delivery.run();
+			} catch (RuntimeException exception) {
+				failures.add(exception);
+			}
+		}
+
+	}
+
+}
@@ -1,18 +1,73 @@
 package com.game.domain.model.event;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public class BaseDomainEvent implements DomainEvent {
 
+	private static volatile EventClock clock = EventClock.monotonic();
+
+	/**
+	 * Nanoseconds since the epoch, see {@link EventClock}
+	 */
+	private long timestamp;
+
+	/**
+	 * Derived from the timestamp on first access
+	 */
 	private LocalDateTime occuredOn;
 
 	public BaseDomainEvent() {
-		this.occuredOn = LocalDateTime.now();
+		this.timestamp = clock.epochNanos();
+	}
+
+	/**
+	 * Replaces the clock of the events created from now on
+	 *
+	 * @return the previous clock
+	 */
+	public static EventClock useClock(EventClock eventClock) {
+		EventClock previous = clock;
+		clock = eventClock;
+		return previous;
 	}
 
 	@Override
 	public LocalDateTime occuredOn() {
-		return occuredOn;
+		LocalDateTime date = occuredOn;
+		if (date == null) {
+			date = LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(timestamp, EventClock.NANOS_PER_SECOND),
+					Math.floorMod(timestamp, EventClock.NANOS_PER_SECOND)), ZoneId.systemDefault());
+			occuredOn = date;
+		}
+		return date;
+	}
+
+	/**
+	 * @return the occurrence time in nanoseconds since the epoch
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Restores the original occurrence date when the event is rebuilt
+	 * from a persistent event store
+	 * @param occuredOn
+	 */
+	public void setOccuredOn(LocalDateTime occuredOn) {
+		Instant instant = occuredOn.atZone(ZoneId.systemDefault()).toInstant();
+		this.timestamp = instant.getEpochSecond() * EventClock.NANOS_PER_SECOND + instant.getNano();
+		this.occuredOn = occuredOn;
+	}
+
+	/**
+	 * Same as {@link #setOccuredOn(LocalDateTime)} with the time in nanoseconds since the epoch
+	 */
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+		this.occuredOn = null;
 	}
 
 }
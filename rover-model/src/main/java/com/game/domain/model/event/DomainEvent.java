@@ -1,9 +1,27 @@
 package com.game.domain.model.event;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.game.domain.model.entity.rover.RoverIdentifier;
 
 public interface DomainEvent {
 	
 	LocalDateTime occuredOn();
 
+	/**
+	 * Plateau the event relates to, null if not relevant
+	 * Used by the event store readers to filter the events
+	 */
+	default UUID plateauId() {
+		return null;
+	}
+
+	/**
+	 * Rover the event relates to, null if not relevant
+	 */
+	default RoverIdentifier roverId() {
+		return null;
+	}
+
 }
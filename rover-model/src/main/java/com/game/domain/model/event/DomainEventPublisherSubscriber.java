@@ -1,19 +1,31 @@
 package com.game.domain.model.event;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import com.game.domain.model.exception.EventPublicationException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
 /**
  * Observer to publish/subscribe {@link DomainEvent}
+ * The events are dispatched through the {@link SubscriberRegistry} dispatch table
+ * The registry is global and shared by all the threads: the subscribers are registered once
+ * at startup by the GameContext, and a subscription only replaces the immutable registry
+ * By default the subscribers are called synchronously on the publisher thread. Once an
+ * {@link AsyncEventDispatcher} is set, only the subscribers which opt into synchronous delivery
+ * ({@link DomainEventSubscriber#isSynchronous()}) are, the others are called by the dispatcher
  *
  */
 public class DomainEventPublisherSubscriber {
 
-	@SuppressWarnings("rawtypes")
-	private static final ThreadLocal<List> subscribers = new ThreadLocal<>();
+	private static volatile SubscriberRegistry registry = SubscriberRegistry.EMPTY;
 
 	private static final ThreadLocal<Boolean> publishing = new ThreadLocal<>();
 
+	/**
+	 * null in synchronous mode
+	 */
+	private static volatile AsyncEventDispatcher asyncDispatcher;
+
 	public static DomainEventPublisherSubscriber instance() {
 		return new DomainEventPublisherSubscriber();
 	}
@@ -24,14 +36,15 @@ public class DomainEventPublisherSubscriber {
 
 		try {
 			publishing.set(Boolean.TRUE);
-			List<DomainEventSubscriber<T,String>> registeredSubscribers = subscribers.get();
-			if (registeredSubscribers != null) {
-				Class<?> eventType = domainEvent.getClass();
-				registeredSubscribers.forEach(subscriber -> {
-					handleEvent(subscriber, eventType, domainEvent);
-				});
+			AsyncEventDispatcher dispatcher = asyncDispatcher;
+			for (DomainEventSubscriber<?, ?> subscriber : registry.subscribersFor(domainEvent.getClass())) {
+				DomainEventSubscriber<T, ?> eventSubscriber = (DomainEventSubscriber<T, ?>) subscriber;
+				if (dispatcher == null || eventSubscriber.isSynchronous()) {
+					eventSubscriber.handleEvent(domainEvent);
+				} else {
+					dispatcher.dispatch(domainEvent, () -> deliver(eventSubscriber, domainEvent));
+				}
 			}
-
 		} finally {
 			publishing.set(Boolean.FALSE);
 		}
@@ -39,34 +52,62 @@ public class DomainEventPublisherSubscriber {
 	}
 
 	
-	@SuppressWarnings("unchecked")
 	public <T extends DomainEvent> void subscribe(DomainEventSubscriber<T, String> subscriber) {
 		if (null !=publishing.get() && publishing.get()) return;
 		
-		List<DomainEventSubscriber<T,String>> registeredSubscribers = subscribers.get();
-		if (registeredSubscribers == null) {
-			registeredSubscribers = new ArrayList<DomainEventSubscriber<T,String>>();
-			subscribers.set(registeredSubscribers);
+		synchronized (DomainEventPublisherSubscriber.class) {
+			registry = registry.with(subscriber);
 		}
-		if (!registeredSubscribers.contains(subscriber))
-		registeredSubscribers.add(subscriber);
 	}
 
-	private <T extends DomainEvent> void handleEvent(DomainEventSubscriber<T,String> subscriber, Class<?> eventType, T domainEvent) {
-		Class<?> subscribedTo = subscriber.subscribedToEventType();
-		if (subscribedTo == eventType) {
+	/**
+	 * Called by the dispatcher threads: as for a synchronous delivery, the events the subscriber
+	 * might publish are ignored. Its exception can not reach the publisher: it is collected
+	 * by the dispatcher, which throws it on its next flush or shutdown
+	 */
+	private static <T extends DomainEvent> void deliver(DomainEventSubscriber<T, ?> subscriber, T domainEvent) {
+		try {
+			publishing.set(Boolean.TRUE);
 			subscriber.handleEvent(domainEvent);
+		} catch (RuntimeException exception) {
+			throw new EventPublicationException(
+					String.format(GameExceptionLabels.EVENT_DELIVERY_FAILED, subscriber.getId(), domainEvent), exception);
+		} finally {
+			publishing.set(Boolean.FALSE);
 		}
+	}
 
+	/**
+	 * Switches to the asynchronous mode
+	 * @return the previous dispatcher, to be shut down by the caller, or null
+	 */
+	public AsyncEventDispatcher useAsyncDispatcher(AsyncEventDispatcher dispatcher) {
+		AsyncEventDispatcher previous = asyncDispatcher;
+		asyncDispatcher = dispatcher;
+		return previous;
 	}
-	
+
+	/**
+	 * Switches back to the synchronous mode
+	 * @return the previous dispatcher, to be shut down by the caller, or null
+	 */
+	public AsyncEventDispatcher useSynchronousDispatch() {
+		return useAsyncDispatcher(null);
+	}
+
+	public static AsyncEventDispatcher getAsyncDispatcher() {
+		return asyncDispatcher;
+	}
+
 	public void clear() {
-		subscribers.remove();
+		registry = SubscriberRegistry.EMPTY;
 	}
 	
-	@SuppressWarnings("rawtypes")
-	public static ThreadLocal<List> getSubscribers() {
-		return subscribers;
+	/**
+	 * @return the immutable list of the subscribers, in their subscription order
+	 */
+	public static List<DomainEventSubscriber<?, String>> getSubscribers() {
+		return registry.getSubscribers();
 	}
 
 	public static ThreadLocal<Boolean> getPublishing() {
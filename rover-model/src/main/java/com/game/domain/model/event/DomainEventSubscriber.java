@@ -8,4 +8,20 @@ public interface DomainEventSubscriber<T,U> {
 	
 	public U getId();
 
+	/**
+	 * By default, a subscriber only receives the events of exactly {@link #subscribedToEventType()}
+	 * Override to receive as well the events of its subclasses/implementations
+	 */
+	default boolean isSubscribedToSubtypes() {
+		return false;
+	}
+
+	/**
+	 * Only relevant when the events are dispatched asynchronously:
+	 * a consistency critical subscriber returns true to be still called on the publisher thread
+	 */
+	default boolean isSynchronous() {
+		return false;
+	}
+
 }
@@ -0,0 +1,61 @@
+package com.game.domain.model.event;
+
+import java.time.Instant;
+
+/**
+ * Source of the occurrence time of the {@link BaseDomainEvent}s, read once per event.
+ * The time is returned as a primitive number of nanoseconds since the epoch, the
+ * {@link java.time.LocalDateTime} being only derived when somebody asks for it.
+ */
+@FunctionalInterface
+public interface EventClock {
+
+	long NANOS_PER_SECOND = 1_000_000_000L;
+
+	long NANOS_PER_MILLI = 1_000_000L;
+
+	/**
+	 * @return the current time in nanoseconds since 1970-01-01T00:00:00Z
+	 */
+	long epochNanos();
+
+	/**
+	 * Chosen with the {@link com.game.domain.application.context.GameContext#EVENT_CLOCK_PROPERTY}
+	 */
+	enum Type {
+		/**
+		 * {@link System#nanoTime()} shifted to the epoch once for all: nanosecond resolution,
+		 * never going backwards, but not following the later adjustments of the wall clock
+		 */
+		MONOTONIC,
+		/**
+		 * {@link System#currentTimeMillis()}: follows the wall clock with a millisecond resolution
+		 */
+		COARSE,
+		/**
+		 * {@link Instant#now()}: the wall clock with the best resolution of the platform,
+		 * at the cost of an allocation per event
+		 */
+		SYSTEM;
+
+		public EventClock create() {
+			switch (this) {
+			case COARSE:
+				return () -> System.currentTimeMillis() * NANOS_PER_MILLI;
+			case SYSTEM:
+				return () -> {
+					Instant now = Instant.now();
+					return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+				};
+			default:
+				return monotonic();
+			}
+		}
+	}
+
+	static EventClock monotonic() {
+		long offset = System.currentTimeMillis() * NANOS_PER_MILLI - System.nanoTime();
+		return () -> System.nanoTime() + offset;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.game.domain.model.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable set of subscribers with its dispatch table event class -> subscribers
+ * The table is computed for the subscribed event types when the registry is built,
+ * and lazily (once) for the other event classes, i.e. subtypes of a subscribed type.
+ * A subscription creates a new registry so that the dispatch never scans the subscribers list.
+ *
+ */
+public class SubscriberRegistry {
+
+	public static final SubscriberRegistry EMPTY = new SubscriberRegistry(Collections.emptyList());
+
+	private static final DomainEventSubscriber<?, ?>[] NO_SUBSCRIBER = new DomainEventSubscriber<?, ?>[0];
+
+	private final List<DomainEventSubscriber<?, String>> subscribers;
+
+	private final Map<Class<?>, DomainEventSubscriber<?, ?>[]> dispatchTable = new ConcurrentHashMap<>();
+
+	private SubscriberRegistry(List<DomainEventSubscriber<?, String>> subscribers) {
+		this.subscribers = Collections.unmodifiableList(subscribers);
+		subscribers.forEach(subscriber -> dispatchTable.computeIfAbsent(subscriber.subscribedToEventType(), this::resolve));
+	}
+
+	/**
+	 * A subscriber with the same id as an already registered one is ignored
+	 */
+	public SubscriberRegistry with(DomainEventSubscriber<?, String> subscriber) {
+		if (subscribers.stream().anyMatch(registered -> registered.getId().equals(subscriber.getId()))) {
+			return this;
+		}
+		List<DomainEventSubscriber<?, String>> newSubscribers = new ArrayList<>(subscribers.size() + 1);
+		newSubscribers.addAll(subscribers);
+		newSubscribers.add(subscriber);
+		return new SubscriberRegistry(newSubscribers);
+	}
+
+	public List<DomainEventSubscriber<?, String>> getSubscribers() {
+		return subscribers;
+	}
+
+	/**
+	 * Subscribers of the given event class, in their subscription order
+	 */
+	public DomainEventSubscriber<?, ?>[] subscribersFor(Class<?> eventType) {
+		DomainEventSubscriber<?, ?>[] eventSubscribers = dispatchTable.get(eventType);
+		return eventSubscribers != null ? eventSubscribers : dispatchTable.computeIfAbsent(eventType, this::resolve);
+	}
+
+	private DomainEventSubscriber<?, ?>[] resolve(Class<?> eventType) {
+		List<DomainEventSubscriber<?, ?>> eventSubscribers = new ArrayList<>();
+		for (DomainEventSubscriber<?, ?> subscriber : subscribers) {
+			Class<?> subscribedTo = subscriber.subscribedToEventType();
+			if (subscribedTo == eventType
+					|| (subscriber.isSubscribedToSubtypes() && subscribedTo.isAssignableFrom(eventType))) {
+				eventSubscribers.add(subscriber);
+			}
+		}
+		return eventSubscribers.isEmpty() ? NO_SUBSCRIBER : eventSubscribers.toArray(NO_SUBSCRIBER);
+	}
+
+}
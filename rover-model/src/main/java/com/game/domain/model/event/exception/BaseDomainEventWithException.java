@@ -1,5 +1,8 @@
 package com.game.domain.model.event.exception;
 
+import java.util.UUID;
+
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.event.BaseDomainEvent;
 import com.game.domain.model.event.DomainEvent;
 
@@ -21,6 +24,16 @@ public class BaseDomainEventWithException<T extends DomainEvent> extends BaseDom
 	public Exception getException() {
 		return exception;
 	}
+
+	@Override
+	public UUID plateauId() {
+		return event == null ? null : event.plateauId();
+	}
+
+	@Override
+	public RoverIdentifier roverId() {
+		return event == null ? null : event.roverId();
+	}
 	
 
 }
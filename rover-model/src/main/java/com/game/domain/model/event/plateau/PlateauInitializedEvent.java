@@ -42,6 +42,11 @@ public class PlateauInitializedEvent extends BaseDomainEvent {
 
 	}
 	
+	@Override
+	public UUID plateauId() {
+		return plateauId;
+	}
+
 	public UUID getPlateauId() {
 		return plateauId;
 	}
@@ -2,34 +2,62 @@ package com.game.domain.model.event.plateau;
 
 import java.util.UUID;
 
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.event.BaseDomainEvent;
 
 public class PlateauSwitchedLocationEvent extends BaseDomainEvent {
 	
 	private UUID plateauId;
 
-	TwoDimensionalCoordinates releasedPosition;
+	/**
+	 * Rover claiming/releasing the locations, to keep the spatial index of the plateau in sync
+	 */
+	private RoverIdentifier roverId;
 
-	TwoDimensionalCoordinates occupiedPosition;
+	/**
+	 * {@link PackedCoordinates}, NONE when the rover lands on the plateau
+	 */
+	long releasedPosition;
+
+	long occupiedPosition;
 
 
 	protected PlateauSwitchedLocationEvent(Builder builder) {
 		this.plateauId = builder.plateauId;
+		this.roverId = builder.roverId;
 		this.releasedPosition = builder.previousPosition;
 		this.occupiedPosition = builder.currentPosition;
 
 	}
 	
+	@Override
+	public UUID plateauId() {
+		return plateauId;
+	}
+
 	public UUID getPlateauId() {
 		return plateauId;
 	}
 
+	public RoverIdentifier getRoverId() {
+		return roverId;
+	}
+
 	public TwoDimensionalCoordinates getPreviousPosition() {
-		return releasedPosition;
+		return PackedCoordinates.unpack(releasedPosition);
 	}
 
 	public TwoDimensionalCoordinates getCurrentPosition() {
+		return PackedCoordinates.unpack(occupiedPosition);
+	}
+
+	public long getPackedPreviousPosition() {
+		return releasedPosition;
+	}
+
+	public long getPackedCurrentPosition() {
 		return occupiedPosition;
 	}
 
@@ -37,19 +65,36 @@ public class PlateauSwitchedLocationEvent extends BaseDomainEvent {
 		
 		private UUID plateauId;
 
-		private TwoDimensionalCoordinates previousPosition, currentPosition;
+		private RoverIdentifier roverId;
+
+		private long previousPosition = PackedCoordinates.NONE, currentPosition = PackedCoordinates.NONE;
 
 		public Builder withPlateauId(UUID plateauId) {
 			   this.plateauId = plateauId;
 			   return this;
 		   }
 
+		public Builder withRoverId(RoverIdentifier roverId) {
+			this.roverId = roverId;
+			return this;
+		}
+
 		public Builder withPreviousPosition(TwoDimensionalCoordinates previousPosition) {
-			this.previousPosition = previousPosition;
+			this.previousPosition = PackedCoordinates.pack(previousPosition);
 			return this;
 		}
 
 		public Builder withCurrentPosition(TwoDimensionalCoordinates currentPosition) {
+			this.currentPosition = PackedCoordinates.pack(currentPosition);
+			return this;
+		}
+
+		public Builder withPreviousPosition(long previousPosition) {
+			this.previousPosition = previousPosition;
+			return this;
+		}
+
+		public Builder withCurrentPosition(long currentPosition) {
 			this.currentPosition = currentPosition;
 			return this;
 		}
@@ -62,7 +107,7 @@ public class PlateauSwitchedLocationEvent extends BaseDomainEvent {
 	
 	@Override
 	public String toString() {
-		return String.format("PlateauSwitchedLocationEvent published at [%s] with plateau id [%s], position released [%s], position occupied [%s]" , super.occuredOn(), plateauId, releasedPosition, occupiedPosition);
+		return String.format("PlateauSwitchedLocationEvent published at [%s] with plateau id [%s], rover [%s], position released [%s], position occupied [%s]" , super.occuredOn(), plateauId, roverId, getPreviousPosition(), getCurrentPosition());
 	}
 
 
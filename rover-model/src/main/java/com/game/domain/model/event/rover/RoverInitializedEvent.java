@@ -1,5 +1,7 @@
 package com.game.domain.model.event.rover;
 
+import java.util.UUID;
+
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.rover.Orientation;
 import com.game.domain.model.entity.rover.RoverIdentifier;
@@ -19,6 +21,16 @@ public class RoverInitializedEvent extends BaseDomainEvent {
 		this.orientation = builder.orientation;
 	}
 
+	@Override
+	public RoverIdentifier roverId() {
+		return roverId;
+	}
+
+	@Override
+	public UUID plateauId() {
+		return roverId == null ? null : roverId.getPlateauId();
+	}
+
 	public RoverIdentifier getRoverId() {
 		return roverId;
 	}
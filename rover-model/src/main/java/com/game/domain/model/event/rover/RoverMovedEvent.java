@@ -1,8 +1,12 @@
 package com.game.domain.model.event.rover;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.entity.rover.RoverIdentifierDto;
 import com.game.domain.model.event.BaseDomainEvent;
 
@@ -10,9 +14,17 @@ public class RoverMovedEvent extends BaseDomainEvent {
 
 	private RoverIdentifierDto roverId;
 
-	TwoDimensionalCoordinates previousPosition;
+	/**
+	 * {@link PackedCoordinates}
+	 */
+	long previousPosition;
 
-	TwoDimensionalCoordinates currentPosition;
+	long currentPosition;
+
+	/**
+	 * Greater than 1 for a compacted move, see {@link #expandSteps()}
+	 */
+	int numberOfSteps;
 	
 
 	protected RoverMovedEvent(Builder builder) {
@@ -20,6 +32,18 @@ public class RoverMovedEvent extends BaseDomainEvent {
 		this.roverId = builder.roverId;
 		this.previousPosition = builder.previousPosition;
 		this.currentPosition = builder.currentPosition;
+		this.numberOfSteps = builder.numberOfSteps;
+	}
+
+	@Override
+	public RoverIdentifier roverId() {
+		return roverId == null ? null : roverId.getId();
+	}
+
+	@Override
+	public UUID plateauId() {
+		RoverIdentifier id = roverId();
+		return id == null ? null : id.getPlateauId();
 	}
 
 	public RoverIdentifierDto getRoverId() {
@@ -31,18 +55,56 @@ public class RoverMovedEvent extends BaseDomainEvent {
 	}
 
 	public TwoDimensionalCoordinates getPreviousPosition() {
-		return previousPosition;
+		return PackedCoordinates.unpack(previousPosition);
 	}
 
 	public TwoDimensionalCoordinates getCurrentPosition() {
+		return PackedCoordinates.unpack(currentPosition);
+	}
+
+	public long getPackedPreviousPosition() {
+		return previousPosition;
+	}
+
+	public long getPackedCurrentPosition() {
 		return currentPosition;
 	}
 
+	public int getNumberOfSteps() {
+		return numberOfSteps;
+	}
+
+	/**
+	 * @return true if the event stands for several steps in a straight line
+	 */
+	public boolean isCompacted() {
+		return numberOfSteps > 1;
+	}
+
+	/**
+	 * For the consumers which need every step of a compacted move
+	 * 
+	 * @return the successive positions, from the first step to the current position
+	 */
+	public List<TwoDimensionalCoordinates> expandSteps() {
+		int x = PackedCoordinates.abscissa(previousPosition);
+		int y = PackedCoordinates.ordinate(previousPosition);
+		int dx = (PackedCoordinates.abscissa(currentPosition) - x) / numberOfSteps;
+		int dy = (PackedCoordinates.ordinate(currentPosition) - y) / numberOfSteps;
+		List<TwoDimensionalCoordinates> steps = new ArrayList<>(numberOfSteps);
+		for (int i = 1; i <= numberOfSteps; i++) {
+			steps.add(new TwoDimensionalCoordinates(x + i * dx, y + i * dy));
+		}
+		return steps;
+	}
+
 	public static class Builder {
 		
 		private RoverIdentifierDto roverId;
 
-		private TwoDimensionalCoordinates previousPosition, currentPosition;
+		private long previousPosition = PackedCoordinates.NONE, currentPosition = PackedCoordinates.NONE;
+
+		private int numberOfSteps = 1;
 
 		public Builder withRoverId(RoverIdentifierDto roverId) {
 			   this.roverId = roverId;
@@ -50,15 +112,30 @@ public class RoverMovedEvent extends BaseDomainEvent {
 		   }
 
 		public Builder withPreviousPosition(TwoDimensionalCoordinates previousPosition) {
-			this.previousPosition = previousPosition;
+			this.previousPosition = PackedCoordinates.pack(previousPosition);
 			return this;
 		}
 
 		public Builder withCurrentPosition(TwoDimensionalCoordinates currentPosition) {
+			this.currentPosition = PackedCoordinates.pack(currentPosition);
+			return this;
+		}
+
+		public Builder withPreviousPosition(long previousPosition) {
+			this.previousPosition = previousPosition;
+			return this;
+		}
+
+		public Builder withCurrentPosition(long currentPosition) {
 			this.currentPosition = currentPosition;
 			return this;
 		}
 
+		public Builder withNumberOfSteps(int numberOfSteps) {
+			this.numberOfSteps = numberOfSteps;
+			return this;
+		}
+
 		public RoverMovedEvent build() {
 			return new RoverMovedEvent(this);
 		}
@@ -67,7 +144,7 @@ public class RoverMovedEvent extends BaseDomainEvent {
 	
 	@Override
 	public String toString() {
-		return String.format("RoverMovedEvent published at [%s] with rover id [%s], previous position [%s], current position [%s]" , super.occuredOn(), roverId, previousPosition, currentPosition);
+		return String.format("RoverMovedEvent published at [%s] with rover id [%s], previous position [%s], current position [%s]" , super.occuredOn(), roverId, getPreviousPosition(), getCurrentPosition());
 	}
 
 }
@@ -1,6 +1,9 @@
 package com.game.domain.model.event.rover;
 
+import java.util.UUID;
+
 import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.entity.rover.RoverIdentifierDto;
 import com.game.domain.model.event.BaseDomainEvent;
 
@@ -18,6 +21,17 @@ public class RoverTurnedEvent extends BaseDomainEvent {
 		this.currentOrientation = builder.currentOrientation;
 	}
 
+	@Override
+	public RoverIdentifier roverId() {
+		return roverId == null ? null : roverId.getId();
+	}
+
+	@Override
+	public UUID plateauId() {
+		RoverIdentifier id = roverId();
+		return id == null ? null : id.getPlateauId();
+	}
+
 	public RoverIdentifierDto getRoverId() {
 		return roverId;
 	}
@@ -0,0 +1,158 @@
+package com.game.domain.model.event.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.game.domain.model.event.DomainEvent;
+
+/**
+ * Decorator collecting the events added by a thread between {@link #beginBatch()} and
+ * {@link #commitBatch()} (typically the execution of one command) to append them to the
+ * underlying store as a single group commit with {@link EventStore#addEvents(List)}.
+ * Outside of a batch, the events are appended immediately.
+ * <p>
+ * The batches can be nested, only the outermost commit appends the events.
+ * The collected events are not visible to the readers until committed, and a batch
+ * reaching {@link #getMaxBatchSize()} events is committed on the fly.
+ * </p>
+ */
+public class BatchingEventStore implements EventStore, Closeable {
+
+	public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+	private final EventStore eventStore;
+
+	private final int maxBatchSize;
+
+	private final ThreadLocal<Batch> batch = new ThreadLocal<>();
+
+	public BatchingEventStore(EventStore eventStore) {
+		this(eventStore, DEFAULT_MAX_BATCH_SIZE);
+	}
+
+	public BatchingEventStore(EventStore eventStore, int maxBatchSize) {
+		this.eventStore = eventStore;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	@Override
+	public void addEvent(DomainEvent event) {
+		Batch current = batch.get();
+		if (current == null) {
+			eventStore.addEvent(event);
+			return;
+		}
+		current.events.add(event);
+		if (current.events.size() >= maxBatchSize) {
+			flush(current);
+		}
+	}
+
+	/**
+	 * The pending events of the batch are appended first, so that the returned sequence is exact
+	 */
+	@Override
+	public long append(DomainEvent event) {
+		Batch current = batch.get();
+		if (current != null) {
+			flush(current);
+		}
+		return eventStore.append(event);
+	}
+
+	@Override
+	public void addEvents(List<DomainEvent> events) {
+		Batch current = batch.get();
+		if (current != null) {
+			flush(current);
+		}
+		eventStore.addEvents(events);
+	}
+
+	@Override
+	public void beginBatch() {
+		Batch current = batch.get();
+		if (current == null) {
+			batch.set(new Batch());
+		} else {
+			current.depth++;
+		}
+	}
+
+	@Override
+	public void commitBatch() {
+		Batch current = batch.get();
+		if (current == null) {
+			return;
+		}
+		if (current.depth > 0) {
+			current.depth--;
+			return;
+		}
+		batch.remove();
+		flush(current);
+	}
+
+	@Override
+	public List<DomainEvent> getAllEvents() {
+		return eventStore.getAllEvents();
+	}
+
+	@Override
+	public long size() {
+		return eventStore.size();
+	}
+
+	@Override
+	public Stream<DomainEvent> streamFrom(long sequence) {
+		return eventStore.streamFrom(sequence);
+	}
+
+	@Override
+	public EventPage read(EventQuery query) {
+		return eventStore.read(query);
+	}
+
+	@Override
+	public void clear() {
+		Batch current = batch.get();
+		if (current != null) {
+			current.events.clear();
+		}
+		eventStore.clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (eventStore instanceof Closeable) {
+			((Closeable) eventStore).close();
+		}
+	}
+
+	public EventStore getEventStore() {
+		return eventStore;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	private void flush(Batch current) {
+		if (!current.events.isEmpty()) {
+			eventStore.addEvents(current.events);
+			current.events.clear();
+		}
+	}
+
+	private static class Batch {
+
+		private final List<DomainEvent> events = new ArrayList<>();
+
+		private int depth;
+
+	}
+
+}
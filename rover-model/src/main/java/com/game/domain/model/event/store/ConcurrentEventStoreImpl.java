@@ -0,0 +1,192 @@
+package com.game.domain.model.event.store;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.exception.EventStoreException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+/**
+ * In-memory event store safe for many concurrent writers, without any lock.
+ * Each appended event gets a global sequence number claimed by CAS on the tail of the log,
+ * then is published in its own slot. The slots live in fixed-size chunks indexed by a two-level
+ * directory whose entries are installed by CAS and never moved, so no append can be lost.
+ * <p>
+ * A reader may reach a slot already claimed but not yet published by its writer:
+ * it then waits (yields) until the event is visible, so that the sequence order is respected.
+ * </p>
+ * Default store loaded by the GameContext via ServiceLocator
+ */
+public class ConcurrentEventStoreImpl implements EventStore {
+
+	static final int CHUNK_BITS = 12;
+
+	static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	static final int DIRECTORY_BITS = 10;
+
+	static final int DIRECTORY_SIZE = 1 << DIRECTORY_BITS;
+
+	/**
+	 * 2^42 events can be stored
+	 */
+	static final long CAPACITY = (long) DIRECTORY_SIZE * DIRECTORY_SIZE * CHUNK_SIZE;
+
+	/**
+	 * Replaced as a whole by {@link #clear()}
+	 */
+	private volatile Log log = new Log();
+
+	@Override
+	public void addEvent(DomainEvent event) {
+		append(event);
+	}
+
+	@Override
+	public long append(DomainEvent event) {
+		return log.append(event);
+	}
+
+	/**
+	 * The sequences of the whole group are claimed with one atomic operation
+	 */
+	@Override
+	public void addEvents(List<DomainEvent> events) {
+		log.append(events);
+	}
+
+	@Override
+	public List<DomainEvent> getAllEvents() {
+		return streamFrom(0).collect(Collectors.toList());
+	}
+
+	@Override
+	public long size() {
+		return log.tail.get();
+	}
+
+	@Override
+	public Stream<DomainEvent> streamFrom(long sequence) {
+		Log current = log;
+		long end = current.tail.get();
+		long from = Math.min(Math.max(sequence, 0), end);
+		return StreamSupport.stream(Spliterators.spliterator(current.iterator(from, end), end - from,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	/**
+	 * Starts a new empty log, the streams already opened keep reading the previous one
+	 */
+	@Override
+	public void clear() {
+		log = new Log();
+	}
+
+	static class Log {
+
+		private final AtomicLong tail = new AtomicLong();
+
+		private final AtomicReferenceArray<AtomicReferenceArray<AtomicReferenceArray<DomainEvent>>> directory = new AtomicReferenceArray<>(
+				DIRECTORY_SIZE);
+
+		/**
+		 * A null event is rejected before its sequence is claimed: readers would wait for it forever
+		 */
+		long append(DomainEvent event) {
+			Objects.requireNonNull(event, "event");
+			long sequence = claim(1);
+			chunk(sequence).set((int) (sequence & (CHUNK_SIZE - 1)), event);
+			return sequence;
+		}
+
+		void append(List<DomainEvent> events) {
+			events.forEach(event -> Objects.requireNonNull(event, "event"));
+			long sequence = claim(events.size());
+			AtomicReferenceArray<DomainEvent> chunk = null;
+			for (DomainEvent event : events) {
+				int index = (int) (sequence & (CHUNK_SIZE - 1));
+				if (chunk == null || index == 0) {
+					chunk = chunk(sequence);
+				}
+				chunk.set(index, event);
+				sequence++;
+			}
+		}
+
+		/**
+		 * The capacity is checked before the sequences are claimed: a claimed sequence
+		 * never published would leave a hole the readers wait on forever
+		 */
+		private long claim(int count) {
+			long sequence;
+			do {
+				sequence = tail.get();
+				if (sequence + count > CAPACITY) {
+					throw new EventStoreException(String.format(GameExceptionLabels.EVENT_STORE_FULL, CAPACITY));
+				}
+			} while (!tail.compareAndSet(sequence, sequence + count));
+			return sequence;
+		}
+
+		DomainEvent get(long sequence) {
+			AtomicReferenceArray<DomainEvent> chunk = chunk(sequence);
+			int index = (int) (sequence & (CHUNK_SIZE - 1));
+			DomainEvent event;
+			while ((event = chunk.get(index)) == null) {
+				// claimed by a writer which has not published its event yet
+				Thread.yield();
+			}
+			return event;
+		}
+
+		Iterator<DomainEvent> iterator(long from, long end) {
+			return new Iterator<DomainEvent>() {
+
+				private long sequence = from;
+
+				@Override
+				public boolean hasNext() {
+					return sequence < end;
+				}
+
+				@Override
+				public DomainEvent next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return get(sequence++);
+				}
+			};
+		}
+
+		private AtomicReferenceArray<DomainEvent> chunk(long sequence) {
+			long chunkIndex = sequence >>> CHUNK_BITS;
+			AtomicReferenceArray<AtomicReferenceArray<DomainEvent>> chunks = getOrCreate(directory,
+					(int) (chunkIndex >>> DIRECTORY_BITS), () -> new AtomicReferenceArray<>(DIRECTORY_SIZE));
+			return getOrCreate(chunks, (int) (chunkIndex & (DIRECTORY_SIZE - 1)),
+					() -> new AtomicReferenceArray<>(CHUNK_SIZE));
+		}
+
+		private static <T> T getOrCreate(AtomicReferenceArray<T> array, int index, Supplier<T> supplier) {
+			T value = array.get(index);
+			if (value == null) {
+				T candidate = supplier.get();
+				value = array.compareAndSet(index, null, candidate) ? candidate : array.get(index);
+			}
+			return value;
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.game.domain.model.event.store;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.game.domain.model.event.DomainEvent;
+
+/**
+ * Result of an {@link EventQuery}
+ * {@link #getNextSequence()} is the cursor to give to the next query
+ *
+ */
+public class EventPage {
+
+	private final List<DomainEvent> events;
+
+	private final long nextSequence;
+
+	private final boolean endOfStore;
+
+	public EventPage(List<DomainEvent> events, long nextSequence, boolean endOfStore) {
+		this.events = Collections.unmodifiableList(events);
+		this.nextSequence = nextSequence;
+		this.endOfStore = endOfStore;
+	}
+
+	public List<DomainEvent> getEvents() {
+		return events;
+	}
+
+	public long getNextSequence() {
+		return nextSequence;
+	}
+
+	/**
+	 * True when all the events stored at query time have been read
+	 */
+	public boolean isEndOfStore() {
+		return endOfStore;
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.game.domain.model.event.store;
+
+import java.util.UUID;
+
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.event.DomainEvent;
+
+/**
+ * Cursor based query on the {@link EventStore}
+ * Reads at most {@link #getPageSize()} events from the {@link #getFromSequence()} position,
+ * optionally filtered by event type, plateau or rover
+ *
+ */
+public class EventQuery {
+
+	public static final int DEFAULT_PAGE_SIZE = 100;
+
+	private final long fromSequence;
+
+	private final Class<? extends DomainEvent> eventType;
+
+	private final UUID plateauId;
+
+	private final RoverIdentifier roverId;
+
+	private final int pageSize;
+
+	private EventQuery(Builder builder) {
+		this.fromSequence = builder.fromSequence;
+		this.eventType = builder.eventType;
+		this.plateauId = builder.plateauId;
+		this.roverId = builder.roverId;
+		this.pageSize = builder.pageSize;
+	}
+
+	public long getFromSequence() {
+		return fromSequence;
+	}
+
+	public Class<? extends DomainEvent> getEventType() {
+		return eventType;
+	}
+
+	public UUID getPlateauId() {
+		return plateauId;
+	}
+
+	public RoverIdentifier getRoverId() {
+		return roverId;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public boolean matches(DomainEvent event) {
+		return (eventType == null || eventType.isInstance(event))
+				&& (plateauId == null || plateauId.equals(event.plateauId()))
+				&& (roverId == null || roverId.equals(event.roverId()));
+	}
+
+	public static class Builder {
+
+		private long fromSequence;
+
+		private Class<? extends DomainEvent> eventType;
+
+		private UUID plateauId;
+
+		private RoverIdentifier roverId;
+
+		private int pageSize = DEFAULT_PAGE_SIZE;
+
+		public Builder fromSequence(long fromSequence) {
+			this.fromSequence = Math.max(0, fromSequence);
+			return this;
+		}
+
+		public Builder withEventType(Class<? extends DomainEvent> eventType) {
+			this.eventType = eventType;
+			return this;
+		}
+
+		public Builder withPlateauId(UUID plateauId) {
+			this.plateauId = plateauId;
+			return this;
+		}
+
+		public Builder withRoverId(RoverIdentifier roverId) {
+			this.roverId = roverId;
+			return this;
+		}
+
+		public Builder withPageSize(int pageSize) {
+			this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+			return this;
+		}
+
+		public EventQuery build() {
+			return new EventQuery(this);
+		}
+
+	}
+
+}
@@ -1,5 +1,8 @@
 package com.game.domain.model.event.store;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.game.domain.model.event.DomainEvent;
 
@@ -7,6 +10,67 @@ public interface EventStore {
 	
 	void addEvent(DomainEvent event);
 
+	/**
+	 * Stores the event and returns its global sequence number
+	 */
+	default long append(DomainEvent event) {
+		addEvent(event);
+		return size() - 1;
+	}
+
+	/**
+	 * Group commit: stores the events in their order as one single append
+	 */
+	default void addEvents(List<DomainEvent> events) {
+		events.forEach(this::addEvent);
+	}
+
+	/**
+	 * Starts collecting the events added by the current thread, see {@link BatchingEventStore}
+	 * No-op for the stores which append each event immediately
+	 */
+	default void beginBatch() {
+	}
+
+	/**
+	 * Appends the events collected since {@link #beginBatch()} as one group commit
+	 */
+	default void commitBatch() {
+	}
+
+	/**
+	 * Copy of the whole history, to be avoided on big stores
+	 * Prefer {@link #streamFrom(long)} or {@link #read(EventQuery)}
+	 */
 	List<DomainEvent> getAllEvents();
 
+	/**
+	 * Number of events stored, i.e. the sequence of the next event to be stored
+	 */
+	long size();
+
+	/**
+	 * Lazy stream of the events stored from the given sequence (starting at 0)
+	 * up to the events stored when the stream is created. The store is not copied.
+	 */
+	Stream<DomainEvent> streamFrom(long sequence);
+
+	void clear();
+
+	default EventPage read(EventQuery query) {
+		List<DomainEvent> events = new ArrayList<>(Math.min(query.getPageSize(), EventQuery.DEFAULT_PAGE_SIZE));
+		long sequence = query.getFromSequence();
+		try (Stream<DomainEvent> stream = streamFrom(sequence)) {
+			Iterator<DomainEvent> iterator = stream.iterator();
+			while (events.size() < query.getPageSize() && iterator.hasNext()) {
+				DomainEvent event = iterator.next();
+				sequence++;
+				if (query.matches(event)) {
+					events.add(event);
+				}
+			}
+			return new EventPage(events, sequence, !iterator.hasNext());
+		}
+	}
+
 }
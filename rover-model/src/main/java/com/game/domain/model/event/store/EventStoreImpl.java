@@ -1,30 +1,65 @@
 package com.game.domain.model.event.store;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import com.game.domain.model.event.DomainEvent;
 
 /**
- * Dummy event store
- * Loaded by the GameContext via ServiceLocator
- * Used by the Domain Entities when publishing the event
+ * Simple in-memory event store guarded by a single lock
+ * The GameContext loads {@link ConcurrentEventStoreImpl} instead
  *
  */
 public class EventStoreImpl implements EventStore {
 	
-	private List<DomainEvent> events = new ArrayList<>();
+	private final List<DomainEvent> events = Collections.synchronizedList(new ArrayList<>());
 	
 	@Override
 	public void addEvent(DomainEvent event) {
 		events.add(event);
 	}
 	
+	@Override
+	public long append(DomainEvent event) {
+		synchronized (events) {
+			events.add(event);
+			return events.size() - 1;
+		}
+	}
+
+	@Override
+	public void addEvents(List<DomainEvent> events) {
+		this.events.addAll(events);
+	}
+
 	@Override
 	public List<DomainEvent> getAllEvents(){
-		return events;
+		synchronized (events) {
+			return new ArrayList<>(events);
+		}
+	}
+
+	@Override
+	public long size() {
+		return events.size();
+	}
+
+	/**
+	 * The events are read one by one by index up to the size at creation time
+	 * as the store is append-only (a concurrent {@link #clear()} is not supported)
+	 */
+	@Override
+	public Stream<DomainEvent> streamFrom(long sequence) {
+		long end = size();
+		return LongStream.range(Math.min(Math.max(sequence, 0), end), end).mapToObj(index -> events.get((int) index));
+	}
+
+	@Override
+	public void clear() {
+		events.clear();
 	}
-	
-	
 
 }
@@ -20,6 +20,11 @@ public class PlateauInitializedEventSubscriber extends AbstractDomainEventSubscr
 		return PlateauInitializedEvent.class;
 	}
 
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 
@@ -19,6 +19,11 @@ public class PlateauInitializedWithExceptionEventSubscriber  extends AbstractDom
 	public Class<PlateauInitializedWithExceptionEvent> subscribedToEventType() {
 		return PlateauInitializedWithExceptionEvent.class;
 	}
+
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
 	
 	@Override
 	public boolean equals(Object obj) {
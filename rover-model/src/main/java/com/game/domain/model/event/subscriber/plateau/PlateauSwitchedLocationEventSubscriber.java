@@ -3,6 +3,7 @@ package com.game.domain.model.event.subscriber.plateau;
 import java.util.Objects;
 
 import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.event.AbstractDomainEventSubscriber;
 import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
 
@@ -16,13 +17,26 @@ public class PlateauSwitchedLocationEventSubscriber extends AbstractDomainEventS
 
 	}
 
+	/**
+	 * The move is claimed atomically on the plateau: if another rover took the location
+	 * meanwhile, the exception is thrown back to the publisher of the event
+	 */
 	private void updatePlateauWithLastLocations(PlateauSwitchedLocationEvent event) {
-		if (event.getPreviousPosition() != null)
-		GameContext.getInstance().getPlateauService().updatePlateauWithFreeLocation(event.getPlateauId(),
-				event.getPreviousPosition());
-		if (event.getCurrentPosition() != null)
-			GameContext.getInstance().getPlateauService().updatePlateauWithOccupiedLocation(event.getPlateauId(),
-					event.getCurrentPosition());
+		if (event.getPackedCurrentPosition() != PackedCoordinates.NONE) {
+			if (event.getRoverId() != null) {
+				GameContext.getInstance().getPlateauService().switchRoverLocation(event.getRoverId(),
+						event.getPackedPreviousPosition(), event.getPackedCurrentPosition());
+			} else {
+				GameContext.getInstance().getPlateauService().switchLocation(event.getPlateauId(),
+						event.getPackedPreviousPosition(), event.getPackedCurrentPosition());
+			}
+		} else if (event.getRoverId() != null && event.getPackedPreviousPosition() != PackedCoordinates.NONE) {
+			GameContext.getInstance().getPlateauService().releaseRoverLocation(event.getRoverId(),
+					event.getPreviousPosition());
+		} else if (event.getPackedPreviousPosition() != PackedCoordinates.NONE) {
+			GameContext.getInstance().getPlateauService().updatePlateauWithFreeLocation(event.getPlateauId(),
+					event.getPreviousPosition());
+		}
 	}
 
 	@Override
@@ -30,6 +44,11 @@ public class PlateauSwitchedLocationEventSubscriber extends AbstractDomainEventS
 		return PlateauSwitchedLocationEvent.class;
 	}
 
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 
@@ -25,6 +25,11 @@ public class RoverInitializedEventSubscriber extends AbstractDomainEventSubscrib
 	public Class<RoverInitializedEvent> subscribedToEventType() {
 		return RoverInitializedEvent.class;
 	}
+
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
 	
 	@Override
 	public boolean equals(Object obj) {
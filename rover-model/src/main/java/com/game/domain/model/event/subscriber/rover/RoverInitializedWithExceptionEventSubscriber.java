@@ -17,6 +17,11 @@ public class RoverInitializedWithExceptionEventSubscriber extends AbstractDomain
 	public Class<RoverInitializedWithExceptionEvent> subscribedToEventType() {
 		return RoverInitializedWithExceptionEvent.class;
 	}
+
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
 	
 	@Override
 	public boolean equals(Object obj) {
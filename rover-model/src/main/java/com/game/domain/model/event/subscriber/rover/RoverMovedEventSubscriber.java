@@ -20,6 +20,14 @@ public class RoverMovedEventSubscriber extends AbstractDomainEventSubscriber<Rov
 	public Class<RoverMovedEvent> subscribedToEventType() {
 		return RoverMovedEvent.class;
 	}
+
+	/**
+	 * The write model must be consistent when the command returns
+	 */
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
 	
 	@Override
 	public boolean equals(Object obj) {
@@ -15,11 +15,13 @@ public class RoverMovedWithExceptionEventSubscriber extends AbstractDomainEventS
 		// 1. remove the persistent rover from the game
 		GameContext.getInstance().getRoverService().removeRover(event.getRoverId());
 
-		// 2. set the last rover position as free on the Plateau
-		GameContext.getInstance().getPlateauService().updatePlateauWithFreeLocation(
-				event.getPlateauUuid(), event.getRoverPreviousPosition());
+		// 2. free the location last claimed by the rover on the Plateau, which is the
+		// target of the move if the failure occurred after the claim
+		GameContext.getInstance().getPlateauService().releaseRoverLocation(event.getRoverId(),
+				event.getRoverPreviousPosition());
 		
-		throw new GameException(event.toString(), event.getException());
+		// the original exception is the cause, no need for a second stack trace
+		throw new GameException(event.toString(), null, event.getException(), false);
 
 	}
 
@@ -27,6 +29,11 @@ public class RoverMovedWithExceptionEventSubscriber extends AbstractDomainEventS
 	public Class<RoverMovedWithExceptionEvent> subscribedToEventType() {
 		return RoverMovedWithExceptionEvent.class;
 	}
+
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
 	
 	@Override
 	public boolean equals(Object obj) {
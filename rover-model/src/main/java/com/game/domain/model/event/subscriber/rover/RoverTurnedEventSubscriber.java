@@ -19,6 +19,11 @@ public class RoverTurnedEventSubscriber extends AbstractDomainEventSubscriber<Ro
 		return RoverTurnedEvent.class;
 	}
 
+	@Override
+	public boolean isSynchronous() {
+		return true;
+	}
+
 	private void updateRoverWithOrientation(RoverTurnedEvent event) {
 		GameContext.getInstance().getRoverService().updateRoverWithOrientation(event.getRoverId(),
 				event.getCurrentOrientation());
@@ -0,0 +1,15 @@
+package com.game.domain.model.exception;
+
+public class CommandExecutionException extends GameException {
+
+	private static final long serialVersionUID = 4380117283605641193L;
+
+	public CommandExecutionException(String message) {
+		super(message, GameExceptionLabels.COMMAND_EXECUTION_ERROR_CODE);
+	}
+
+	public CommandExecutionException(String message, Exception exception) {
+		super(message, GameExceptionLabels.COMMAND_EXECUTION_ERROR_CODE, exception);
+	}
+
+}
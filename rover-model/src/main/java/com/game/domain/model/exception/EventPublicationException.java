@@ -0,0 +1,15 @@
+package com.game.domain.model.exception;
+
+public class EventPublicationException extends GameException {
+
+	private static final long serialVersionUID = -2719338209136532284L;
+
+	public EventPublicationException(String message) {
+		super(message, GameExceptionLabels.EVENT_PUBLICATION_ERROR_CODE);
+	}
+
+	public EventPublicationException(String message, Exception exception) {
+		super(message, GameExceptionLabels.EVENT_PUBLICATION_ERROR_CODE, exception);
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.game.domain.model.exception;
+
+public class EventStoreException extends GameException {
+
+	private static final long serialVersionUID = 4237981537416822015L;
+
+	public EventStoreException(String message) {
+		super(message, GameExceptionLabels.EVENT_STORE_ERROR_CODE);
+	}
+
+	public EventStoreException(String message, Exception exception) {
+		super(message, GameExceptionLabels.EVENT_STORE_ERROR_CODE, exception);
+	}
+
+}
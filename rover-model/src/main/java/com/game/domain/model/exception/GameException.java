@@ -24,6 +24,15 @@ public class GameException extends RuntimeException {
 		this.errorCode = errorCode;
 	}
 	
+	/**
+	 * @param writableStackTrace false for the routine failures (collisions, plateau edges),
+	 *                           not to spend the time of the game filling stack traces
+	 */
+	public GameException(String message, String errorCode, Exception cause, boolean writableStackTrace) {
+		super(message, cause, true, writableStackTrace);
+		this.errorCode = errorCode;
+	}
+
 	public GameException(String message, Exception cause) {
 		super(message, cause);
 		this.errorCode = null;
@@ -68,7 +68,57 @@ public class GameExceptionLabels {
 	public static final String CONCURRENT_MODIFICATION_ERROR_CODE = "ERR-005";
 	
 	public static final String CONCURRENT_MODIFICATION_ERROR_MESSAGE = "Someone is trying to update the Rover [%s] at the same time. Please try again.";
-	
+
+	public static final String EVENT_STORE_ERROR_CODE = "ERR-006";
+
+	public static final String EVENT_STORE_IO_ERROR = "Event store I/O failure on [%s]";
+
+	public static final String EVENT_STORE_CORRUPTED_SEGMENT = "Event store segment [%s] is corrupted";
+
+	public static final String EVENT_TYPE_NOT_SUPPORTED = "Event type [%s] can not be stored in the persistent event store";
+
+	public static final String EVENT_TOO_LARGE_FOR_SEGMENT = "Event of [%d] bytes does not fit in a segment of [%d] bytes";
+
+	public static final String EVENT_STORE_FULL = "Event store capacity of [%d] events reached";
+
+	public static final String EVENT_FORMAT_NOT_SUPPORTED = "Event encoded with the format version [%d] can not be decoded by the version [%d]";
+
+	public static final String EVENT_ENCODING_CORRUPTED = "Encoded event is corrupted: %s";
+
+	public static final String EVENT_PUBLICATION_ERROR_CODE = "ERR-007";
+
+	public static final String EVENT_QUEUE_FULL = "Event [%s] rejected, the dispatch queue of [%d] events is full";
+
+	public static final String EVENT_DISPATCH_INTERRUPTED = "Interrupted while waiting to dispatch event [%s]";
+
+	public static final String EVENT_DELIVERY_FAILED = "Subscriber [%s] failed to handle event [%s]";
+
+	public static final String EVENT_REPLAY_FAILED = "Replay of the event [%s] failed";
+
+	public static final String EVENT_REPLAY_INTERRUPTED = "Replay interrupted after [%d] events";
+
+	public static final String SNAPSHOT_ERROR_CODE = "ERR-008";
+
+	public static final String SNAPSHOT_IO_ERROR = "Snapshot I/O failure on [%s]";
+
+	public static final String SNAPSHOT_CORRUPTED = "Snapshot [%s] is corrupted";
+
+	public static final String SNAPSHOT_WITHOUT_DURABLE_EVENT_STORE = "Snapshots in [%s] require a durable event store, property [%s] not set";
+
+	public static final String SNAPSHOT_AHEAD_OF_EVENT_STORE = "Snapshot at sequence [%d] is ahead of the [%d] events of the event store";
+
+	public static final String COMMAND_EXECUTION_ERROR_CODE = "ERR-009";
+
+	public static final String COMMAND_REJECTED = "Command [%s] rejected, the command executor is shut down";
+
+	public static final String COMMAND_EXECUTION_INTERRUPTED = "Interrupted while waiting for the execution of the command [%s]";
+
+	public static final String MISSION_FILE_ERROR_CODE = "ERR-010";
+
+	public static final String MISSION_FILE_IO_ERROR = "Mission file [%s] I/O failure";
+
+	public static final String MISSION_FILE_MALFORMED = "Mission file [%s] malformed at line [%d]: %s";
+
 
 	
 
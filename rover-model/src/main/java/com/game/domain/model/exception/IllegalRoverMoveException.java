@@ -1,11 +1,14 @@
 package com.game.domain.model.exception;
 
+/**
+ * A rover leaving the plateau is part of the game: no stack trace
+ */
 public class IllegalRoverMoveException extends GameException {
 	
 	private static final long serialVersionUID = 1728437016696356759L;
 
 	public IllegalRoverMoveException(String message) {
-		super(message, GameExceptionLabels.ROVER_ILLEGAL_POSITION_ERROR_CODE);
+		super(message, GameExceptionLabels.ROVER_ILLEGAL_POSITION_ERROR_CODE, null, false);
 	}
 
 }
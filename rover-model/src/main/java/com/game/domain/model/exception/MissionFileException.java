@@ -0,0 +1,15 @@
+package com.game.domain.model.exception;
+
+public class MissionFileException extends GameException {
+
+	private static final long serialVersionUID = -2817405399166201946L;
+
+	public MissionFileException(String message) {
+		super(message, GameExceptionLabels.MISSION_FILE_ERROR_CODE);
+	}
+
+	public MissionFileException(String message, Exception exception) {
+		super(message, GameExceptionLabels.MISSION_FILE_ERROR_CODE, exception);
+	}
+
+}
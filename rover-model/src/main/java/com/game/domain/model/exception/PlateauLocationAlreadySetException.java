@@ -1,12 +1,15 @@
 package com.game.domain.model.exception;
 
+/**
+ * Rovers colliding are part of the game: no stack trace
+ */
 public class PlateauLocationAlreadySetException extends GameException {
 
 
 	private static final long serialVersionUID = 1998077853323471491L;
 
 	public PlateauLocationAlreadySetException(String message) {
-		super(message, GameExceptionLabels.PLATEAU_LOCATION_ERROR_CODE);
+		super(message, GameExceptionLabels.PLATEAU_LOCATION_ERROR_CODE, null, false);
 	}
 
 }
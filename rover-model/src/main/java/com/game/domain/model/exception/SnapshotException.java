@@ -0,0 +1,15 @@
+package com.game.domain.model.exception;
+
+public class SnapshotException extends GameException {
+
+	private static final long serialVersionUID = -2906843287406517216L;
+
+	public SnapshotException(String message) {
+		super(message, GameExceptionLabels.SNAPSHOT_ERROR_CODE);
+	}
+
+	public SnapshotException(String message, Exception exception) {
+		super(message, GameExceptionLabels.SNAPSHOT_ERROR_CODE, exception);
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.game.domain.model.repository;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import com.game.domain.model.entity.plateau.Plateau;
@@ -12,6 +13,7 @@ import com.game.domain.model.entity.plateau.Plateau;
  * Implemented by the secondary port adapter {@link InMemoryPlateauRepositoryImpl} located in infrastructure package/module
  */
 public interface PlateauRepository extends DomainRepository<Plateau, UUID> {
-	
+
+	Collection<Plateau> getAllPlateaus();
 
 }
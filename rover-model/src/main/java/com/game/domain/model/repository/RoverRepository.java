@@ -1,6 +1,7 @@
 package com.game.domain.model.repository;
 
 import java.util.Collection;
+import java.util.UUID;
 
 import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
@@ -21,4 +22,11 @@ public interface RoverRepository extends DomainRepository<Rover, RoverIdentifier
 	
 	public Collection<Rover> getAllRovers();
 
+	/**
+	 * Rovers of the given plateau only, without going through the rovers of the other plateaus
+	 */
+	public Collection<Rover> getAllRoversOnPlateau(UUID plateauId);
+
+	public boolean exists(RoverIdentifier id);
+
 }
@@ -6,7 +6,10 @@ import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.dimensions.RelativisticTwoDimensions;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.plateau.BitSetPlateauOccupancy;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.plateau.PlateauOccupancy;
+import com.game.domain.model.entity.plateau.SparsePlateauOccupancy;
 
 public class PlateauFactory {
 	
@@ -25,4 +28,21 @@ public class PlateauFactory {
 		
 	}
 
+	public static PlateauOccupancy createOccupancy(int columns, int rows) {
+		return createOccupancy(columns, rows, GameContext.getInstance().getExpectedRoversPerPlateau());
+	}
+
+	/**
+	 * One bit per location as long as the bitset costs less than
+	 * {@link GameContext#MAXIMAL_DENSE_OCCUPANCY_BYTES_PER_ROVER} per expected rover,
+	 * otherwise a sparse index whose memory scales with the rovers, not with the area
+	 */
+	public static PlateauOccupancy createOccupancy(int columns, int rows, int expectedRovers) {
+		long denseBytes = ((long) columns * rows + 7) / 8;
+		if (denseBytes <= (long) GameContext.MAXIMAL_DENSE_OCCUPANCY_BYTES_PER_ROVER * expectedRovers) {
+			return new BitSetPlateauOccupancy(columns, rows);
+		}
+		return new SparsePlateauOccupancy(columns, rows, expectedRovers);
+	}
+
 }
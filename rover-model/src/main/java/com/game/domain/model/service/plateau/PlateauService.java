@@ -1,9 +1,13 @@
 package com.game.domain.model.service.plateau;
 
+import java.util.List;
 import java.util.UUID;
 
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.exception.PlateauLocationAlreadySetException;
 import com.game.domain.model.service.DomainService;
 
 public interface PlateauService extends DomainService {
@@ -33,6 +37,46 @@ public interface PlateauService extends DomainService {
 	 */
 	void updatePlateauWithFreeLocation(UUID uuid, TwoDimensionalCoordinates coordinates);
 
+	/**
+	 * Atomically moves a rover from the previous location (null when it lands on the plateau)
+	 * to the current one
+	 * 
+	 * @throws PlateauLocationAlreadySetException if the current location is already busy
+	 */
+	void switchLocation(UUID uuid, TwoDimensionalCoordinates previous, TwoDimensionalCoordinates current);
+
+	/**
+	 * Same with {@link PackedCoordinates}, previous being NONE for a rover landing on the plateau
+	 */
+	default void switchLocation(UUID uuid, long previous, long current) {
+		switchLocation(uuid, PackedCoordinates.unpack(previous), PackedCoordinates.unpack(current));
+	}
+
+	/**
+	 * Same as {@link #switchLocation(UUID, long, long)}, also keeping the spatial index
+	 * of the plateau of the rover in sync
+	 * 
+	 * @throws PlateauLocationAlreadySetException if the current location is already busy
+	 */
+	void switchRoverLocation(RoverIdentifier roverId, long previous, long current);
+
+	/**
+	 * Frees the location of a rover removed from the plateau
+	 */
+	void releaseRoverLocation(RoverIdentifier roverId, TwoDimensionalCoordinates coordinates);
+
+	/**
+	 * Rovers located in the rectangle defined by its lower left and upper right corners
+	 * (bounds included), answered by the spatial index of the plateau
+	 */
+	List<RoverIdentifier> getRoversInRegion(UUID uuid, TwoDimensionalCoordinates lowerLeft,
+			TwoDimensionalCoordinates upperRight);
+
+	/**
+	 * Rovers within the (euclidean) distance of the location, the nearest first
+	 */
+	List<RoverIdentifier> getRoversWithinDistance(UUID uuid, TwoDimensionalCoordinates coordinates, int distance);
+
 	/**
 	 * Check if the location is busy
 	 * @param coordinates
@@ -49,6 +93,8 @@ public interface PlateauService extends DomainService {
 
 	void updatePlateau(Plateau plateau);
 
+	List<Plateau> getAllPlateaus();
+
 	/**
 	 * Update the location of the persistent Plateau
 	 * @param plateauUUID
@@ -1,10 +1,16 @@
 package com.game.domain.model.service.plateau;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.event.plateau.PlateauInitializedEvent;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.PlateauLocationAlreadySetException;
 import com.game.domain.model.repository.PlateauRepository;
 
 /**
@@ -53,6 +59,11 @@ public class PlateauServiceImpl implements PlateauService {
 		plateauRepository.update(plateau);
 	}
 
+	@Override
+	public List<Plateau> getAllPlateaus() {
+		return new ArrayList<>(plateauRepository.getAllPlateaus());
+	}
+
 	@Override
 	public void updatePlateauWithFreeLocation(UUID uuid, TwoDimensionalCoordinates coordinates) {
 		Plateau plateau = this.getPlateau(uuid);
@@ -67,6 +78,50 @@ public class PlateauServiceImpl implements PlateauService {
 		this.updatePlateau(plateau);
 	}
 
+	@Override
+	public void switchLocation(UUID uuid, TwoDimensionalCoordinates previous, TwoDimensionalCoordinates current) {
+		switchLocation(uuid, PackedCoordinates.pack(previous), current.pack());
+	}
+
+	@Override
+	public void switchLocation(UUID uuid, long previous, long current) {
+		Plateau plateau = this.getPlateau(uuid);
+		if (!plateau.tryMoveLocation(previous, current)) {
+			throw new PlateauLocationAlreadySetException(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET,
+					PackedCoordinates.abscissa(current), PackedCoordinates.ordinate(current)));
+		}
+		this.updatePlateau(plateau);
+	}
+
+	@Override
+	public void switchRoverLocation(RoverIdentifier roverId, long previous, long current) {
+		Plateau plateau = this.getPlateau(roverId.getPlateauId());
+		if (!plateau.tryMoveRover(roverId, previous, current)) {
+			throw new PlateauLocationAlreadySetException(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET,
+					PackedCoordinates.abscissa(current), PackedCoordinates.ordinate(current)));
+		}
+		this.updatePlateau(plateau);
+	}
+
+	@Override
+	public void releaseRoverLocation(RoverIdentifier roverId, TwoDimensionalCoordinates coordinates) {
+		Plateau plateau = this.getPlateau(roverId.getPlateauId());
+		plateau.releaseRoverLocation(roverId, coordinates);
+		this.updatePlateau(plateau);
+	}
+
+	@Override
+	public List<RoverIdentifier> getRoversInRegion(UUID uuid, TwoDimensionalCoordinates lowerLeft,
+			TwoDimensionalCoordinates upperRight) {
+		return this.getPlateau(uuid).getRoversInRegion(lowerLeft, upperRight);
+	}
+
+	@Override
+	public List<RoverIdentifier> getRoversWithinDistance(UUID uuid, TwoDimensionalCoordinates coordinates,
+			int distance) {
+		return this.getPlateau(uuid).getRoversWithinDistance(coordinates, distance);
+	}
+
 	@Override
 	public void updatePlateauWithLocations(UUID plateauUUID, TwoDimensionalCoordinates freeLocation,
 			TwoDimensionalCoordinates busyLocation) {
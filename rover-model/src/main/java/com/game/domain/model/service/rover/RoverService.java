@@ -8,6 +8,7 @@ import com.game.domain.model.entity.rover.Orientation;
 import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.entity.rover.RoverMoveResult;
 import com.game.domain.model.entity.rover.RoverTurnInstruction;
 import com.game.domain.model.repository.ReadRoverRepository;
 import com.game.domain.model.repository.RoverRepository;
@@ -19,6 +20,12 @@ public interface RoverService extends DomainService {
 	void initializeRover(RoverIdentifier id, TwoDimensionalCoordinates coordinates, Orientation orientation);
 
 	void moveRoverNumberOfTimes(RoverIdentifier id, int times);
+
+	/**
+	 * Same as {@link #moveRoverNumberOfTimes(RoverIdentifier, int)}, except that a rover blocked
+	 * by another one or by the plateau edge stops in front of it instead of failing
+	 */
+	RoverMoveResult tryMoveRoverNumberOfTimes(RoverIdentifier id, int times);
 	
 	void turnRover(RoverIdentifier roverId, RoverTurnInstruction turn);
 	
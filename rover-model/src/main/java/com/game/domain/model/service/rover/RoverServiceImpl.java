@@ -1,19 +1,18 @@
 package com.game.domain.model.service.rover;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
-import com.game.domain.model.entity.plateau.Plateau;
 import com.game.domain.model.entity.rover.Orientation;
 import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.entity.rover.RoverMoveResult;
 import com.game.domain.model.entity.rover.RoverTurnInstruction;
-import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
 import com.game.domain.model.event.rover.RoverInitializedEvent;
 import com.game.domain.model.exception.GameExceptionLabels;
 import com.game.domain.model.exception.RoverInitializationException;
@@ -48,26 +47,21 @@ public class RoverServiceImpl implements RoverService {
 	public void initializeRover(RoverIdentifier id, TwoDimensionalCoordinates coordinates, Orientation orientation) {
 		
 		// load plateau first to check that it is present in the system.
-		Plateau plateau = null;
 		try {
-			plateau = GameContext.getInstance().addPlateau(plateauService.getPlateau(id.getPlateauId()));
+			GameContext.getInstance().addPlateau(plateauService.getPlateau(id.getPlateauId()));
 		} catch (Exception e) {
 			throw new RoverInitializationException(GameExceptionLabels.INITIALIZE_ROVER_NOT_ALLOWED, e);
 		}
 		
 		// check if a rover with same name exists already on this plateau
-		if (this.getAllRoversOnPlateau(id.getPlateauId()).stream().anyMatch(rover -> rover.getId().equals(id))) {
+		if (roverRepository.exists(id)) {
 			throw new RoverInitializationException(String.format(GameExceptionLabels.ROVER_ALREADY_EXISTING, id));
 		}
 		
 		RoverInitializedEvent event = new RoverInitializedEvent.Builder().withRoverId(id).withPosition(coordinates).withOrientation(orientation).build();
+		// the location is claimed by the rover before its initialization is applied
 		Rover rover = new Rover(id, coordinates, orientation);
 		rover.applyAndPublishEvent(event, rover.initializeRover, rover.initializeRoverWithException);
-		
-		PlateauSwitchedLocationEvent plateauEvent = new PlateauSwitchedLocationEvent.Builder().withPlateauId(id.getPlateauId()).
-				withCurrentPosition(coordinates).build();
-		
-		plateau.applyAndPublishEvent(plateauEvent, plateau.switchLocation);
 	}
 
 
@@ -95,6 +89,12 @@ public class RoverServiceImpl implements RoverService {
 		roverRepository.load(id).moveNumberOfTimes(times);
 	}
 
+	@Override
+	public RoverMoveResult tryMoveRoverNumberOfTimes(RoverIdentifier id, int times) {
+		addPlateauToContext.apply(id);
+		return roverRepository.load(id).tryMoveNumberOfTimes(times);
+	}
+
 	@Override
 	public void updateRover(Rover rover) {
 		roverRepository.update(rover);
@@ -132,8 +132,7 @@ public class RoverServiceImpl implements RoverService {
 
 	@Override
 	public List<Rover> getAllRoversOnPlateau(UUID uuid) {
-		return roverRepository.getAllRovers().stream().filter(rover -> rover.getId().getPlateauId().equals(uuid))
-				.collect(Collectors.toList());
+		return new ArrayList<>(roverRepository.getAllRoversOnPlateau(uuid));
 	}
 	
 	@Override
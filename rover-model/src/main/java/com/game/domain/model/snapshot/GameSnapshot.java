@@ -0,0 +1,39 @@
+package com.game.domain.model.snapshot;
+
+import java.util.List;
+
+import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.Rover;
+
+/**
+ * State of all the {@link Plateau} and {@link Rover} aggregates, taken when the
+ * event store contained {@link #getSequence()} events: the recovery only replays
+ * the events stored from this sequence
+ */
+public class GameSnapshot {
+
+	private final long sequence;
+
+	private final List<Plateau> plateaus;
+
+	private final List<Rover> rovers;
+
+	public GameSnapshot(long sequence, List<Plateau> plateaus, List<Rover> rovers) {
+		this.sequence = sequence;
+		this.plateaus = plateaus;
+		this.rovers = rovers;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public List<Plateau> getPlateaus() {
+		return plateaus;
+	}
+
+	public List<Rover> getRovers() {
+		return rovers;
+	}
+
+}
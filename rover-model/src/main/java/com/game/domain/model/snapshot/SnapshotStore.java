@@ -0,0 +1,17 @@
+package com.game.domain.model.snapshot;
+
+import java.util.Optional;
+
+/**
+ * "Secondary" port storing the {@link GameSnapshot}, implemented in the infrastructure layer
+ */
+public interface SnapshotStore {
+
+	void save(GameSnapshot snapshot);
+
+	/**
+	 * @return the most recent readable snapshot, empty if none was taken yet
+	 */
+	Optional<GameSnapshot> loadLatest();
+
+}
@@ -0,0 +1,689 @@
+package com.game.infrastructure.persistence.event.impl;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensionalSpace;
+import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.BaseDomainEvent;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.exception.BaseDomainEventWithException;
+import com.game.domain.model.event.plateau.PlateauInitializedEvent;
+import com.game.domain.model.event.plateau.PlateauInitializedWithExceptionEvent;
+import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
+import com.game.domain.model.event.rover.RoverInitializedEvent;
+import com.game.domain.model.event.rover.RoverInitializedWithExceptionEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverMovedWithExceptionEvent;
+import com.game.domain.model.event.rover.RoverTurnedEvent;
+import com.game.domain.model.exception.EventStoreException;
+import com.game.domain.model.exception.GameException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+/**
+ * Versioned binary encoding of the {@link DomainEvent}s, meant for the streams
+ * of events (files, connections between processes) read in the order they were written.
+ * <p>
+ * Each record starts with a one byte header holding the {@link #FORMAT_VERSION} and the
+ * {@link EventSchema} of the event, followed by the fields described by the schema.
+ * Integers are written as (zigzag) varints, the occurrence timestamps as the delta of epoch nanos
+ * with the previous event and the destination of a move as the delta with its origin, so that
+ * a move usually takes a couple of bytes per coordinate.
+ * The plateau ids and rover identifiers are interned: the first occurrence is written in full,
+ * the next ones only as their index in the dictionary of the stream.
+ * </p>
+ * As the decoder rebuilds the same dictionaries, an instance is bound to one stream
+ * (one instance on each side) and is not thread safe. {@link #reset()} starts a new stream:
+ * {@link MappedSegmentEventStoreImpl} resets it before each record to keep them self-contained.
+ * Exceptions carried by the ...WithExceptionEvent are restored as {@link GameException}
+ * keeping their original error code and message.
+ */
+public class BinaryEventCodec {
+
+	public static final int FORMAT_VERSION = 1;
+
+	private static final int SCHEMA_BITS = 5;
+
+	private static final int SCHEMA_MASK = (1 << SCHEMA_BITS) - 1;
+
+	private static final int HAS_FIRST = 1;
+
+	private static final int HAS_SECOND = 1 << 1;
+
+	private static final int HAS_THIRD = 1 << 2;
+
+	private static final int COMPACTED = 1 << 3;
+
+	private static final int MAX_VARINT_SHIFT = 63;
+
+	private final Dictionary<UUID> writtenPlateaus = new Dictionary<>();
+
+	private final Dictionary<RoverIdentifier> writtenRovers = new Dictionary<>();
+
+	private final Dictionary<UUID> readPlateaus = new Dictionary<>();
+
+	private final Dictionary<RoverIdentifier> readRovers = new Dictionary<>();
+
+	private long lastWrittenTimestamp;
+
+	private long lastReadTimestamp;
+
+	/**
+	 * Encodes the event at the position of the buffer.
+	 * On {@link BufferOverflowException} the buffer position and the dictionaries are restored,
+	 * so that the caller can retry with a larger buffer
+	 */
+	public void encode(DomainEvent event, ByteBuffer buffer) {
+		EventSchema schema = EventSchema.of(event);
+		int position = buffer.position();
+		int plateaus = writtenPlateaus.size();
+		int rovers = writtenRovers.size();
+		long timestamp = lastWrittenTimestamp;
+		try {
+			buffer.put((byte) (FORMAT_VERSION << SCHEMA_BITS | schema.id));
+			schema.write(this, event, buffer);
+		} catch (BufferOverflowException e) {
+			buffer.position(position);
+			writtenPlateaus.truncate(plateaus);
+			writtenRovers.truncate(rovers);
+			lastWrittenTimestamp = timestamp;
+			throw e;
+		}
+	}
+
+	public DomainEvent decode(ByteBuffer buffer) {
+		int header = buffer.get() & 0xFF;
+		int version = header >>> SCHEMA_BITS;
+		if (version != FORMAT_VERSION) {
+			throw new EventStoreException(
+					String.format(GameExceptionLabels.EVENT_FORMAT_NOT_SUPPORTED, version, FORMAT_VERSION));
+		}
+		return EventSchema.of(header & SCHEMA_MASK).read(this, buffer);
+	}
+
+	/**
+	 * Forgets the interned identifiers and the last timestamps, to be called
+	 * at the start of a new stream on both sides
+	 */
+	public void reset() {
+		writtenPlateaus.clear();
+		writtenRovers.clear();
+		readPlateaus.clear();
+		readRovers.clear();
+		lastWrittenTimestamp = 0;
+		lastReadTimestamp = 0;
+	}
+
+	/**
+	 * Layout of each supported event type, the id being written in the record header.
+	 * The ids are part of the format: new schemas take new ids, an incompatible change of
+	 * an existing schema requires a new {@link BinaryEventCodec#FORMAT_VERSION}
+	 */
+	enum EventSchema {
+
+		/**
+		 * [flags][date][plateau id][width][height]
+		 */
+		PLATEAU_INITIALIZED(1, PlateauInitializedEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				PlateauInitializedEvent event = (PlateauInitializedEvent) domainEvent;
+				TwoDimensionalSpace dimensions = event.getDimensions();
+				buffer.put(flags(event.getPlateauId() != null, dimensions != null, false));
+				codec.writeTimestamp(event, buffer);
+				if (event.getPlateauId() != null) {
+					codec.writePlateau(event.getPlateauId(), buffer);
+				}
+				if (dimensions != null) {
+					writeVarInt(dimensions.getWidth(), buffer);
+					writeVarInt(dimensions.getHeight(), buffer);
+				}
+			}
+
+			@Override
+			PlateauInitializedEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				int flags = buffer.get();
+				long timestamp = codec.readTimestamp(buffer);
+				UUID plateauId = (flags & HAS_FIRST) == 0 ? null : codec.readPlateau(buffer);
+				TwoDimensions dimensions = (flags & HAS_SECOND) == 0 ? null
+						: new TwoDimensions(new TwoDimensionalCoordinates(readVarInt(buffer), readVarInt(buffer)));
+				return withTimestamp(new PlateauInitializedEvent.Builder().withPlateauId(plateauId)
+						.withDimensions(dimensions).build(), timestamp);
+			}
+		},
+
+		/**
+		 * [date][exception][initialization]
+		 */
+		PLATEAU_INITIALIZED_WITH_EXCEPTION(2, PlateauInitializedWithExceptionEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				PlateauInitializedWithExceptionEvent event = (PlateauInitializedWithExceptionEvent) domainEvent;
+				codec.writeWithException(event, buffer);
+				PLATEAU_INITIALIZED.write(codec, event.getEvent(), buffer);
+			}
+
+			@Override
+			PlateauInitializedWithExceptionEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				long timestamp = codec.readTimestamp(buffer);
+				Exception exception = readException(buffer);
+				return withTimestamp(new PlateauInitializedWithExceptionEvent(
+						(PlateauInitializedEvent) PLATEAU_INITIALIZED.read(codec, buffer), exception), timestamp);
+			}
+		},
+
+		/**
+		 * [flags][date][plateau id][rover][released position][occupied position - released position]
+		 */
+		PLATEAU_SWITCHED_LOCATION(3, PlateauSwitchedLocationEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				PlateauSwitchedLocationEvent event = (PlateauSwitchedLocationEvent) domainEvent;
+				long previous = event.getPackedPreviousPosition();
+				long current = event.getPackedCurrentPosition();
+				buffer.put(flags(previous != PackedCoordinates.NONE, current != PackedCoordinates.NONE,
+						event.getRoverId() != null));
+				codec.writeTimestamp(event, buffer);
+				codec.writePlateau(event.getPlateauId(), buffer);
+				if (event.getRoverId() != null) {
+					codec.writeRover(event.getRoverId(), buffer);
+				}
+				writePositions(previous, current, buffer);
+			}
+
+			@Override
+			PlateauSwitchedLocationEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				int flags = buffer.get();
+				long timestamp = codec.readTimestamp(buffer);
+				UUID plateauId = codec.readPlateau(buffer);
+				RoverIdentifier roverId = (flags & HAS_THIRD) == 0 ? null : codec.readRover(buffer);
+				long previous = readPosition(flags, HAS_FIRST, PackedCoordinates.NONE, buffer);
+				long current = readPosition(flags, HAS_SECOND, previous, buffer);
+				return withTimestamp(new PlateauSwitchedLocationEvent.Builder().withPlateauId(plateauId)
+						.withRoverId(roverId).withPreviousPosition(previous).withCurrentPosition(current).build(),
+						timestamp);
+			}
+		},
+
+		/**
+		 * [flags][date][rover][position][orientation]
+		 */
+		ROVER_INITIALIZED(4, RoverInitializedEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				RoverInitializedEvent event = (RoverInitializedEvent) domainEvent;
+				TwoDimensionalCoordinates position = event.getPosition();
+				buffer.put(flags(event.getRoverId() != null, position != null, event.getOrientation() != null));
+				codec.writeTimestamp(event, buffer);
+				if (event.getRoverId() != null) {
+					codec.writeRover(event.getRoverId(), buffer);
+				}
+				if (position != null) {
+					writePosition(PackedCoordinates.pack(position), PackedCoordinates.NONE, buffer);
+				}
+				if (event.getOrientation() != null) {
+					buffer.put((byte) event.getOrientation().ordinal());
+				}
+			}
+
+			@Override
+			RoverInitializedEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				int flags = buffer.get();
+				long timestamp = codec.readTimestamp(buffer);
+				RoverIdentifier roverId = (flags & HAS_FIRST) == 0 ? null : codec.readRover(buffer);
+				long position = readPosition(flags, HAS_SECOND, PackedCoordinates.NONE, buffer);
+				Orientation orientation = (flags & HAS_THIRD) == 0 ? null : readOrientation(buffer);
+				return withTimestamp(new RoverInitializedEvent.Builder().withRoverId(roverId)
+						.withPosition(PackedCoordinates.unpack(position)).withOrientation(orientation).build(),
+						timestamp);
+			}
+		},
+
+		/**
+		 * [date][exception][initialization]
+		 */
+		ROVER_INITIALIZED_WITH_EXCEPTION(5, RoverInitializedWithExceptionEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				RoverInitializedWithExceptionEvent event = (RoverInitializedWithExceptionEvent) domainEvent;
+				codec.writeWithException(event, buffer);
+				ROVER_INITIALIZED.write(codec, event.getEvent(), buffer);
+			}
+
+			@Override
+			RoverInitializedWithExceptionEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				long timestamp = codec.readTimestamp(buffer);
+				Exception exception = readException(buffer);
+				return withTimestamp(new RoverInitializedWithExceptionEvent(
+						(RoverInitializedEvent) ROVER_INITIALIZED.read(codec, buffer), exception), timestamp);
+			}
+		},
+
+		/**
+		 * [flags][date][rover][version][previous position][current position - previous position][steps]
+		 */
+		ROVER_MOVED(6, RoverMovedEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				RoverMovedEvent event = (RoverMovedEvent) domainEvent;
+				long previous = event.getPackedPreviousPosition();
+				long current = event.getPackedCurrentPosition();
+				buffer.put((byte) (flags(event.getRoverId() != null, previous != PackedCoordinates.NONE,
+						current != PackedCoordinates.NONE) | (event.isCompacted() ? COMPACTED : 0)));
+				codec.writeTimestamp(event, buffer);
+				if (event.getRoverId() != null) {
+					codec.writeRover(event.getRoverId().getId(), buffer);
+					writeVarInt(event.getRoverId().getVersion(), buffer);
+				}
+				writePositions(previous, current, buffer);
+				if (event.isCompacted()) {
+					writeVarInt(event.getNumberOfSteps(), buffer);
+				}
+			}
+
+			@Override
+			RoverMovedEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				int flags = buffer.get();
+				long timestamp = codec.readTimestamp(buffer);
+				RoverIdentifierDto roverId = (flags & HAS_FIRST) == 0 ? null
+						: new RoverIdentifierDto(codec.readRover(buffer), readVarInt(buffer));
+				long previous = readPosition(flags, HAS_SECOND, PackedCoordinates.NONE, buffer);
+				long current = readPosition(flags, HAS_THIRD, previous, buffer);
+				int numberOfSteps = (flags & COMPACTED) == 0 ? 1 : readVarInt(buffer);
+				return withTimestamp(new RoverMovedEvent.Builder().withRoverId(roverId).withPreviousPosition(previous)
+						.withCurrentPosition(current).withNumberOfSteps(numberOfSteps).build(), timestamp);
+			}
+		},
+
+		/**
+		 * [date][exception][move]
+		 */
+		ROVER_MOVED_WITH_EXCEPTION(7, RoverMovedWithExceptionEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				RoverMovedWithExceptionEvent event = (RoverMovedWithExceptionEvent) domainEvent;
+				codec.writeWithException(event, buffer);
+				ROVER_MOVED.write(codec, event.getEvent(), buffer);
+			}
+
+			@Override
+			RoverMovedWithExceptionEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				long timestamp = codec.readTimestamp(buffer);
+				Exception exception = readException(buffer);
+				return withTimestamp(new RoverMovedWithExceptionEvent((RoverMovedEvent) ROVER_MOVED.read(codec, buffer),
+						exception), timestamp);
+			}
+		},
+
+		/**
+		 * [flags][date][rover][version][previous orientation][current orientation]
+		 */
+		ROVER_TURNED(8, RoverTurnedEvent.class) {
+			@Override
+			void write(BinaryEventCodec codec, DomainEvent domainEvent, ByteBuffer buffer) {
+				RoverTurnedEvent event = (RoverTurnedEvent) domainEvent;
+				buffer.put(flags(event.getRoverId() != null, event.getPreviousOrientation() != null,
+						event.getCurrentOrientation() != null));
+				codec.writeTimestamp(event, buffer);
+				if (event.getRoverId() != null) {
+					codec.writeRover(event.getRoverId().getId(), buffer);
+					writeVarInt(event.getRoverId().getVersion(), buffer);
+				}
+				if (event.getPreviousOrientation() != null) {
+					buffer.put((byte) event.getPreviousOrientation().ordinal());
+				}
+				if (event.getCurrentOrientation() != null) {
+					buffer.put((byte) event.getCurrentOrientation().ordinal());
+				}
+			}
+
+			@Override
+			RoverTurnedEvent read(BinaryEventCodec codec, ByteBuffer buffer) {
+				int flags = buffer.get();
+				long timestamp = codec.readTimestamp(buffer);
+				RoverIdentifierDto roverId = (flags & HAS_FIRST) == 0 ? null
+						: new RoverIdentifierDto(codec.readRover(buffer), readVarInt(buffer));
+				Orientation previousOrientation = (flags & HAS_SECOND) == 0 ? null : readOrientation(buffer);
+				Orientation currentOrientation = (flags & HAS_THIRD) == 0 ? null : readOrientation(buffer);
+				return withTimestamp(new RoverTurnedEvent.Builder().withRoverId(roverId)
+						.withPreviousOrientation(previousOrientation).withCurrentOrientation(currentOrientation)
+						.build(), timestamp);
+			}
+		};
+
+		private static final Map<Class<?>, EventSchema> SCHEMAS_BY_CLASS = new HashMap<>();
+
+		private static final EventSchema[] SCHEMAS_BY_ID = new EventSchema[SCHEMA_MASK + 1];
+
+		static {
+			for (EventSchema schema : values()) {
+				SCHEMAS_BY_CLASS.put(schema.eventClass, schema);
+				SCHEMAS_BY_ID[schema.id] = schema;
+			}
+		}
+
+		final int id;
+
+		private final Class<? extends DomainEvent> eventClass;
+
+		EventSchema(int id, Class<? extends DomainEvent> eventClass) {
+			this.id = id;
+			this.eventClass = eventClass;
+		}
+
+		abstract void write(BinaryEventCodec codec, DomainEvent event, ByteBuffer buffer);
+
+		abstract DomainEvent read(BinaryEventCodec codec, ByteBuffer buffer);
+
+		static EventSchema of(DomainEvent event) {
+			EventSchema schema = event == null ? null : SCHEMAS_BY_CLASS.get(event.getClass());
+			if (schema == null) {
+				throw new EventStoreException(String.format(GameExceptionLabels.EVENT_TYPE_NOT_SUPPORTED,
+						event == null ? null : event.getClass().getName()));
+			}
+			return schema;
+		}
+
+		static EventSchema of(int id) {
+			EventSchema schema = SCHEMAS_BY_ID[id];
+			if (schema == null) {
+				throw new EventStoreException(String.format(GameExceptionLabels.EVENT_TYPE_NOT_SUPPORTED, id));
+			}
+			return schema;
+		}
+
+	}
+
+	private void writeWithException(BaseDomainEventWithException<?> event, ByteBuffer buffer) {
+		writeTimestamp(event, buffer);
+		Exception exception = event.getException();
+		if (exception instanceof GameException) {
+			writeString(((GameException) exception).getErrorCode(), buffer);
+			writeString(((GameException) exception).getOriginalMessage(), buffer);
+		} else {
+			writeString(null, buffer);
+			writeString(exception == null ? null : exception.getMessage(), buffer);
+		}
+	}
+
+	private static Exception readException(ByteBuffer buffer) {
+		String errorCode = readString(buffer);
+		String message = readString(buffer);
+		return new GameException(message, errorCode);
+	}
+
+	/**
+	 * Index + 1 of an interned plateau id, 0 followed by the id for its first occurrence
+	 */
+	private void writePlateau(UUID plateauId, ByteBuffer buffer) {
+		int index = writtenPlateaus.indexOf(plateauId);
+		if (index >= 0) {
+			writeVarInt(index + 1, buffer);
+			return;
+		}
+		writeVarInt(0, buffer);
+		buffer.putLong(plateauId.getMostSignificantBits());
+		buffer.putLong(plateauId.getLeastSignificantBits());
+		writtenPlateaus.add(plateauId);
+	}
+
+	private UUID readPlateau(ByteBuffer buffer) {
+		int reference = readVarInt(buffer);
+		if (reference > 0) {
+			return readPlateaus.get(reference - 1);
+		}
+		return readPlateaus.add(new UUID(buffer.getLong(), buffer.getLong()));
+	}
+
+	/**
+	 * Index + 1 of an interned rover, 0 followed by its plateau and its name for its first occurrence
+	 */
+	private void writeRover(RoverIdentifier roverId, ByteBuffer buffer) {
+		int index = writtenRovers.indexOf(roverId);
+		if (index >= 0) {
+			writeVarInt(index + 1, buffer);
+			return;
+		}
+		writeVarInt(0, buffer);
+		writePlateau(roverId.getPlateauId(), buffer);
+		writeString(roverId.getName(), buffer);
+		writtenRovers.add(roverId);
+	}
+
+	private RoverIdentifier readRover(ByteBuffer buffer) {
+		int reference = readVarInt(buffer);
+		if (reference > 0) {
+			return readRovers.get(reference - 1);
+		}
+		UUID plateauId = readPlateau(buffer);
+		return readRovers.add(new RoverIdentifier(plateauId, readString(buffer)));
+	}
+
+	private void writeTimestamp(BaseDomainEvent event, ByteBuffer buffer) {
+		writeVarLong(zigzag(event.getTimestamp() - lastWrittenTimestamp), buffer);
+		lastWrittenTimestamp = event.getTimestamp();
+	}
+
+	private long readTimestamp(ByteBuffer buffer) {
+		lastReadTimestamp += unzigzag(readVarLong(buffer));
+		return lastReadTimestamp;
+	}
+
+	private static byte flags(boolean first, boolean second, boolean third) {
+		return (byte) ((first ? HAS_FIRST : 0) | (second ? HAS_SECOND : 0) | (third ? HAS_THIRD : 0));
+	}
+
+	/**
+	 * The current position, when both are present, is written relatively to the previous one
+	 */
+	private static void writePositions(long previous, long current, ByteBuffer buffer) {
+		if (previous != PackedCoordinates.NONE) {
+			writePosition(previous, PackedCoordinates.NONE, buffer);
+		}
+		if (current != PackedCoordinates.NONE) {
+			writePosition(current, previous, buffer);
+		}
+	}
+
+	private static void writePosition(long position, long origin, ByteBuffer buffer) {
+		long originX = origin == PackedCoordinates.NONE ? 0 : PackedCoordinates.abscissa(origin);
+		long originY = origin == PackedCoordinates.NONE ? 0 : PackedCoordinates.ordinate(origin);
+		writeVarLong(zigzag(PackedCoordinates.abscissa(position) - originX), buffer);
+		writeVarLong(zigzag(PackedCoordinates.ordinate(position) - originY), buffer);
+	}
+
+	private static long readPosition(int flags, int flag, long origin, ByteBuffer buffer) {
+		if ((flags & flag) == 0) {
+			return PackedCoordinates.NONE;
+		}
+		long originX = origin == PackedCoordinates.NONE ? 0 : PackedCoordinates.abscissa(origin);
+		long originY = origin == PackedCoordinates.NONE ? 0 : PackedCoordinates.ordinate(origin);
+		int x = (int) (originX + unzigzag(readVarLong(buffer)));
+		int y = (int) (originY + unzigzag(readVarLong(buffer)));
+		return PackedCoordinates.pack(x, y);
+	}
+
+	private static Orientation readOrientation(ByteBuffer buffer) {
+		int ordinal = buffer.get();
+		Orientation[] orientations = Orientation.values();
+		if (ordinal < 0 || ordinal >= orientations.length) {
+			throw corrupted("orientation " + ordinal);
+		}
+		return orientations[ordinal];
+	}
+
+	/**
+	 * Length + 1 (0 for null) followed by the UTF-8 bytes, written without copying the string
+	 */
+	private static void writeString(String value, ByteBuffer buffer) {
+		if (value == null) {
+			writeVarInt(0, buffer);
+			return;
+		}
+		writeVarInt(utf8Length(value) + 1, buffer);
+		for (int i = 0; i < value.length(); i++) {
+			int codePoint = value.codePointAt(i);
+			if (codePoint < 0x80) {
+				buffer.put((byte) codePoint);
+			} else if (codePoint < 0x800) {
+				buffer.put((byte) (0xC0 | codePoint >> 6));
+				buffer.put((byte) (0x80 | codePoint & 0x3F));
+			} else if (codePoint < 0x10000) {
+				buffer.put((byte) (0xE0 | codePoint >> 12));
+				buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+				buffer.put((byte) (0x80 | codePoint & 0x3F));
+			} else {
+				buffer.put((byte) (0xF0 | codePoint >> 18));
+				buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+				buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+				buffer.put((byte) (0x80 | codePoint & 0x3F));
+				i++;
+			}
+		}
+	}
+
+	private static int utf8Length(String value) {
+		int length = 0;
+		for (int i = 0; i < value.length(); i++) {
+			int codePoint = value.codePointAt(i);
+			if (codePoint < 0x80) {
+				length++;
+			} else if (codePoint < 0x800) {
+				length += 2;
+			} else if (codePoint < 0x10000) {
+				length += 3;
+			} else {
+				length += 4;
+				i++;
+			}
+		}
+		return length;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = readVarInt(buffer) - 1;
+		if (length < 0) {
+			return null;
+		}
+		if (length > buffer.remaining()) {
+			throw corrupted("string of " + length + " bytes");
+		}
+		if (buffer.hasArray()) {
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+					StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static void writeVarInt(int value, ByteBuffer buffer) {
+		writeVarLong(value & 0xFFFFFFFFL, buffer);
+	}
+
+	static int readVarInt(ByteBuffer buffer) {
+		return (int) readVarLong(buffer);
+	}
+
+	/**
+	 * 7 bits per byte, the high bit set when more bytes follow
+	 */
+	static void writeVarLong(long value, ByteBuffer buffer) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) (value & 0x7F | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw corrupted("varint longer than 10 bytes");
+	}
+
+	/**
+	 * Maps the small negative values to small positive ones: 0, -1, 1, -2... to 0, 1, 2, 3...
+	 */
+	static long zigzag(long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	static long unzigzag(long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	private static EventStoreException corrupted(String detail) {
+		return new EventStoreException(String.format(GameExceptionLabels.EVENT_ENCODING_CORRUPTED, detail));
+	}
+
+	private static <T extends BaseDomainEvent> T withTimestamp(T event, long timestamp) {
+		event.setTimestamp(timestamp);
+		return event;
+	}
+
+	/**
+	 * Interned values of one side of a stream, in the order of their first occurrence
+	 */
+	private static class Dictionary<T> {
+
+		private final List<T> values = new ArrayList<>();
+
+		private final Map<T, Integer> indexes = new HashMap<>();
+
+		int indexOf(T value) {
+			Integer index = indexes.get(value);
+			return index == null ? -1 : index;
+		}
+
+		T add(T value) {
+			indexes.putIfAbsent(value, values.size());
+			values.add(value);
+			return value;
+		}
+
+		T get(int index) {
+			if (index >= values.size()) {
+				throw corrupted("unknown interned reference " + (index + 1));
+			}
+			return values.get(index);
+		}
+
+		int size() {
+			return values.size();
+		}
+
+		void truncate(int size) {
+			while (values.size() > size) {
+				T value = values.remove(values.size() - 1);
+				indexes.remove(value, values.size());
+			}
+		}
+
+		void clear() {
+			values.clear();
+			indexes.clear();
+		}
+
+	}
+
+}
@@ -0,0 +1,435 @@
+package com.game.infrastructure.persistence.event.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.store.EventStore;
+import com.game.domain.model.exception.EventStoreException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+/**
+ * Durable, append-only {@link EventStore} adapter located in the infrastructure layer.
+ * The events are encoded with {@link BinaryEventCodec} and appended to fixed-size
+ * memory-mapped segment files. When the active segment is full a new one is created (rolled),
+ * so that the heap only holds the encoding scratch buffer whatever the number of events stored.
+ * <p>
+ * Segment layout: a 16 bytes header (magic, format version, sequence of the first event)
+ * followed by the records [int length][payload]. The payload is written before its length so that
+ * a length of 0 always marks the end of the committed records, even after a crash.
+ * The codec is reset before each record: nothing is interned across records, so that a stream
+ * can start decoding at any sequence.
+ * </p>
+ * Loaded by the GameContext via ServiceLocator when the
+ * {@link com.game.domain.application.context.GameContext#EVENT_STORE_DIRECTORY_PROPERTY} is set.
+ */
+public class MappedSegmentEventStoreImpl implements EventStore, Closeable {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	static final int SEGMENT_MAGIC = 0x524F5652;
+
+	static final int SEGMENT_FORMAT_VERSION = 3;
+
+	static final int SEGMENT_HEADER_SIZE = 16;
+
+	static final int RECORD_HEADER_SIZE = 4;
+
+	private static final String SEGMENT_FILE_PATTERN = "segment-%020d.log";
+
+	private static final String SEGMENT_FILE_GLOB = "segment-*.log";
+
+	private static final int INITIAL_SCRATCH_SIZE = 512;
+
+	private final Path directory;
+
+	private final int segmentSize;
+
+	/**
+	 * Force the active segment to the storage device after each append
+	 * By default we rely on the operating system to flush the mapped pages
+	 */
+	private final boolean syncOnAppend;
+
+	/**
+	 * Encodes the appended events, under the store lock
+	 */
+	private final BinaryEventCodec codec = new BinaryEventCodec();
+
+	private final List<Segment> segments = new ArrayList<>();
+
+	private Segment activeSegment;
+
+	private ByteBuffer scratch = ByteBuffer.allocate(INITIAL_SCRATCH_SIZE);
+
+	private long size;
+
+	public MappedSegmentEventStoreImpl(Path directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE, false);
+	}
+
+	public MappedSegmentEventStoreImpl(Path directory, int segmentSize, boolean syncOnAppend) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.syncOnAppend = syncOnAppend;
+		open();
+	}
+
+	@Override
+	public void addEvent(DomainEvent event) {
+		append(event);
+	}
+
+	@Override
+	public synchronized long append(DomainEvent event) {
+		long sequence = write(event);
+		if (syncOnAppend) {
+			activeSegment.force();
+		}
+		return sequence;
+	}
+
+	/**
+	 * Group commit: one lock and at most one force for all the events
+	 */
+	@Override
+	public synchronized void addEvents(List<DomainEvent> events) {
+		events.forEach(this::write);
+		if (syncOnAppend && !events.isEmpty()) {
+			activeSegment.force();
+		}
+	}
+
+	private long write(DomainEvent event) {
+		ByteBuffer record = encode(event);
+		int recordSize = RECORD_HEADER_SIZE + record.remaining();
+		if (recordSize > segmentSize - SEGMENT_HEADER_SIZE) {
+			throw new EventStoreException(
+					String.format(GameExceptionLabels.EVENT_TOO_LARGE_FOR_SEGMENT, recordSize, segmentSize));
+		}
+		if (activeSegment.remaining() < recordSize) {
+			roll();
+		}
+		activeSegment.append(record);
+		return size++;
+	}
+
+	/**
+	 * Decodes the whole log, the returned list is a copy
+	 * which is not backed by the store
+	 */
+	@Override
+	public synchronized List<DomainEvent> getAllEvents() {
+		List<DomainEvent> events = new ArrayList<>((int) Math.min(size, Integer.MAX_VALUE));
+		BinaryEventCodec decoder = new BinaryEventCodec();
+		segments.forEach(segment -> segment.read(decoder, events::add));
+		return events;
+	}
+
+	@Override
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * The records committed when the stream is created are decoded one by one
+	 * directly from the mapped segments, without holding the store lock,
+	 * by a codec owned by the stream
+	 */
+	@Override
+	public synchronized Stream<DomainEvent> streamFrom(long sequence) {
+		long from = Math.min(Math.max(sequence, 0), size);
+		List<SegmentCursor> cursors = new ArrayList<>();
+		for (Segment segment : segments) {
+			if (segment.baseSequence + segment.count > from) {
+				cursors.add(segment.cursor(from));
+			}
+		}
+		Iterator<DomainEvent> iterator = new SegmentsIterator(cursors, new BinaryEventCodec());
+		return StreamSupport.stream(Spliterators.spliterator(iterator, size - from,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	/**
+	 * Deletes all the segments and starts a new log
+	 */
+	@Override
+	public synchronized void clear() {
+		List<Path> paths = new ArrayList<>();
+		segments.forEach(segment -> paths.add(segment.path));
+		close();
+		try {
+			for (Path path : paths) {
+				Files.deleteIfExists(path);
+			}
+		} catch (IOException e) {
+			throw new EventStoreException(String.format(GameExceptionLabels.EVENT_STORE_IO_ERROR, directory), e);
+		}
+		size = 0;
+		roll();
+	}
+
+	public synchronized int getNumberOfSegments() {
+		return segments.size();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (activeSegment != null) {
+			activeSegment.force();
+		}
+		for (Segment segment : segments) {
+			segment.close();
+		}
+		segments.clear();
+		activeSegment = null;
+	}
+
+	private ByteBuffer encode(DomainEvent event) {
+		while (true) {
+			scratch.clear();
+			try {
+				codec.reset();
+				codec.encode(event, scratch);
+				scratch.flip();
+				return scratch;
+			} catch (BufferOverflowException e) {
+				scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+			}
+		}
+	}
+
+	private void open() {
+		try {
+			Files.createDirectories(directory);
+			List<Path> files = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_FILE_GLOB)) {
+				stream.forEach(files::add);
+			}
+			files.sort(null);
+			for (int i = 0; i < files.size(); i++) {
+				boolean last = i == files.size() - 1;
+				Segment segment = Segment.open(files.get(i), last);
+				segments.add(segment);
+				size = segment.baseSequence + segment.count;
+			}
+		} catch (IOException e) {
+			throw new EventStoreException(String.format(GameExceptionLabels.EVENT_STORE_IO_ERROR, directory), e);
+		}
+		if (segments.isEmpty()) {
+			roll();
+		} else {
+			activeSegment = segments.get(segments.size() - 1);
+		}
+	}
+
+	private void roll() {
+		Path path = directory.resolve(String.format(SEGMENT_FILE_PATTERN, size));
+		try {
+			if (activeSegment != null) {
+				activeSegment.force();
+			}
+			activeSegment = Segment.create(path, segmentSize, size);
+			segments.add(activeSegment);
+		} catch (IOException e) {
+			throw new EventStoreException(String.format(GameExceptionLabels.EVENT_STORE_IO_ERROR, path), e);
+		}
+	}
+
+	/**
+	 * One mapped segment file of the log
+	 */
+	static class Segment {
+
+		private final Path path;
+
+		private final FileChannel channel;
+
+		private final MappedByteBuffer buffer;
+
+		private final long baseSequence;
+
+		private long count;
+
+		private Segment(Path path, FileChannel channel, MappedByteBuffer buffer, long baseSequence) {
+			this.path = path;
+			this.channel = channel;
+			this.buffer = buffer;
+			this.baseSequence = baseSequence;
+		}
+
+		static Segment create(Path path, int segmentSize, long baseSequence) throws IOException {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, segmentSize);
+			buffer.putInt(SEGMENT_MAGIC);
+			buffer.putInt(SEGMENT_FORMAT_VERSION);
+			buffer.putLong(baseSequence);
+			return new Segment(path, channel, buffer, baseSequence);
+		}
+
+		static Segment open(Path path, boolean writable) throws IOException {
+			FileChannel channel = writable
+					? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+					: FileChannel.open(path, StandardOpenOption.READ);
+			MappedByteBuffer buffer = channel.map(writable ? MapMode.READ_WRITE : MapMode.READ_ONLY, 0,
+					channel.size());
+			if (buffer.capacity() < SEGMENT_HEADER_SIZE || buffer.getInt() != SEGMENT_MAGIC
+					|| buffer.getInt() != SEGMENT_FORMAT_VERSION) {
+				channel.close();
+				throw new EventStoreException(String.format(GameExceptionLabels.EVENT_STORE_CORRUPTED_SEGMENT, path));
+			}
+			Segment segment = new Segment(path, channel, buffer, buffer.getLong());
+			segment.recover();
+			return segment;
+		}
+
+		/**
+		 * Scans the committed records to restore the write position
+		 */
+		private void recover() {
+			int position = SEGMENT_HEADER_SIZE;
+			while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+				int length = buffer.getInt(position);
+				if (length == 0) {
+					break;
+				}
+				if (length < 0 || position + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+					throw new EventStoreException(
+							String.format(GameExceptionLabels.EVENT_STORE_CORRUPTED_SEGMENT, path));
+				}
+				position += RECORD_HEADER_SIZE + length;
+				count++;
+			}
+			buffer.position(position);
+		}
+
+		int remaining() {
+			return buffer.remaining();
+		}
+
+		void append(ByteBuffer record) {
+			int position = buffer.position();
+			int length = record.remaining();
+			buffer.position(position + RECORD_HEADER_SIZE);
+			buffer.put(record);
+			// the length is the commit marker of the record
+			buffer.putInt(position, length);
+			count++;
+		}
+
+		/**
+		 * Cursor on the records committed so far, starting at the given sequence
+		 */
+		SegmentCursor cursor(long fromSequence) {
+			ByteBuffer view = buffer.duplicate();
+			int end = buffer.position();
+			int position = SEGMENT_HEADER_SIZE;
+			for (long sequence = baseSequence; sequence < fromSequence && position < end; sequence++) {
+				position += RECORD_HEADER_SIZE + view.getInt(position);
+			}
+			return new SegmentCursor(view, position, end);
+		}
+
+		void read(BinaryEventCodec codec, Consumer<DomainEvent> consumer) {
+			SegmentCursor cursor = cursor(baseSequence);
+			while (cursor.hasNext()) {
+				consumer.accept(cursor.next(codec));
+			}
+		}
+
+		void force() {
+			buffer.force();
+		}
+
+		void close() {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new EventStoreException(String.format(GameExceptionLabels.EVENT_STORE_IO_ERROR, path), e);
+			}
+		}
+
+	}
+
+	static class SegmentCursor {
+
+		private final ByteBuffer view;
+
+		private final int end;
+
+		private int position;
+
+		SegmentCursor(ByteBuffer view, int position, int end) {
+			this.view = view;
+			this.position = position;
+			this.end = end;
+		}
+
+		boolean hasNext() {
+			return position < end;
+		}
+
+		DomainEvent next(BinaryEventCodec codec) {
+			int length = view.getInt(position);
+			view.limit(position + RECORD_HEADER_SIZE + length);
+			view.position(position + RECORD_HEADER_SIZE);
+			codec.reset();
+			DomainEvent event = codec.decode(view);
+			view.limit(view.capacity());
+			position += RECORD_HEADER_SIZE + length;
+			return event;
+		}
+
+	}
+
+	static class SegmentsIterator implements Iterator<DomainEvent> {
+
+		private final Iterator<SegmentCursor> cursors;
+
+		private final BinaryEventCodec codec;
+
+		private SegmentCursor current;
+
+		SegmentsIterator(List<SegmentCursor> cursors, BinaryEventCodec codec) {
+			this.cursors = cursors.iterator();
+			this.codec = codec;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ((current == null || !current.hasNext()) && cursors.hasNext()) {
+				current = cursors.next();
+			}
+			return current != null && current.hasNext();
+		}
+
+		@Override
+		public DomainEvent next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next(codec);
+		}
+
+	}
+
+}
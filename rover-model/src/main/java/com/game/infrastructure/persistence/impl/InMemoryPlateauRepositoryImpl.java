@@ -1,5 +1,7 @@
 package com.game.infrastructure.persistence.impl;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -42,4 +44,9 @@ public class InMemoryPlateauRepositoryImpl implements PlateauRepository {
 		plateaus.put(plateau.getId(), plateau);
 	}
 
+	@Override
+	public Collection<Plateau> getAllPlateaus() {
+		return Collections.unmodifiableCollection(plateaus.values());
+	}
+
 }
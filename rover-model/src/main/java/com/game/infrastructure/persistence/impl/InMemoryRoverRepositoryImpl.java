@@ -1,7 +1,9 @@
 package com.game.infrastructure.persistence.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.game.domain.model.entity.rover.Rover;
@@ -12,12 +14,19 @@ import com.game.domain.model.repository.RoverRepository;
 /**
  * Repository adapter as defined by Hexagonal Architecture
  * Should implement a repository port/interface from the model
+ * The rovers are indexed by plateau as well, so that the queries on one plateau
+ * only go through the rovers of this plateau
  *
  */
 public class InMemoryRoverRepositoryImpl implements RoverRepository {
 
 	Map<RoverIdentifier, Rover> rovers = new ConcurrentHashMap<>();
 
+	/**
+	 * Secondary index: plateau UUID -> rovers of the plateau
+	 */
+	Map<UUID, Map<RoverIdentifier, Rover>> roversByPlateau = new ConcurrentHashMap<>();
+
 	@Override
 	public Rover load(RoverIdentifier id) {
 		if (rovers.get(id) == null) {
@@ -28,18 +37,28 @@ public class InMemoryRoverRepositoryImpl implements RoverRepository {
 
 	@Override
 	public void add(Rover rover) {
-		rovers.putIfAbsent(rover.getId(), rover);
+		if (rovers.putIfAbsent(rover.getId(), rover) == null) {
+			index(rover);
+		}
 	}
 
 	@Override
 	public void update(Rover rover) {
 		rovers.put(rover.getId(), rover);
+		index(rover);
 	}
 
 	@Override
 	public void remove(RoverIdentifier id) {
-		rovers.remove(id);
-
+		if (rovers.remove(id) != null) {
+			roversByPlateau.computeIfPresent(id.getPlateauId(), (plateauId, plateauRovers) -> {
+				// unless added back meanwhile
+				if (!rovers.containsKey(id)) {
+					plateauRovers.remove(id);
+				}
+				return plateauRovers.isEmpty() ? null : plateauRovers;
+			});
+		}
 	}
 	
 	public int getNumberOfRovers() {
@@ -48,6 +67,7 @@ public class InMemoryRoverRepositoryImpl implements RoverRepository {
 
 	public void removeAllRovers() {
 		rovers.clear();
+		roversByPlateau.clear();
 	}
 
 	@Override
@@ -55,5 +75,27 @@ public class InMemoryRoverRepositoryImpl implements RoverRepository {
 		return rovers.values();
 	}
 
+	@Override
+	public Collection<Rover> getAllRoversOnPlateau(UUID plateauId) {
+		Map<RoverIdentifier, Rover> plateauRovers = roversByPlateau.get(plateauId);
+		return plateauRovers == null ? Collections.emptyList() : Collections.unmodifiableCollection(plateauRovers.values());
+	}
+
+	@Override
+	public boolean exists(RoverIdentifier id) {
+		return rovers.containsKey(id);
+	}
+
+	/**
+	 * The update of the plateau entry is atomic with its removal when it gets empty
+	 */
+	private void index(Rover rover) {
+		roversByPlateau.compute(rover.getId().getPlateauId(), (plateauId, plateauRovers) -> {
+			Map<RoverIdentifier, Rover> updated = plateauRovers == null ? new ConcurrentHashMap<>() : plateauRovers;
+			updated.put(rover.getId(), rover);
+			return updated;
+		});
+	}
+
 
 }
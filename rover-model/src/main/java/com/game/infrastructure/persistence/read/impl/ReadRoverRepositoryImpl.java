@@ -1,5 +1,6 @@
 package com.game.infrastructure.persistence.read.impl;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -8,7 +9,7 @@ import com.game.domain.model.repository.ReadRoverRepository;
 
 public class ReadRoverRepositoryImpl implements ReadRoverRepository {
 	
-	List<RoverIdentifier> roverIds = new LinkedList<>();
+	List<RoverIdentifier> roverIds = Collections.synchronizedList(new LinkedList<>());
 
 	@Override
 	public void add(RoverIdentifier roverId) {
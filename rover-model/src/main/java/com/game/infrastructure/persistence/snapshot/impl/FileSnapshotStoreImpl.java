@@ -0,0 +1,144 @@
+package com.game.infrastructure.persistence.snapshot.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.SnapshotException;
+import com.game.domain.model.snapshot.GameSnapshot;
+import com.game.domain.model.snapshot.SnapshotStore;
+
+/**
+ * {@link SnapshotStore} adapter writing each {@link GameSnapshot} in its own file of the directory,
+ * named after the event sequence of the snapshot.
+ * <p>
+ * File layout: magic, format version, the snapshot encoded by {@link SnapshotCodec}, then the CRC32
+ * of all the previous bytes. The file is written aside and then renamed, and a snapshot failing its
+ * checks is skipped in favor of the previous one, so that a crash while writing never prevents the recovery.
+ * </p>
+ * Loaded by the GameContext when the
+ * {@link com.game.domain.application.context.GameContext#SNAPSHOT_DIRECTORY_PROPERTY} is set.
+ */
+public class FileSnapshotStoreImpl implements SnapshotStore {
+
+	static final int SNAPSHOT_MAGIC = 0x534E4150;
+
+	/**
+	 * 2: dimensions type and observer speed of the plateaus. The snapshots of another version
+	 * are skipped, the events being then replayed from the start of the log
+	 */
+	static final int SNAPSHOT_FORMAT_VERSION = 2;
+
+	/**
+	 * Number of snapshots kept, the older ones are deleted
+	 */
+	static final int KEPT_SNAPSHOTS = 2;
+
+	private static final String SNAPSHOT_FILE_PATTERN = "snapshot-%020d.snap";
+
+	private static final String SNAPSHOT_FILE_GLOB = "snapshot-*.snap";
+
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final Path directory;
+
+	private final SnapshotCodec codec = new SnapshotCodec();
+
+	public FileSnapshotStoreImpl(Path directory) {
+		this.directory = directory;
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_IO_ERROR, directory), e);
+		}
+	}
+
+	@Override
+	public synchronized void save(GameSnapshot snapshot) {
+		Path file = directory.resolve(String.format(SNAPSHOT_FILE_PATTERN, snapshot.getSequence()));
+		Path temporaryFile = directory.resolve(file.getFileName() + TEMPORARY_SUFFIX);
+		try {
+			try (CheckedOutputStream checked = new CheckedOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temporaryFile)), new CRC32());
+					DataOutputStream output = new DataOutputStream(checked)) {
+				output.writeInt(SNAPSHOT_MAGIC);
+				output.writeInt(SNAPSHOT_FORMAT_VERSION);
+				codec.encode(snapshot, output);
+				output.writeLong(checked.getChecksum().getValue());
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			deleteOlderSnapshots();
+		} catch (IOException e) {
+			throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_IO_ERROR, file), e);
+		}
+	}
+
+	@Override
+	public synchronized Optional<GameSnapshot> loadLatest() {
+		for (Path file : listSnapshots()) {
+			try {
+				return Optional.of(read(file));
+			} catch (SnapshotException e) {
+				// corrupted or incomplete: fall back to the previous snapshot
+			}
+		}
+		return Optional.empty();
+	}
+
+	private GameSnapshot read(Path file) {
+		try (CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)),
+				new CRC32()); DataInputStream input = new DataInputStream(checked)) {
+			if (input.readInt() != SNAPSHOT_MAGIC || input.readInt() != SNAPSHOT_FORMAT_VERSION) {
+				throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_CORRUPTED, file));
+			}
+			GameSnapshot snapshot = codec.decode(input);
+			long checksum = checked.getChecksum().getValue();
+			if (input.readLong() != checksum) {
+				throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_CORRUPTED, file));
+			}
+			return snapshot;
+		} catch (SnapshotException e) {
+			throw e;
+		} catch (IOException | RuntimeException e) {
+			// truncated file or out of range values
+			throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_CORRUPTED, file), e);
+		}
+	}
+
+	/**
+	 * @return the snapshot files, the most recent first
+	 */
+	List<Path> listSnapshots() {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SNAPSHOT_FILE_GLOB)) {
+			stream.forEach(files::add);
+		} catch (IOException e) {
+			throw new SnapshotException(String.format(GameExceptionLabels.SNAPSHOT_IO_ERROR, directory), e);
+		}
+		// the zero padded sequence makes the lexicographic order chronological
+		files.sort(Collections.reverseOrder());
+		return files;
+	}
+
+	private void deleteOlderSnapshots() throws IOException {
+		List<Path> files = listSnapshots();
+		for (int i = KEPT_SNAPSHOTS; i < files.size(); i++) {
+			Files.deleteIfExists(files.get(i));
+		}
+	}
+
+}
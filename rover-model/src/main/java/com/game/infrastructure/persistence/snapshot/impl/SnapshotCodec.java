@@ -0,0 +1,175 @@
+package com.game.infrastructure.persistence.snapshot.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.dimensions.RelativisticTwoDimensions;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensionalSpace;
+import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.plateau.BitSetPlateauOccupancy;
+import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.plateau.PlateauOccupancy;
+import com.game.domain.model.entity.plateau.SparsePlateauOccupancy;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.snapshot.GameSnapshot;
+
+/**
+ * Binary encoding of a {@link GameSnapshot}: the event sequence, then each plateau
+ * (id, dimensions at rest with the observer speed of a relativistic plateau, and occupancy,
+ * either its raw bitmap or the list of its occupied locations when sparse) and each rover
+ * (id, position, orientation, version).
+ * The spatial index of the plateaus is not written, it is rebuilt from the rovers.
+ */
+class SnapshotCodec {
+
+	private static final byte DENSE_OCCUPANCY = 0;
+
+	private static final byte SPARSE_OCCUPANCY = 1;
+
+	private static final byte CLASSICAL_DIMENSIONS = 0;
+
+	private static final byte RELATIVISTIC_DIMENSIONS = 1;
+
+	void encode(GameSnapshot snapshot, DataOutputStream output) throws IOException {
+		output.writeLong(snapshot.getSequence());
+		output.writeInt(snapshot.getPlateaus().size());
+		for (Plateau plateau : snapshot.getPlateaus()) {
+			writePlateau(plateau, output);
+		}
+		output.writeInt(snapshot.getRovers().size());
+		for (Rover rover : snapshot.getRovers()) {
+			writeRover(rover, output);
+		}
+	}
+
+	GameSnapshot decode(DataInputStream input) throws IOException {
+		long sequence = input.readLong();
+		int numberOfPlateaus = input.readInt();
+		Map<UUID, PlateauOccupancy> occupancies = new HashMap<>();
+		List<Plateau> plateaus = new ArrayList<>(numberOfPlateaus);
+		for (int i = 0; i < numberOfPlateaus; i++) {
+			plateaus.add(readPlateau(input, occupancies));
+		}
+		int numberOfRovers = input.readInt();
+		List<Rover> rovers = new ArrayList<>(numberOfRovers);
+		Map<UUID, List<Rover>> roversByPlateau = new HashMap<>();
+		for (int i = 0; i < numberOfRovers; i++) {
+			Rover rover = readRover(input);
+			rovers.add(rover);
+			roversByPlateau.computeIfAbsent(rover.getId().getPlateauId(), id -> new ArrayList<>()).add(rover);
+		}
+		plateaus.forEach(plateau -> plateau.restoreLocations(occupancies.get(plateau.getId()),
+				roversByPlateau.getOrDefault(plateau.getId(), Collections.emptyList())));
+		return new GameSnapshot(sequence, plateaus, rovers);
+	}
+
+	private void writePlateau(Plateau plateau, DataOutputStream output) throws IOException {
+		writeUuid(plateau.getId(), output);
+		writeDimensions(plateau.getDimensions(), output);
+		output.writeInt(plateau.getVersion());
+		PlateauOccupancy locations = plateau.getLocations();
+		if (locations instanceof SparsePlateauOccupancy) {
+			output.writeByte(SPARSE_OCCUPANCY);
+			writeLongs(((SparsePlateauOccupancy) locations).getOccupiedLocations(), output);
+		} else {
+			output.writeByte(DENSE_OCCUPANCY);
+			writeLongs(((BitSetPlateauOccupancy) locations).toWords(), output);
+		}
+	}
+
+	private Plateau readPlateau(DataInputStream input, Map<UUID, PlateauOccupancy> occupancies) throws IOException {
+		UUID id = readUuid(input);
+		Plateau plateau = new Plateau(id, readDimensions(input));
+		plateau.setVersion(input.readInt());
+		// the locations are indexed from 0 to width (resp. height) included
+		int columns = plateau.getWidth() + 1;
+		int rows = plateau.getHeight() + 1;
+		byte kind = input.readByte();
+		long[] values = readLongs(input);
+		if (kind == SPARSE_OCCUPANCY) {
+			SparsePlateauOccupancy occupancy = new SparsePlateauOccupancy(columns, rows, values.length);
+			for (long location : values) {
+				occupancy.setOccupied(PackedCoordinates.abscissa(location), PackedCoordinates.ordinate(location));
+			}
+			occupancies.put(id, occupancy);
+		} else {
+			occupancies.put(id, new BitSetPlateauOccupancy(columns, rows, values));
+		}
+		return plateau;
+	}
+
+	/**
+	 * A relativistic plateau is written with its dimensions at rest, contracted again when read
+	 */
+	private void writeDimensions(TwoDimensionalSpace dimensions, DataOutputStream output) throws IOException {
+		if (dimensions instanceof RelativisticTwoDimensions) {
+			RelativisticTwoDimensions relativistic = (RelativisticTwoDimensions) dimensions;
+			output.writeByte(RELATIVISTIC_DIMENSIONS);
+			output.writeInt(relativistic.getObserverSpeed());
+			dimensions = relativistic.getDimensions();
+		} else {
+			output.writeByte(CLASSICAL_DIMENSIONS);
+		}
+		output.writeInt(dimensions.getWidth());
+		output.writeInt(dimensions.getHeight());
+	}
+
+	private TwoDimensionalSpace readDimensions(DataInputStream input) throws IOException {
+		byte kind = input.readByte();
+		int speed = kind == RELATIVISTIC_DIMENSIONS ? input.readInt() : 0;
+		TwoDimensions dimensions = new TwoDimensions(new TwoDimensionalCoordinates(input.readInt(), input.readInt()));
+		return kind == RELATIVISTIC_DIMENSIONS ? new RelativisticTwoDimensions(speed, dimensions) : dimensions;
+	}
+
+	private void writeRover(Rover rover, DataOutputStream output) throws IOException {
+		writeUuid(rover.getId().getPlateauId(), output);
+		output.writeUTF(rover.getId().getName());
+		output.writeLong(rover.getPackedPosition());
+		output.writeByte(rover.getOrientation().ordinal());
+		output.writeInt(rover.getVersion());
+	}
+
+	private Rover readRover(DataInputStream input) throws IOException {
+		RoverIdentifier id = new RoverIdentifier(readUuid(input), input.readUTF());
+		TwoDimensionalCoordinates position = PackedCoordinates.unpack(input.readLong());
+		Rover rover = new Rover(id, position, Orientation.values()[input.readByte()]);
+		rover.setVersion(input.readInt());
+		return rover;
+	}
+
+	private void writeLongs(long[] values, DataOutputStream output) throws IOException {
+		output.writeInt(values.length);
+		for (long value : values) {
+			output.writeLong(value);
+		}
+	}
+
+	private long[] readLongs(DataInputStream input) throws IOException {
+		long[] values = new long[input.readInt()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = input.readLong();
+		}
+		return values;
+	}
+
+	private void writeUuid(UUID uuid, DataOutputStream output) throws IOException {
+		output.writeLong(uuid.getMostSignificantBits());
+		output.writeLong(uuid.getLeastSignificantBits());
+	}
+
+	private UUID readUuid(DataInputStream input) throws IOException {
+		return new UUID(input.readLong(), input.readLong());
+	}
+
+}
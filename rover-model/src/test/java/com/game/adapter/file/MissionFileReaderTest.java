@@ -0,0 +1,128 @@
+package com.game.adapter.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverTurnInstruction;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.MissionFileException;
+
+public class MissionFileReaderTest {
+
+	private static final String MISSION = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n";
+
+	private Path file;
+
+	@BeforeMethod
+	public void resetGame() throws IOException {
+		GameContext.getInstance().reset();
+		file = Files.createTempFile("mission", ".txt");
+	}
+
+	@AfterMethod
+	public void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void testReadCommands() throws IOException {
+		write("5 5\r\n1 2 N\r\nLMMMR\r\n\r\n");
+		List<VoidApplicationCommand> commands;
+		try (Stream<VoidApplicationCommand> stream = MissionFileReader.commands(file)) {
+			commands = stream.collect(Collectors.toList());
+		}
+		assertThat(commands).hasSize(5);
+		PlateauInitializeCommand plateau = (PlateauInitializeCommand) commands.get(0);
+		assertThat(plateau.getWidth()).isEqualTo(5);
+		assertThat(plateau.getHeight()).isEqualTo(5);
+		RoverInitializeCommand rover = (RoverInitializeCommand) commands.get(1);
+		assertThat(rover.getName()).isEqualTo(GameContext.ROVER_NAME_PREFIX + 1);
+		assertThat(rover.getAbscissa()).isEqualTo(1);
+		assertThat(rover.getOrdinate()).isEqualTo(2);
+		assertThat(rover.getOrientation()).isEqualTo('N');
+		assertThat(((RoverTurnCommand) commands.get(2)).getTurn()).isEqualTo(RoverTurnInstruction.LEFT);
+		// a run of moves is read as one command
+		assertThat(((RoverMoveCommand) commands.get(3)).getNumberOfMoves()).isEqualTo(3);
+		assertThat(((RoverTurnCommand) commands.get(4)).getTurn()).isEqualTo(RoverTurnInstruction.RIGHT);
+	}
+
+	/**
+	 * The instructions spread over several buffers are read as well
+	 */
+	@Test
+	public void testInstructionsLongerThanTheBuffer() throws IOException {
+		StringBuilder instructions = new StringBuilder();
+		for (int i = 0; i < MissionFileReader.BUFFER_SIZE; i++) {
+			instructions.append("LR");
+		}
+		write("5 5\n0 0 N\n" + instructions + "M\n");
+		try (MissionFileReader reader = new MissionFileReader(file, UUID.randomUUID())) {
+			int count = 0;
+			VoidApplicationCommand last = null;
+			while (reader.hasNext()) {
+				last = reader.next();
+				count++;
+			}
+			assertThat(count).isEqualTo(2 + 2 * MissionFileReader.BUFFER_SIZE + 1);
+			assertThat(last).isInstanceOf(RoverMoveCommand.class);
+		}
+	}
+
+	@Test
+	public void testMalformedLine() throws IOException {
+		write("5 5\n1 2 N\nLMX\n");
+		Throwable thrown = catchThrowable(() -> {
+			try (Stream<VoidApplicationCommand> stream = MissionFileReader.commands(file)) {
+				stream.forEach(command -> {
+				});
+			}
+		});
+		assertThat(thrown).isInstanceOf(MissionFileException.class)
+				.hasMessage(String.format(GameExceptionLabels.ERROR_CODE_AND_MESSAGE_PATTERN,
+						GameExceptionLabels.MISSION_FILE_ERROR_CODE, String.format(
+								GameExceptionLabels.MISSION_FILE_MALFORMED, file, 3, "unexpected character [X]")));
+	}
+
+	@Test
+	public void testExecuteGame() throws IOException {
+		write(MISSION);
+		new GameFileAdapter().executeGame(file.toFile());
+		UUID plateauId = GameContext.getInstance().getAllPlateau().get(0).getId();
+		Rover rover1 = GameContext.getInstance().getRoverService()
+				.getRover(new RoverIdentifier(plateauId, GameContext.ROVER_NAME_PREFIX + 1));
+		Rover rover2 = GameContext.getInstance().getRoverService()
+				.getRover(new RoverIdentifier(plateauId, GameContext.ROVER_NAME_PREFIX + 2));
+		assertThat(rover1.getPosition()).isEqualTo(new TwoDimensionalCoordinates(1, 3));
+		assertThat(rover1.getOrientation()).isEqualTo(Orientation.NORTH);
+		assertThat(rover2.getPosition()).isEqualTo(new TwoDimensionalCoordinates(5, 1));
+		assertThat(rover2.getOrientation()).isEqualTo(Orientation.EAST);
+	}
+
+	private void write(String content) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+	}
+
+}
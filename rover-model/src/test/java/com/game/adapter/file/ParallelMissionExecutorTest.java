@@ -0,0 +1,146 @@
+package com.game.adapter.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.exception.GameException;
+
+public class ParallelMissionExecutorTest {
+
+	private static final int NUMBER_OF_ROVERS = 8;
+
+	private ForkJoinPool pool;
+
+	private Path file;
+
+	@BeforeClass
+	public void createPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public void shutdownPool() {
+		pool.shutdown();
+	}
+
+	@BeforeMethod
+	public void resetGame() throws IOException {
+		GameContext.getInstance().reset();
+		file = Files.createTempFile("mission", ".txt");
+	}
+
+	@AfterMethod
+	public void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void testIndependentRoversSameResultAsSequential() throws IOException {
+		StringBuilder mission = new StringBuilder(String.format("%d 20\n", NUMBER_OF_ROVERS));
+		for (int i = 0; i < NUMBER_OF_ROVERS; i++) {
+			// each rover in its own column
+			mission.append(i).append(" 0 N\n").append("MMMMMLRMMMMMMM\n".substring(0, 4 + i)).append('\n');
+		}
+		write(mission.toString());
+
+		new GameFileAdapter().executeGame(file.toFile());
+		List<TwoDimensionalCoordinates> sequential = getRoverPositions();
+
+		// one group per rover, the plateau command aside
+		List<VoidApplicationCommand> commands = new ArrayList<>();
+		try (MissionFileReader reader = new MissionFileReader(file, getRoverId(1).getPlateauId())) {
+			reader.next();
+			reader.forEachRemaining(commands::add);
+		}
+		assertThat(new ParallelMissionExecutor.MissionPartition(commands).getGroups()).hasSize(NUMBER_OF_ROVERS);
+
+		GameContext.getInstance().reset();
+		new GameFileAdapter(pool).executeGame(file.toFile());
+
+		assertThat(getRoverPositions()).isEqualTo(sequential);
+		assertThat(sequential.get(NUMBER_OF_ROVERS - 1)).isEqualTo(new TwoDimensionalCoordinates(NUMBER_OF_ROVERS - 1, 9));
+	}
+
+	/**
+	 * The second rover runs into the final location of the first one: both are executed in the file
+	 * order and the failure is the one of the sequential mode
+	 */
+	@Test
+	public void testCrossingRoversFailAsInSequential() throws IOException {
+		write("5 5\n1 2 N\nM\n0 3 E\nMM\n4 0 N\nMM\n");
+
+		Throwable sequential = catchThrowable(() -> new GameFileAdapter().executeGame(file.toFile()));
+
+		GameContext.getInstance().reset();
+		Throwable parallel = catchThrowable(() -> new GameFileAdapter(pool).executeGame(file.toFile()));
+
+		assertThat(sequential).isInstanceOf(GameException.class);
+		assertThat(parallel).isInstanceOf(GameException.class);
+		assertThat(parallel.getCause()).isInstanceOf(sequential.getCause().getClass())
+				.hasMessage(sequential.getCause().getMessage());
+		assertThat(GameContext.getInstance().getRoverService().getRover(getRoverId(1)).getPosition())
+				.isEqualTo(new TwoDimensionalCoordinates(1, 3));
+	}
+
+	/**
+	 * Windows of three commands split the rovers instructions: the rovers landed in a previous
+	 * window go on from their current location
+	 */
+	@Test
+	public void testWindowsSameResultAsSequential() throws IOException {
+		StringBuilder mission = new StringBuilder(String.format("%d 20\n", NUMBER_OF_ROVERS));
+		for (int i = 0; i < NUMBER_OF_ROVERS; i++) {
+			mission.append(i).append(" 0 N\n").append("MMMMMLRMMMMMMM\n".substring(0, 4 + i)).append('\n');
+		}
+		write(mission.toString());
+
+		new GameFileAdapter().executeGame(file.toFile());
+		List<TwoDimensionalCoordinates> sequential = getRoverPositions();
+
+		GameContext.getInstance().reset();
+		try (MissionFileReader reader = new MissionFileReader(file, UUID.randomUUID())) {
+			new ParallelMissionExecutor(GameContext.getInstance().getGameService(), pool, 3).execute(reader);
+		}
+
+		assertThat(getRoverPositions()).isEqualTo(sequential);
+	}
+
+	private List<TwoDimensionalCoordinates> getRoverPositions() {
+		List<TwoDimensionalCoordinates> positions = new ArrayList<>();
+		for (int i = 1; i <= NUMBER_OF_ROVERS; i++) {
+			Rover rover = GameContext.getInstance().getRoverService().getRover(getRoverId(i));
+			positions.add(rover.getPosition());
+		}
+		return positions;
+	}
+
+	private RoverIdentifier getRoverId(int rank) {
+		UUID plateauId = GameContext.getInstance().getAllPlateau().get(0).getId();
+		return new RoverIdentifier(plateauId, GameContext.ROVER_NAME_PREFIX + rank);
+	}
+
+	private void write(String content) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+	}
+
+}
@@ -1,8 +1,17 @@
 package com.game.domain.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -11,6 +20,12 @@ import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensions;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.event.DomainEventPublisherSubscriber;
+import com.game.domain.model.event.subscriber.plateau.PlateauInitializedEventSubscriber;
+import com.game.domain.model.event.subscriber.plateau.PlateauSwitchedLocationEventSubscriber;
+import com.game.domain.model.event.subscriber.rover.RoverMovedEventSubscriber;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.SnapshotException;
 
 public class GameContextTest {
 
@@ -53,6 +68,78 @@ public class GameContextTest {
 		assertThat(gameContext.getRoverStepLength()).isEqualTo(GameContext.ROVER_STEP_LENGTH);
 	}
 
+	@Test
+	public void testSubscribersRegisteredOnce() {
+		assertThat(DomainEventPublisherSubscriber.getSubscribers()).hasSize(9);
+		assertThat(DomainEventPublisherSubscriber.getSubscribers().get(0)).isInstanceOf(PlateauInitializedEventSubscriber.class);
+		assertThat(DomainEventPublisherSubscriber.getSubscribers().get(4)).isInstanceOf(PlateauSwitchedLocationEventSubscriber.class);
+		assertThat(DomainEventPublisherSubscriber.getSubscribers().get(6)).isInstanceOf(RoverMovedEventSubscriber.class);
+		gameContext.reset();
+		assertThat(DomainEventPublisherSubscriber.getSubscribers()).hasSize(9);
+	}
+
+	@Test
+	public void testSubscribersSharedByAllThreads() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<Integer> numberOfSubscribers = executor.submit(() -> DomainEventPublisherSubscriber.getSubscribers().size());
+		assertThat(numberOfSubscribers.get()).isEqualTo(9);
+		executor.shutdown();
+	}
+
+	@Test
+	public void testRecoverWithoutSnapshots() {
+		assertThat(gameContext.recover()).isEqualTo(0);
+		assertThat(gameContext.getGameRecovery()).isNull();
+	}
+
+	/**
+	 * The recovery is an explicit step of the startup: its failure is reported to the caller,
+	 * the context remaining usable
+	 */
+	@Test
+	public void testRecoverFailureReported() throws IOException {
+		Path notADirectory = Files.createTempFile("snapshot", ".txt");
+		Path eventStoreDirectory = Files.createTempDirectory("events");
+		System.setProperty(GameContext.SNAPSHOT_DIRECTORY_PROPERTY, notADirectory.toString());
+		System.setProperty(GameContext.EVENT_STORE_DIRECTORY_PROPERTY, eventStoreDirectory.toString());
+		try {
+			gameContext.reset();
+			Throwable thrown = catchThrowable(() -> gameContext.recover());
+			assertThat(thrown).isInstanceOf(SnapshotException.class)
+					.hasMessageContaining(String.format(GameExceptionLabels.SNAPSHOT_IO_ERROR, notADirectory));
+			assertThat(gameContext.getGameRecovery()).isNull();
+			assertThat(gameContext.getEventStore().size()).isEqualTo(0);
+		} finally {
+			System.clearProperty(GameContext.SNAPSHOT_DIRECTORY_PROPERTY);
+			System.clearProperty(GameContext.EVENT_STORE_DIRECTORY_PROPERTY);
+			gameContext.reset();
+			delete(notADirectory);
+			delete(eventStoreDirectory);
+		}
+	}
+
+	@Test
+	public void testSnapshotsRequireDurableEventStore() throws IOException {
+		Path snapshotDirectory = Files.createTempDirectory("snapshot");
+		System.setProperty(GameContext.SNAPSHOT_DIRECTORY_PROPERTY, snapshotDirectory.toString());
+		try {
+			gameContext.reset();
+			Throwable thrown = catchThrowable(() -> gameContext.recover());
+			assertThat(thrown).isInstanceOf(SnapshotException.class)
+					.hasMessageContaining(GameContext.EVENT_STORE_DIRECTORY_PROPERTY);
+			assertThat(gameContext.getGameRecovery()).isNull();
+		} finally {
+			System.clearProperty(GameContext.SNAPSHOT_DIRECTORY_PROPERTY);
+			delete(snapshotDirectory);
+		}
+	}
+
+	private void delete(Path path) throws IOException {
+		try (Stream<Path> paths = Files.walk(path)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
 	private Plateau newPlateau(UUID uuid) {
 		TwoDimensions dimensions = new TwoDimensions(new TwoDimensionalCoordinates(3, 3));
 		return new Plateau(uuid, dimensions);
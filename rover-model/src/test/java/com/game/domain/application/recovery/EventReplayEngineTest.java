@@ -0,0 +1,170 @@
+package com.game.domain.application.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.application.service.GameService;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverTurnInstruction;
+import com.game.domain.model.event.AbstractDomainEventSubscriber;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverMovedWithExceptionEvent;
+import com.game.domain.model.exception.EventStoreException;
+import com.game.domain.model.service.plateau.PlateauService;
+import com.game.domain.model.service.plateau.PlateauServiceImpl;
+import com.game.domain.model.service.rover.RoverService;
+import com.game.domain.model.service.rover.RoverServiceImpl;
+import com.game.infrastructure.persistence.impl.InMemoryPlateauRepositoryImpl;
+import com.game.infrastructure.persistence.impl.InMemoryRoverRepositoryImpl;
+import com.game.infrastructure.persistence.read.impl.ReadRoverRepositoryImpl;
+
+public class EventReplayEngineTest {
+
+	private static final int NUMBER_OF_PLATEAUS = 6;
+
+	private final GameContext gameContext = GameContext.getInstance();
+
+	private final List<UUID> plateauUuids = new ArrayList<>();
+
+	private PlateauService plateauService;
+
+	private RoverService roverService;
+
+	@BeforeMethod
+	public void setup() {
+		gameContext.reset();
+		plateauUuids.clear();
+		playGame(gameContext.getGameService());
+		plateauService = new PlateauServiceImpl(new InMemoryPlateauRepositoryImpl());
+		roverService = new RoverServiceImpl(plateauService, new InMemoryRoverRepositoryImpl(),
+				new ReadRoverRepositoryImpl());
+	}
+
+	@Test
+	public void testReplayInOrder() {
+		long replayed = new EventReplayEngine(plateauService, roverService).replay(gameContext.getEventStore(), 0);
+		assertThat(replayed).isEqualTo(gameContext.getEventStore().size());
+		assertSameState();
+	}
+
+	@Test
+	public void testReplayPlateausInParallel() {
+		long replayed = new EventReplayEngine(plateauService, roverService, 4).replay(gameContext.getEventStore(), 0);
+		assertThat(replayed).isEqualTo(gameContext.getEventStore().size());
+		assertSameState();
+	}
+
+	@Test
+	public void testProjectionOverHistory() {
+		MovesProjection moves = new MovesProjection();
+		new EventReplayEngine(plateauService, roverService, 3).withProjection(moves)
+				.withProjection(new FailedMovesProjection()).replay(gameContext.getEventStore(), 0);
+		// two moves of two rovers on each plateau, the failed move of the third rover excluded
+		plateauUuids.forEach(uuid -> assertThat(moves.movesPerPlateau.get(uuid).get()).isEqualTo(4));
+	}
+
+	@Test
+	public void testFailingProjectionStopsReplay() {
+		MovesProjection moves = new MovesProjection();
+		moves.failing = true;
+		Throwable thrown = catchThrowable(() -> new EventReplayEngine(plateauService, roverService, 2)
+				.withProjection(moves).replay(gameContext.getEventStore(), 0));
+		assertThat(thrown).isInstanceOf(EventStoreException.class).hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	private void assertSameState() {
+		RoverService liveRoverService = gameContext.getRoverService();
+		for (UUID uuid : plateauUuids) {
+			List<Rover> liveRovers = liveRoverService.getAllRoversOnPlateau(uuid);
+			assertThat(roverService.getAllRoversOnPlateau(uuid)).hasSize(2).containsOnlyElementsOf(liveRovers);
+			for (Rover rover : liveRovers) {
+				assertThat(roverService.getRover(rover.getId()).getVersion()).isEqualTo(rover.getVersion());
+				assertThat(plateauService.isLocationBusy(uuid, rover.getPosition())).isTrue();
+			}
+			assertThat(plateauService.isLocationBusy(uuid, new TwoDimensionalCoordinates(5, 5))).isFalse();
+		}
+		assertThat(roverService.getReadRoverRepository().getNumberOfEntities())
+				.isEqualTo(liveRoverService.getReadRoverRepository().getNumberOfEntities());
+	}
+
+	private void playGame(GameService gameService) {
+		for (int i = 0; i < NUMBER_OF_PLATEAUS; i++) {
+			UUID uuid = UUID.randomUUID();
+			plateauUuids.add(uuid);
+			gameService.execute(new PlateauInitializeCommand.Builder().withId(uuid).withWidth(5).withHeight(5).build());
+			RoverIdentifier roverId1 = new RoverIdentifier(uuid, GameContext.ROVER_NAME_PREFIX + 1);
+			RoverIdentifier roverId2 = new RoverIdentifier(uuid, GameContext.ROVER_NAME_PREFIX + 2);
+			RoverIdentifier roverId3 = new RoverIdentifier(uuid, GameContext.ROVER_NAME_PREFIX + 3);
+			gameService.execute(initializeRover(roverId1, 1, 2, 'N'));
+			gameService.execute(initializeRover(roverId2, 3, 3, 'E'));
+			gameService.execute(initializeRover(roverId3, 5, 5, 'N'));
+			gameService.execute(new RoverMoveCommand(roverId1, 1));
+			gameService.execute(new RoverTurnCommand(roverId1, RoverTurnInstruction.RIGHT));
+			gameService.execute(new RoverMoveCommand(roverId1, 1));
+			gameService.execute(new RoverMoveCommand(roverId2, 2));
+			// out of the plateau: the rover is removed from the game
+			catchThrowable(() -> gameService.execute(new RoverMoveCommand(roverId3, 1)));
+		}
+	}
+
+	private RoverInitializeCommand initializeRover(RoverIdentifier roverId, int x, int y, char orientation) {
+		return new RoverInitializeCommand.Builder().withPlateauUuid(roverId.getPlateauId()).withName(roverId.getName())
+				.withAbscissa(x).withOrdinate(y).withOrientation(orientation).build();
+	}
+
+	private static class MovesProjection extends AbstractDomainEventSubscriber<RoverMovedEvent> {
+
+		private final Map<UUID, AtomicInteger> movesPerPlateau = new ConcurrentHashMap<>();
+
+		private boolean failing;
+
+		@Override
+		public void handleEvent(RoverMovedEvent event) {
+			if (failing) {
+				throw new IllegalStateException("projection failure");
+			}
+			movesPerPlateau.computeIfAbsent(event.plateauId(), uuid -> new AtomicInteger()).incrementAndGet();
+		}
+
+		@Override
+		public Class<RoverMovedEvent> subscribedToEventType() {
+			return RoverMovedEvent.class;
+		}
+
+	}
+
+	/**
+	 * Re-throws the recorded failure as the live subscriber does
+	 */
+	private static class FailedMovesProjection extends AbstractDomainEventSubscriber<RoverMovedWithExceptionEvent> {
+
+		@Override
+		public void handleEvent(RoverMovedWithExceptionEvent event) {
+			throw new IllegalStateException(event.getException());
+		}
+
+		@Override
+		public Class<RoverMovedWithExceptionEvent> subscribedToEventType() {
+			return RoverMovedWithExceptionEvent.class;
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+package com.game.domain.application.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.application.service.GameService;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverTurnInstruction;
+import com.game.domain.model.event.store.ConcurrentEventStoreImpl;
+import com.game.domain.model.event.store.EventStore;
+import com.game.domain.model.exception.GameException;
+import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.SnapshotException;
+import com.game.domain.model.service.plateau.PlateauService;
+import com.game.domain.model.service.plateau.PlateauServiceImpl;
+import com.game.domain.model.service.rover.RoverService;
+import com.game.domain.model.service.rover.RoverServiceImpl;
+import com.game.infrastructure.persistence.impl.InMemoryPlateauRepositoryImpl;
+import com.game.infrastructure.persistence.impl.InMemoryRoverRepositoryImpl;
+import com.game.infrastructure.persistence.read.impl.ReadRoverRepositoryImpl;
+import com.game.infrastructure.persistence.snapshot.impl.FileSnapshotStoreImpl;
+
+public class GameRecoveryTest {
+
+	private final GameContext gameContext = GameContext.getInstance();
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private final RoverIdentifier roverId1 = new RoverIdentifier(plateauUuid, GameContext.ROVER_NAME_PREFIX + 1);
+
+	private final RoverIdentifier roverId2 = new RoverIdentifier(plateauUuid, GameContext.ROVER_NAME_PREFIX + 2);
+
+	private final RoverIdentifier roverId3 = new RoverIdentifier(plateauUuid, GameContext.ROVER_NAME_PREFIX + 3);
+
+	private Path directory;
+
+	private GameService gameService;
+
+	@BeforeMethod
+	public void setup() throws IOException {
+		gameContext.reset();
+		gameService = gameContext.getGameService();
+		directory = Files.createTempDirectory("snapshot");
+	}
+
+	@AfterMethod
+	public void deleteDirectory() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testRecoverFromSnapshotAndTail() {
+		GameRecovery recovery = newRecovery(gameContext.getPlateauService(), gameContext.getRoverService());
+		playBeforeSnapshot();
+		long snapshotSequence = recovery.takeSnapshot().getSequence();
+		playAfterSnapshot();
+		long tail = gameContext.getEventStore().size() - snapshotSequence;
+
+		PlateauService plateauService = new PlateauServiceImpl(new InMemoryPlateauRepositoryImpl());
+		RoverService roverService = new RoverServiceImpl(plateauService, new InMemoryRoverRepositoryImpl(),
+				new ReadRoverRepositoryImpl());
+		assertThat(newRecovery(plateauService, roverService).recover()).isEqualTo(tail);
+		assertRecoveredState(plateauService, roverService);
+	}
+
+	@Test
+	public void testRecoverWithoutSnapshot() {
+		playBeforeSnapshot();
+		playAfterSnapshot();
+
+		PlateauService plateauService = new PlateauServiceImpl(new InMemoryPlateauRepositoryImpl());
+		RoverService roverService = new RoverServiceImpl(plateauService, new InMemoryRoverRepositoryImpl(),
+				new ReadRoverRepositoryImpl());
+		assertThat(newRecovery(plateauService, roverService).recover()).isEqualTo(gameContext.getEventStore().size());
+		assertRecoveredState(plateauService, roverService);
+	}
+
+	@Test
+	public void testSnapshotTakenWhenDue() {
+		GameRecovery recovery = new GameRecovery(new FileSnapshotStoreImpl(directory), gameContext.getEventStore(),
+				gameContext.getPlateauService(), gameContext.getRoverService(), 5);
+		playBeforeSnapshot();
+		recovery.takeSnapshotIfDue();
+		assertThat(recovery.getLastSnapshotSequence()).isEqualTo(gameContext.getEventStore().size());
+		gameService.execute(new RoverTurnCommand(roverId1, RoverTurnInstruction.LEFT));
+		recovery.takeSnapshotIfDue();
+		assertThat(recovery.getLastSnapshotSequence()).isLessThan(gameContext.getEventStore().size());
+	}
+
+	/**
+	 * An in-memory event store restarts empty: the events covered by the snapshot are lost,
+	 * the new events would reuse their sequences
+	 */
+	@Test
+	public void testRestartWithInMemoryEventStoreRefused() {
+		GameRecovery recovery = newRecovery(gameContext.getPlateauService(), gameContext.getRoverService());
+		playBeforeSnapshot();
+		long snapshotSequence = recovery.takeSnapshot().getSequence();
+
+		PlateauService plateauService = new PlateauServiceImpl(new InMemoryPlateauRepositoryImpl());
+		RoverService roverService = new RoverServiceImpl(plateauService, new InMemoryRoverRepositoryImpl(),
+				new ReadRoverRepositoryImpl());
+		GameRecovery restarted = new GameRecovery(new FileSnapshotStoreImpl(directory), new ConcurrentEventStoreImpl(),
+				plateauService, roverService, GameContext.DEFAULT_SNAPSHOT_INTERVAL);
+		Throwable thrown = catchThrowable(() -> restarted.recover());
+		assertThat(thrown).isInstanceOf(SnapshotException.class)
+				.hasMessageContaining(String.format(GameExceptionLabels.SNAPSHOT_AHEAD_OF_EVENT_STORE, snapshotSequence, 0));
+		assertThat(plateauService.getAllPlateaus()).isEmpty();
+		assertThat(restarted.getLastSnapshotSequence()).isEqualTo(0);
+	}
+
+	private void playBeforeSnapshot() {
+		gameService.execute(new PlateauInitializeCommand.Builder().withId(plateauUuid).withWidth(5).withHeight(5)
+				.build());
+		gameService.execute(initializeRover(roverId1, 1, 2, 'N'));
+		gameService.execute(initializeRover(roverId2, 0, 0, 'N'));
+		gameService.execute(initializeRover(roverId3, 5, 5, 'N'));
+		gameService.execute(new RoverMoveCommand(roverId1, 1));
+	}
+
+	private void playAfterSnapshot() {
+		gameService.execute(new RoverTurnCommand(roverId1, RoverTurnInstruction.RIGHT));
+		gameService.execute(new RoverMoveCommand(roverId1, 2));
+		gameService.execute(new RoverMoveCommand(roverId2, 1));
+		// out of the plateau: the rover is removed from the game
+		Throwable thrown = catchThrowable(() -> gameService.execute(new RoverMoveCommand(roverId3, 1)));
+		assertThat(thrown).isInstanceOf(GameException.class);
+	}
+
+	private void assertRecoveredState(PlateauService plateauService, RoverService roverService) {
+		Rover rover1 = roverService.getRover(roverId1);
+		assertThat(rover1).isEqualTo(new Rover(roverId1, new TwoDimensionalCoordinates(3, 3), Orientation.EAST));
+		assertThat(rover1.getVersion()).isEqualTo(gameContext.getRoverService().getRover(roverId1).getVersion());
+		assertThat(roverService.getRover(roverId2).getPosition()).isEqualTo(new TwoDimensionalCoordinates(0, 1));
+		assertThat(roverService.getRoverRepository().exists(roverId3)).isFalse();
+		assertThat(plateauService.isLocationBusy(plateauUuid, new TwoDimensionalCoordinates(3, 3))).isTrue();
+		assertThat(plateauService.isLocationBusy(plateauUuid, new TwoDimensionalCoordinates(1, 3))).isFalse();
+		assertThat(plateauService.isLocationBusy(plateauUuid, new TwoDimensionalCoordinates(5, 5))).isFalse();
+		assertThat(plateauService.getRoversInRegion(plateauUuid, new TwoDimensionalCoordinates(0, 0),
+				new TwoDimensionalCoordinates(5, 5))).containsOnly(roverId1, roverId2);
+	}
+
+	private GameRecovery newRecovery(PlateauService plateauService, RoverService roverService) {
+		EventStore eventStore = gameContext.getEventStore();
+		return new GameRecovery(new FileSnapshotStoreImpl(directory), eventStore, plateauService, roverService,
+				GameContext.DEFAULT_SNAPSHOT_INTERVAL);
+	}
+
+	private RoverInitializeCommand initializeRover(RoverIdentifier roverId, int x, int y, char orientation) {
+		return new RoverInitializeCommand.Builder().withPlateauUuid(plateauUuid).withName(roverId.getName())
+				.withAbscissa(x).withOrdinate(y).withOrientation(orientation).build();
+	}
+
+}
@@ -18,13 +18,6 @@ import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.event.DomainEventPublisherSubscriber;
 import com.game.domain.model.event.store.EventStoreImpl;
-import com.game.domain.model.event.subscriber.plateau.PlateauInitializedEventSubscriber;
-import com.game.domain.model.event.subscriber.plateau.PlateauInitializedWithExceptionEventSubscriber;
-import com.game.domain.model.event.subscriber.plateau.PlateauSwitchedLocationEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverInitializedEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverInitializedWithExceptionEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverMovedEventSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverMovedWithExceptionEventSubscriber;
 import com.game.domain.model.exception.GameExceptionLabels;
 import com.game.domain.model.exception.PlateauLocationAlreadySetException;
 import com.game.domain.model.service.locator.ServiceLocator;
@@ -70,9 +63,8 @@ public class GameServiceImplTest extends BaseUnitTest {
 				.withHeight(HEIGHT).build());
 		assertThat(plateau.getWidth()).isEqualTo(WIDTH);
 		assertThat(plateau.getHeight()).isEqualTo(HEIGHT);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().size()).isEqualTo(2);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(0)).isInstanceOf(PlateauInitializedEventSubscriber.class);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(1)).isInstanceOf(PlateauInitializedWithExceptionEventSubscriber.class);
+		// the subscribers are registered once by the GameContext, not by the commands
+		assertThat(DomainEventPublisherSubscriber.getSubscribers()).isEmpty();
 	}
 
 
@@ -86,10 +78,8 @@ public class GameServiceImplTest extends BaseUnitTest {
 		gameService.execute(initializeCommand);
 		assertThat(roversList.contains(new Rover(new RoverIdentifier(uuid, GameContext.ROVER_NAME_PREFIX + 1),
 				coordinates, Orientation.SOUTH))).isTrue();
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().size()).isEqualTo(4);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(0)).isInstanceOf(RoverInitializedEventSubscriber.class);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(1)).isInstanceOf(RoverInitializedWithExceptionEventSubscriber.class);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(2)).isInstanceOf(PlateauSwitchedLocationEventSubscriber.class);
+		// the subscribers are registered once by the GameContext, not by the commands
+		assertThat(DomainEventPublisherSubscriber.getSubscribers()).isEmpty();
 	}
 
 	@Test
@@ -99,10 +89,8 @@ public class GameServiceImplTest extends BaseUnitTest {
 		gameService.execute(new RoverMoveCommand(new RoverIdentifier(uuid, roverName), 1));
 		assertThat(roversList).contains(
 				new Rover(new RoverIdentifier(uuid, roverName), new TwoDimensionalCoordinates(2, 3), Orientation.WEST));
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().size()).isEqualTo(3);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(0)).isInstanceOf(RoverMovedEventSubscriber.class);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(1)).isInstanceOf(RoverMovedWithExceptionEventSubscriber.class);
-		assertThat(DomainEventPublisherSubscriber.getSubscribers().get().get(2)).isInstanceOf(PlateauSwitchedLocationEventSubscriber.class);
+		// the subscribers are registered once by the GameContext, not by the commands
+		assertThat(DomainEventPublisherSubscriber.getSubscribers()).isEmpty();
 	}
 
 	/**
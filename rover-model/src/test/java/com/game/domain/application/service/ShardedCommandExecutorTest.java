@@ -0,0 +1,131 @@
+package com.game.domain.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTryMoveCommand;
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.MoveOutcome;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverMoveResult;
+import com.game.domain.model.exception.GameException;
+
+public class ShardedCommandExecutorTest {
+
+	private static final int NUMBER_OF_ROVERS = 8;
+
+	private static final int NUMBER_OF_CLIENTS = 4;
+
+	private static final int MOVES_PER_CLIENT = 50;
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private ShardedCommandExecutor commandExecutor;
+
+	private GameServiceImpl gameService;
+
+	@BeforeMethod
+	public void resetGame() {
+		GameContext.getInstance().reset();
+		commandExecutor = new ShardedCommandExecutor(4);
+		gameService = new GameServiceImpl(commandExecutor);
+	}
+
+	@AfterMethod
+	public void shutdown() {
+		commandExecutor.shutdown();
+	}
+
+	@Test
+	public void testConcurrentCommandsOfTheSameRoverAreSerialized() throws Exception {
+		initializeRovers();
+		ExecutorService clients = Executors.newFixedThreadPool(NUMBER_OF_CLIENTS);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int client = 0; client < NUMBER_OF_CLIENTS; client++) {
+				results.add(clients.submit(() -> {
+					for (int move = 0; move < MOVES_PER_CLIENT; move++) {
+						for (int i = 0; i < NUMBER_OF_ROVERS; i++) {
+							// typed as a command, not to pick the package visible execute(RoverMoveCommand)
+							VoidApplicationCommand command = new RoverMoveCommand(getRoverId(i), 1);
+							gameService.execute(command);
+						}
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			clients.shutdown();
+		}
+		for (int i = 0; i < NUMBER_OF_ROVERS; i++) {
+			assertThat(GameContext.getInstance().getRoverService().getRover(getRoverId(i)).getPosition())
+					.isEqualTo(new TwoDimensionalCoordinates(i, NUMBER_OF_CLIENTS * MOVES_PER_CLIENT));
+		}
+	}
+
+	@Test
+	public void testFirstFailureIsThrownOnceTheCommandsAreExecuted() {
+		initializeRovers();
+		Throwable thrown = catchThrowable(() -> gameService.execute(Arrays.asList(
+				new RoverMoveCommand(getRoverId(0), 1), new RoverMoveCommand(getRoverId(1), 1_000),
+				new RoverMoveCommand(getRoverId(2), 1))));
+		assertThat(thrown).isInstanceOf(GameException.class);
+		// preceding the failure in the list, the first move is executed whatever the timing of the shards
+		assertThat(GameContext.getInstance().getRoverService().getRover(getRoverId(0)).getPosition())
+				.isEqualTo(new TwoDimensionalCoordinates(0, 1));
+	}
+
+	@Test
+	public void testTryMoveAnswersTheOutcome() {
+		initializeRovers();
+		RoverMoveResult result = gameService.execute(new RoverTryMoveCommand(getRoverId(0), 1_000));
+		assertThat(result.getOutcome()).isEqualTo(MoveOutcome.OUT_OF_PLATEAU);
+		assertThat(result.getPosition()).isEqualTo(new TwoDimensionalCoordinates(0, NUMBER_OF_CLIENTS * MOVES_PER_CLIENT));
+		assertThat(GameContext.getInstance().getRoverService().getRover(getRoverId(0)).getPosition())
+				.isEqualTo(result.getPosition());
+	}
+
+	@Test
+	public void testSameAggregateSameShard() {
+		assertThat(commandExecutor.shardIndex(getRoverId(1))).isEqualTo(commandExecutor.shardIndex(getRoverId(1)))
+				.isBetween(0, commandExecutor.getNumberOfShards() - 1);
+	}
+
+	/**
+	 * The plateau initialization has no aggregate id: the rovers wait for it
+	 */
+	private void initializeRovers() {
+		List<VoidApplicationCommand> commands = new ArrayList<>();
+		commands.add(new PlateauInitializeCommand.Builder().withId(plateauUuid).withWidth(NUMBER_OF_ROVERS)
+				.withHeight(NUMBER_OF_CLIENTS * MOVES_PER_CLIENT).build());
+		for (int i = 0; i < NUMBER_OF_ROVERS; i++) {
+			commands.add(new RoverInitializeCommand.Builder().withPlateauUuid(plateauUuid)
+					.withName(getRoverId(i).getName()).withAbscissa(i).withOrdinate(0).withOrientation('N').build());
+		}
+		gameService.execute(commands);
+	}
+
+	private RoverIdentifier getRoverId(int i) {
+		return new RoverIdentifier(plateauUuid, GameContext.ROVER_NAME_PREFIX + i);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.game.domain.model.entity.dimensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.rover.Orientation;
+
+public class PackedCoordinatesTest {
+
+	@Test
+	public void testPackAndUnpack() {
+		long packed = PackedCoordinates.pack(3, -4);
+		assertThat(PackedCoordinates.abscissa(packed)).isEqualTo(3);
+		assertThat(PackedCoordinates.ordinate(packed)).isEqualTo(-4);
+		assertThat(PackedCoordinates.unpack(packed)).isEqualTo(new TwoDimensionalCoordinates(3, -4));
+		assertThat(new TwoDimensionalCoordinates(3, -4).pack()).isEqualTo(packed);
+	}
+
+	@Test
+	public void testNoLocation() {
+		assertThat(PackedCoordinates.pack(null)).isEqualTo(PackedCoordinates.NONE);
+		assertThat(PackedCoordinates.unpack(PackedCoordinates.NONE)).isNull();
+	}
+
+	@Test
+	public void testShiftSameAsCoordinates() {
+		TwoDimensionalCoordinates coordinates = new TwoDimensionalCoordinates(3, 4);
+		for (Orientation orientation : Orientation.values()) {
+			assertThat(PackedCoordinates.unpack(PackedCoordinates.shift(coordinates.pack(), orientation, 2)))
+					.isEqualTo(coordinates.shiftWithOrientation(orientation, 2));
+		}
+	}
+
+	@Test
+	public void testHashSameAsCoordinates() {
+		TwoDimensionalCoordinates coordinates = new TwoDimensionalCoordinates(7, 9);
+		assertThat(PackedCoordinates.hash(coordinates.pack())).isEqualTo(coordinates.hashCode());
+	}
+
+}
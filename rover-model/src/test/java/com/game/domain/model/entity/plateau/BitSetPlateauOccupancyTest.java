@@ -0,0 +1,106 @@
+package com.game.domain.model.entity.plateau;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.Test;
+
+public class BitSetPlateauOccupancyTest {
+
+	@Test
+	public void testOccupyAndFree() {
+		PlateauOccupancy occupancy = new BitSetPlateauOccupancy(6, 6);
+		occupancy.setOccupied(3, 4);
+		assertThat(occupancy.isOccupied(3, 4)).isTrue();
+		assertThat(occupancy.isOccupied(4, 3)).isFalse();
+		occupancy.setFree(3, 4);
+		assertThat(occupancy.isOccupied(3, 4)).isFalse();
+	}
+
+	@Test
+	public void testLocationsAcrossWords() {
+		// 100 columns: the rows are not aligned on 64 bits words
+		PlateauOccupancy occupancy = new BitSetPlateauOccupancy(100, 100);
+		for (int y = 0; y < 100; y++) {
+			occupancy.setOccupied(99, y);
+			occupancy.setOccupied(0, y);
+		}
+		for (int y = 0; y < 100; y++) {
+			assertThat(occupancy.isOccupied(99, y)).isTrue();
+			assertThat(occupancy.isOccupied(0, y)).isTrue();
+			assertThat(occupancy.isOccupied(1, y)).isFalse();
+			assertThat(occupancy.isOccupied(98, y)).isFalse();
+		}
+	}
+
+	@Test
+	public void testLargePlateau() {
+		PlateauOccupancy occupancy = new BitSetPlateauOccupancy(10_000, 10_000);
+		occupancy.setOccupied(9_999, 9_999);
+		assertThat(occupancy.isOccupied(9_999, 9_999)).isTrue();
+		assertThat(occupancy.isOccupied(9_998, 9_999)).isFalse();
+	}
+
+	@Test
+	public void testTryMove() {
+		PlateauOccupancy occupancy = new BitSetPlateauOccupancy(10, 10);
+		occupancy.setOccupied(1, 1);
+		occupancy.setOccupied(1, 2);
+		assertThat(occupancy.tryMove(1, 1, 1, 2)).isFalse();
+		assertThat(occupancy.isOccupied(1, 1)).isTrue();
+		assertThat(occupancy.tryMove(1, 1, 2, 1)).isTrue();
+		assertThat(occupancy.isOccupied(1, 1)).isFalse();
+		assertThat(occupancy.isOccupied(2, 1)).isTrue();
+		assertThat(occupancy.tryOccupy(2, 1)).isFalse();
+	}
+
+	@Test
+	public void testConcurrentMovesToSameLocation() throws Exception {
+		int numberOfRovers = 8;
+		int numberOfRounds = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfRovers);
+		try {
+			for (int round = 0; round < numberOfRounds; round++) {
+				PlateauOccupancy occupancy = new BitSetPlateauOccupancy(10, 10);
+				CyclicBarrier barrier = new CyclicBarrier(numberOfRovers);
+				List<Future<Boolean>> moves = new ArrayList<>();
+				for (int rover = 0; rover < numberOfRovers; rover++) {
+					int x = rover;
+					occupancy.setOccupied(x, 0);
+					moves.add(executor.submit(() -> {
+						barrier.await();
+						return occupancy.tryMove(x, 0, 4, 4);
+					}));
+				}
+				int succeeded = 0;
+				for (Future<Boolean> move : moves) {
+					succeeded += move.get() ? 1 : 0;
+				}
+				// only one rover can reach the location, the others stay where they were
+				assertThat(succeeded).isEqualTo(1);
+				int stayed = 0;
+				for (int x = 0; x < numberOfRovers; x++) {
+					stayed += occupancy.isOccupied(x, 0) ? 1 : 0;
+				}
+				assertThat(stayed).isEqualTo(numberOfRovers - 1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLocationOutOfPlateau() {
+		PlateauOccupancy occupancy = new BitSetPlateauOccupancy(6, 6);
+		Throwable thrown = catchThrowable(() -> occupancy.isOccupied(6, 0));
+		assertThat(thrown).isInstanceOf(ArrayIndexOutOfBoundsException.class);
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.game.domain.model.entity.plateau;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+
+public class PlateauSpatialIndexTest {
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private final RoverIdentifier rover1 = new RoverIdentifier(plateauUuid, "ROVER_1");
+
+	private final RoverIdentifier rover2 = new RoverIdentifier(plateauUuid, "ROVER_2");
+
+	private final RoverIdentifier rover3 = new RoverIdentifier(plateauUuid, "ROVER_3");
+
+	@Test
+	public void testFindInRegion() {
+		PlateauSpatialIndex index = new PlateauSpatialIndex();
+		index.update(rover1, PackedCoordinates.pack(1, 1));
+		index.update(rover2, PackedCoordinates.pack(40, 40));
+		index.update(rover3, PackedCoordinates.pack(100_000, 3));
+		assertThat(index.findInRegion(0, 0, 40, 40)).containsOnly(rover1, rover2);
+		assertThat(index.findInRegion(2, 2, 39, 39)).isEmpty();
+		assertThat(index.findInRegion(0, 0, Integer.MAX_VALUE, 10)).containsOnly(rover1, rover3);
+	}
+
+	@Test
+	public void testFindWithinDistanceNearestFirst() {
+		PlateauSpatialIndex index = new PlateauSpatialIndex();
+		index.update(rover1, PackedCoordinates.pack(10, 13));
+		index.update(rover2, PackedCoordinates.pack(11, 10));
+		index.update(rover3, PackedCoordinates.pack(13, 14));
+		// rover3 is in the square around (10, 10) but beyond the distance
+		assertThat(index.findWithinDistance(10, 10, 4)).containsExactly(rover2, rover1);
+		assertThat(index.findWithinDistance(10, 10, 5)).containsExactly(rover2, rover1, rover3);
+	}
+
+	@Test
+	public void testRoverMovedAcrossBuckets() {
+		PlateauSpatialIndex index = new PlateauSpatialIndex();
+		index.update(rover1, PackedCoordinates.pack(PlateauSpatialIndex.BUCKET_SIZE - 1, 0));
+		index.update(rover1, PackedCoordinates.pack(PlateauSpatialIndex.BUCKET_SIZE, 0));
+		assertThat(index.findInRegion(0, 0, PlateauSpatialIndex.BUCKET_SIZE - 1, 0)).isEmpty();
+		assertThat(index.findInRegion(0, 0, PlateauSpatialIndex.BUCKET_SIZE, 0)).containsExactly(rover1);
+		index.remove(rover1);
+		assertThat(index.findInRegion(0, 0, PlateauSpatialIndex.BUCKET_SIZE, 0)).isEmpty();
+		assertThat(index.size()).isEqualTo(0);
+	}
+
+}
@@ -7,10 +7,13 @@ import java.util.UUID;
 
 import org.testng.annotations.Test;
 
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalSpace;
 import com.game.domain.model.entity.dimensions.TwoDimensions;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.exception.GameExceptionLabels;
 import com.game.domain.model.exception.IllegalArgumentGameException;
 
@@ -78,5 +81,45 @@ public class PlateauTest {
 		assertThat(plateau.isLocationBusy(new TwoDimensionalCoordinates(x, y))).isFalse();
 	}
 
+	/**
+	 * The huge plateaus get a bitset once enough rovers are expected on them
+	 */
+	@Test
+	public void testLocationsIndexedFromExpectedRovers() {
+		GameContext context = GameContext.getInstance();
+		TwoDimensions dimensions = new TwoDimensions(new TwoDimensionalCoordinates(9_999, 9_999));
+		try {
+			assertThat(new Plateau(UUID.randomUUID(), dimensions).initializeLocations().getLocations())
+					.isInstanceOf(SparsePlateauOccupancy.class);
+			context.setExpectedRoversPerPlateau(100_000);
+			assertThat(new Plateau(UUID.randomUUID(), dimensions).initializeLocations().getLocations())
+					.isInstanceOf(BitSetPlateauOccupancy.class);
+			assertThat(new Plateau(UUID.randomUUID(), dimensions).initializeLocations(1_000).getLocations())
+					.isInstanceOf(SparsePlateauOccupancy.class);
+		} finally {
+			context.setExpectedRoversPerPlateau(GameContext.DEFAULT_EXPECTED_ROVERS_PER_PLATEAU);
+		}
+	}
+
+	/**
+	 * A rover failing after having claimed its move releases the claimed location,
+	 * not the previous one which may be taken by another rover meanwhile
+	 */
+	@Test
+	public void testReleaseRoverLocationFreesTheClaimedLocation() {
+		Plateau plateau = new Plateau(UUID.randomUUID(), new TwoDimensions(new TwoDimensionalCoordinates(3, 3)))
+				.initializeLocations();
+		RoverIdentifier roverId = new RoverIdentifier(plateau.getId(), "ROVER_1");
+		TwoDimensionalCoordinates previous = new TwoDimensionalCoordinates(1, 1);
+		TwoDimensionalCoordinates current = new TwoDimensionalCoordinates(1, 2);
+		plateau.tryMoveRover(roverId, PackedCoordinates.NONE, previous.pack());
+		plateau.tryMoveRover(roverId, previous.pack(), current.pack());
+		plateau.setLocationOccupied(previous);
+
+		plateau.releaseRoverLocation(roverId, previous);
+
+		assertThat(plateau.isLocationBusy(current)).isFalse();
+		assertThat(plateau.isLocationBusy(previous)).isTrue();
+	}
 
 }
@@ -0,0 +1,132 @@
+package com.game.domain.model.entity.plateau;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.annotations.Test;
+
+import com.game.domain.model.service.plateau.PlateauFactory;
+
+public class SparsePlateauOccupancyTest {
+
+	@Test
+	public void testOccupyAndFree() {
+		SparsePlateauOccupancy occupancy = new SparsePlateauOccupancy(6, 6, 2);
+		occupancy.setOccupied(3, 4);
+		occupancy.setOccupied(3, 4);
+		assertThat(occupancy.isOccupied(3, 4)).isTrue();
+		assertThat(occupancy.isOccupied(4, 3)).isFalse();
+		assertThat(occupancy.getNumberOfOccupiedLocations()).isEqualTo(1);
+		occupancy.setFree(3, 4);
+		assertThat(occupancy.isOccupied(3, 4)).isFalse();
+		assertThat(occupancy.getNumberOfOccupiedLocations()).isEqualTo(0);
+	}
+
+	@Test
+	public void testHugePlateau() {
+		// 10^18 locations: no dense index could be allocated
+		PlateauOccupancy occupancy = new SparsePlateauOccupancy(1_000_000_000, 1_000_000_000, 10);
+		occupancy.setOccupied(999_999_999, 999_999_999);
+		occupancy.setOccupied(0, 999_999_999);
+		assertThat(occupancy.isOccupied(999_999_999, 999_999_999)).isTrue();
+		assertThat(occupancy.isOccupied(0, 999_999_999)).isTrue();
+		assertThat(occupancy.isOccupied(999_999_999, 0)).isFalse();
+	}
+
+	@Test
+	public void testSameAsDenseOccupancy() {
+		// small initial capacity to go through the resizes and the deletions with shifts
+		SparsePlateauOccupancy sparse = new SparsePlateauOccupancy(50, 50, 1);
+		Set<Integer> expected = new HashSet<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 10_000; i++) {
+			int x = random.nextInt(50), y = random.nextInt(50);
+			if (random.nextBoolean()) {
+				sparse.setOccupied(x, y);
+				expected.add(y * 50 + x);
+			} else {
+				sparse.setFree(x, y);
+				expected.remove(y * 50 + x);
+			}
+		}
+		for (int y = 0; y < 50; y++) {
+			for (int x = 0; x < 50; x++) {
+				assertThat(sparse.isOccupied(x, y)).isEqualTo(expected.contains(y * 50 + x));
+			}
+		}
+		assertThat(sparse.getNumberOfOccupiedLocations()).isEqualTo(expected.size());
+	}
+
+	@Test
+	public void testTryMove() {
+		PlateauOccupancy occupancy = new SparsePlateauOccupancy(10, 10, 2);
+		occupancy.setOccupied(1, 1);
+		occupancy.setOccupied(1, 2);
+		assertThat(occupancy.tryMove(1, 1, 1, 2)).isFalse();
+		assertThat(occupancy.isOccupied(1, 1)).isTrue();
+		assertThat(occupancy.tryMove(1, 1, 2, 1)).isTrue();
+		assertThat(occupancy.isOccupied(1, 1)).isFalse();
+		assertThat(occupancy.isOccupied(2, 1)).isTrue();
+		assertThat(occupancy.tryOccupy(2, 1)).isFalse();
+	}
+
+	@Test
+	public void testConcurrentMovesToSameLocation() throws Exception {
+		int numberOfRovers = 8;
+		int numberOfRounds = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfRovers);
+		try {
+			for (int round = 0; round < numberOfRounds; round++) {
+				PlateauOccupancy occupancy = new SparsePlateauOccupancy(10, 10, 2);
+				CyclicBarrier barrier = new CyclicBarrier(numberOfRovers);
+				List<Future<Boolean>> moves = new ArrayList<>();
+				for (int rover = 0; rover < numberOfRovers; rover++) {
+					int x = rover;
+					occupancy.setOccupied(x, 0);
+					moves.add(executor.submit(() -> {
+						barrier.await();
+						return occupancy.tryMove(x, 0, 4, 4);
+					}));
+				}
+				int succeeded = 0;
+				for (Future<Boolean> move : moves) {
+					succeeded += move.get() ? 1 : 0;
+				}
+				// only one rover can reach the location, the others stay where they were
+				assertThat(succeeded).isEqualTo(1);
+				int stayed = 0;
+				for (int x = 0; x < numberOfRovers; x++) {
+					stayed += occupancy.isOccupied(x, 0) ? 1 : 0;
+				}
+				assertThat(stayed).isEqualTo(numberOfRovers - 1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLocationOutOfPlateau() {
+		PlateauOccupancy occupancy = new SparsePlateauOccupancy(6, 6, 2);
+		Throwable thrown = catchThrowable(() -> occupancy.isOccupied(0, 6));
+		assertThat(thrown).isInstanceOf(ArrayIndexOutOfBoundsException.class);
+	}
+
+	@Test
+	public void testOccupancySelectedByFactory() {
+		assertThat(PlateauFactory.createOccupancy(6, 6)).isInstanceOf(BitSetPlateauOccupancy.class);
+		assertThat(PlateauFactory.createOccupancy(10_000, 10_000, 1_000)).isInstanceOf(SparsePlateauOccupancy.class);
+		assertThat(PlateauFactory.createOccupancy(10_000, 10_000, 100_000)).isInstanceOf(BitSetPlateauOccupancy.class);
+	}
+
+}
@@ -5,6 +5,10 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.assertj.core.api.Condition;
@@ -13,7 +17,10 @@ import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
 import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.plateau.Plateau;
 import com.game.domain.model.event.DomainEvent;
 import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
 import com.game.domain.model.event.rover.RoverMovedEvent;
@@ -38,6 +45,8 @@ public class RoverTest extends BaseUnitTest {
 
 	@BeforeMethod
 	public void reset() {
+		// the moves claim their locations on the plateau, a new one for each test
+		super.plateauUUID = UUID.randomUUID();
 		addPlateau(super.plateauUUID, PLATEAU_WIDTH, PLATEAU_HEIGHT);
 		clearAndSubscribe();
 		clearAllExpectedEvents();
@@ -96,8 +105,9 @@ public class RoverTest extends BaseUnitTest {
 		assertThat(roverMovedEvents.size()).isEqualTo(1);
 		List<DomainEvent> eventsList = GameContext.getInstance().getEventStore().getAllEvents();
 		assertThat(eventsList.size()).isEqualTo(2);
-		DomainEvent eventStored = eventsList.get(0);
-		assertThat(eventStored).isInstanceOf(RoverMovedEvent.class);
+		// the plateau location is claimed before the move is applied
+		assertThat(eventsList.get(0)).isInstanceOf(PlateauSwitchedLocationEvent.class);
+		assertThat(eventsList.get(1)).isInstanceOf(RoverMovedEvent.class);
 	}
 
 	@Test
@@ -149,6 +159,192 @@ public class RoverTest extends BaseUnitTest {
 
 	}
 
+	@Test
+	public void testMoveNorthInBulk() {
+		GameContext.getInstance().setBulkMoveEnabled(true);
+		try {
+			Rover rover = initializeRover(Orientation.NORTH);
+			rover.moveNumberOfTimes(2);
+			assertThat(rover.getYPosition()).isEqualTo(6);
+			// one compacted event instead of one event per step
+			assertThat(roverMovedEvents).hasSize(1);
+			assertThat(roverMovedEvents.get(0).getNumberOfSteps()).isEqualTo(2);
+			assertThat(plateauSwitchedLocationEvents).hasSize(1);
+			assertThat(GameContext.getInstance().getEventStore().getAllEvents()).hasSize(2);
+		} finally {
+			GameContext.getInstance().setBulkMoveEnabled(false);
+		}
+	}
+
+	@Test
+	public void testMoveInBulkOutOfBoard() {
+		GameContext.getInstance().setBulkMoveEnabled(true);
+		try {
+			Rover rover = initializeRover(Orientation.NORTH);
+			Throwable thrown = catchThrowable(() -> rover.moveNumberOfTimes(10));
+			// same failure as step by step, once the free part of the path is done
+			assertThat(thrown).isInstanceOf(IllegalRoverMoveException.class);
+			assertThat(roverMovedEvents).hasSize(1);
+			assertThat(roverMovedEvents.get(0).getCurrentPosition()).isEqualTo(new TwoDimensionalCoordinates(3, 6));
+			assertThat(roverMovedWithExceptionEvents).hasSize(1);
+		} finally {
+			GameContext.getInstance().setBulkMoveEnabled(false);
+		}
+	}
+
+	@Test
+	public void testMoveInBulkStopsBeforeBusyLocation() {
+		GameContext.getInstance().setBulkMoveEnabled(true);
+		TwoDimensionalCoordinates busyLocation = new TwoDimensionalCoordinates(0, 4);
+		Plateau plateau = GameContext.getInstance().getPlateau(plateauUUID);
+		plateau.setLocationOccupied(busyLocation);
+		try {
+			Rover rover = initializeRover(Orientation.WEST);
+			Throwable thrown = catchThrowable(() -> rover.moveNumberOfTimes(3));
+			assertThat(thrown).isInstanceOf(IllegalRoverMoveException.class)
+					.hasMessageContaining(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET, 0, 4));
+			assertThat(roverMovedEvents).hasSize(1);
+			assertThat(roverMovedEvents.get(0).getCurrentPosition()).isEqualTo(new TwoDimensionalCoordinates(1, 4));
+		} finally {
+			plateau.setLocationFree(busyLocation);
+			GameContext.getInstance().setBulkMoveEnabled(false);
+		}
+	}
+
+	@Test
+	public void testMoveInBulkStopsBeforeCrossingRover() {
+		GameContext.getInstance().setBulkMoveEnabled(true);
+		RoverIdentifier crossingRoverId = new RoverIdentifier(plateauUUID, "CROSSING_ROVER");
+		addPlateauWithCrossingRover(crossingRoverId, new TwoDimensionalCoordinates(1, 4));
+		try {
+			Rover rover = initializeRover(Orientation.WEST);
+			Throwable thrown = catchThrowable(() -> rover.moveNumberOfTimes(3));
+			// the crossing rover entered the path after the scan: not jumped over, the rover
+			// fails in front of it as it would have step by step
+			assertThat(thrown).isInstanceOf(IllegalRoverMoveException.class)
+					.hasMessageContaining(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET, 1, 4));
+			assertThat(roverMovedEvents).hasSize(1);
+			assertThat(roverMovedEvents.get(0).getCurrentPosition()).isEqualTo(new TwoDimensionalCoordinates(2, 4));
+			Plateau plateau = GameContext.getInstance().getPlateau(plateauUUID);
+			assertThat(plateau.isLocationBusy(new TwoDimensionalCoordinates(0, 4))).isFalse();
+			assertThat(plateau.getRoversInRegion(new TwoDimensionalCoordinates(1, 4), new TwoDimensionalCoordinates(1, 4)))
+					.containsExactly(crossingRoverId);
+		} finally {
+			GameContext.getInstance().setBulkMoveEnabled(false);
+		}
+	}
+
+	/**
+	 * The crossing rover lands on the location once the path of the moving rover has been scanned
+	 */
+	private void addPlateauWithCrossingRover(RoverIdentifier crossingRoverId, TwoDimensionalCoordinates location) {
+		plateauUUID = UUID.randomUUID();
+		GameContext.getInstance().addPlateau(new Plateau(plateauUUID,
+				new TwoDimensions(new TwoDimensionalCoordinates(PLATEAU_WIDTH, PLATEAU_HEIGHT))) {
+			@Override
+			public int getFreePathLength(int x, int y, int dx, int dy, int maxSteps) {
+				int freeSteps = super.getFreePathLength(x, y, dx, dy, maxSteps);
+				tryMoveRover(crossingRoverId, PackedCoordinates.NONE, location.pack());
+				return freeSteps;
+			}
+		}.initializeLocations());
+	}
+
+	@Test
+	public void testTryMoveOutOfBoard() {
+		Rover rover = initializeRover(Orientation.NORTH);
+		RoverMoveResult result = rover.tryMoveNumberOfTimes(10);
+		assertThat(result).isEqualTo(new RoverMoveResult(MoveOutcome.OUT_OF_PLATEAU, new TwoDimensionalCoordinates(3, 6)));
+		assertThat(roverMovedEvents).hasSize(2);
+		assertThat(roverMovedWithExceptionEvents).isEmpty();
+	}
+
+	@Test
+	public void testTryMoveStopsBeforeBusyLocation() {
+		TwoDimensionalCoordinates busyLocation = new TwoDimensionalCoordinates(1, 4);
+		Plateau plateau = GameContext.getInstance().getPlateau(plateauUUID);
+		plateau.setLocationOccupied(busyLocation);
+		try {
+			Rover rover = initializeRover(Orientation.WEST);
+			RoverMoveResult result = rover.tryMoveNumberOfTimes(3);
+			assertThat(result.isMoved()).isFalse();
+			assertThat(result).isEqualTo(new RoverMoveResult(MoveOutcome.BLOCKED_BY_ROVER, new TwoDimensionalCoordinates(2, 4)));
+			assertThat(roverMovedWithExceptionEvents).isEmpty();
+		} finally {
+			plateau.setLocationFree(busyLocation);
+		}
+	}
+
+	@Test
+	public void testTryMoveRacingRoversIntoSameLocation() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < 100; round++) {
+				plateauUUID = UUID.randomUUID();
+				addPlateau(plateauUUID, PLATEAU_WIDTH, PLATEAU_HEIGHT);
+				clearAllExpectedEvents();
+				Rover westRover = landRover("WEST_ROVER", new TwoDimensionalCoordinates(1, 4), Orientation.EAST);
+				Rover eastRover = landRover("EAST_ROVER", new TwoDimensionalCoordinates(3, 4), Orientation.WEST);
+				CountDownLatch start = new CountDownLatch(1);
+				Future<RoverMoveResult> westResult = executor.submit(() -> {
+					start.await();
+					return westRover.tryMoveNumberOfTimes(1);
+				});
+				Future<RoverMoveResult> eastResult = executor.submit(() -> {
+					start.await();
+					return eastRover.tryMoveNumberOfTimes(1);
+				});
+				start.countDown();
+
+				// whatever the interleaving, one rover takes the location and the other one is
+				// blocked where it stands, without any failure
+				RoverMoveResult west = westResult.get();
+				RoverMoveResult east = eastResult.get();
+				assertThat(west.isMoved()).isNotEqualTo(east.isMoved());
+				assertThat(west).isEqualTo(west.isMoved() ? movedToRaceLocation()
+						: new RoverMoveResult(MoveOutcome.BLOCKED_BY_ROVER, new TwoDimensionalCoordinates(1, 4)));
+				assertThat(east).isEqualTo(east.isMoved() ? movedToRaceLocation()
+						: new RoverMoveResult(MoveOutcome.BLOCKED_BY_ROVER, new TwoDimensionalCoordinates(3, 4)));
+				assertThat(roverMovedEvents).hasSize(1);
+				assertThat(roverMovedWithExceptionEvents).isEmpty();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private RoverMoveResult movedToRaceLocation() {
+		return new RoverMoveResult(MoveOutcome.MOVED, new TwoDimensionalCoordinates(2, 4));
+	}
+
+	private Rover landRover(String name, TwoDimensionalCoordinates position, Orientation orientation) {
+		Rover rover = new Rover(new RoverIdentifier(plateauUUID, name), position, orientation);
+		GameContext.getInstance().getPlateau(plateauUUID).tryMoveRover(rover.getId(), PackedCoordinates.NONE,
+				position.pack());
+		return rover;
+	}
+
+	@Test
+	public void testTryMoveInBulk() {
+		GameContext.getInstance().setBulkMoveEnabled(true);
+		try {
+			Rover rover = initializeRover(Orientation.EAST);
+			RoverMoveResult result = rover.tryMoveNumberOfTimes(2);
+			assertThat(result).isEqualTo(new RoverMoveResult(MoveOutcome.MOVED, new TwoDimensionalCoordinates(5, 4)));
+			assertThat(roverMovedEvents).hasSize(1);
+			assertThat(roverMovedEvents.get(0).getNumberOfSteps()).isEqualTo(2);
+		} finally {
+			GameContext.getInstance().setBulkMoveEnabled(false);
+		}
+	}
+
+	@Test
+	public void testIllegalMoveExceptionHasNoStackTrace() {
+		Rover rover = initializeRover(Orientation.NORTH);
+		Throwable thrown = catchThrowable(() -> rover.moveNumberOfTimes(3));
+		assertThat(thrown.getStackTrace()).isEmpty();
+	}
+
 	@Test
 	public void testMoveWest() {
 		Rover rover = initializeRover(Orientation.WEST);
@@ -9,6 +9,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensions;
 import com.game.domain.model.entity.plateau.Plateau;
@@ -157,6 +158,45 @@ public class RoverValidatorTest {
 						String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET, rover.getXPosition(), rover.getYPosition())));
 	}
 
+	@Test
+	public void testValidPositionFastCheck() {
+
+		UUID uuid = UUID.randomUUID();
+
+		addPlateau(uuid, PLATEAU_WIDTH, PLATEAU_HEIGHT);
+
+		Plateau plateau = gameContext.getPlateau(uuid);
+		plateau.setLocationOccupied(new TwoDimensionalCoordinates(POSITIVE_X_POSITION, POSITIVE_Y_POSITION));
+
+		assertThat(RoverValidator.isValidPosition(plateau, PackedCoordinates.pack(PLATEAU_WIDTH, PLATEAU_HEIGHT))).isTrue();
+		assertThat(RoverValidator.isValidPosition(plateau, PackedCoordinates.pack(NEGATIVE_X_POSITION, 0))).isFalse();
+		assertThat(RoverValidator.isValidPosition(plateau, PackedCoordinates.pack(0, PLATEAU_HEIGHT + 1))).isFalse();
+		assertThat(RoverValidator.isValidPosition(plateau,
+				PackedCoordinates.pack(POSITIVE_X_POSITION, POSITIVE_Y_POSITION))).isFalse();
+		assertThat(RoverValidator.isValidPosition(null, PackedCoordinates.pack(0, 0))).isFalse();
+	}
+
+	/**
+	 * The plateau kept by the rover is resolved again once the game is reset
+	 */
+	@Test
+	public void testPlateauResolvedAgainAfterReset() {
+
+		UUID uuid = UUID.randomUUID();
+
+		addPlateau(uuid, PLATEAU_WIDTH, PLATEAU_HEIGHT);
+
+		Rover rover = getRover(uuid, POSITIVE_X_POSITION, POSITIVE_Y_POSITION);
+		assertThat(rover.getPlateau()).isSameAs(gameContext.getPlateau(uuid));
+
+		gameContext.reset();
+		addPlateau(uuid, PLATEAU_SMALL_X, PLATEAU_SMALL_Y);
+
+		assertThat(rover.getPlateau()).isSameAs(gameContext.getPlateau(uuid));
+		assertThat(catchThrowable(() -> rover.validate(new EntityDefaultValidationNotificationHandler())))
+				.isInstanceOf(EntityValidationException.class);
+	}
+
 	private void addPlateau(UUID uuid, int width, int height) {
 		gameContext.addPlateau(
 				new Plateau(uuid, new TwoDimensions(new TwoDimensionalCoordinates(width, height))).initializeLocations());
@@ -0,0 +1,183 @@
+package com.game.domain.model.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.AsyncEventDispatcher.BackpressurePolicy;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.exception.EventPublicationException;
+
+public class AsyncEventDispatcherTest {
+
+	private static final int NUMBER_OF_ROVERS = 10;
+
+	private static final int MOVES_PER_ROVER = 200;
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private final Map<String, List<Integer>> positionsByRover = new ConcurrentHashMap<>();
+
+	private final List<String> handlingThreads = Collections.synchronizedList(new ArrayList<>());
+
+	private AsyncEventDispatcher dispatcher;
+
+	@BeforeMethod
+	public void clear() {
+		positionsByRover.clear();
+		handlingThreads.clear();
+		DomainEventPublisherSubscriber.instance().clear();
+	}
+
+	@AfterMethod
+	public void useSynchronousDispatch() {
+		DomainEventPublisherSubscriber.instance().useSynchronousDispatch();
+		DomainEventPublisherSubscriber.instance().clear();
+		if (dispatcher != null) {
+			dispatcher.shutdown();
+		}
+	}
+
+	@Test
+	public void testEventsOfSameRoverDeliveredInOrder() throws InterruptedException {
+		dispatcher = new AsyncEventDispatcher(4);
+		DomainEventPublisherSubscriber.instance().useAsyncDispatcher(dispatcher);
+		DomainEventPublisherSubscriber.instance().subscribe(new RecordingSubscriber(false, null));
+		for (int move = 0; move < MOVES_PER_ROVER; move++) {
+			for (int rover = 0; rover < NUMBER_OF_ROVERS; rover++) {
+				DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent("ROVER_" + rover, move));
+			}
+		}
+		assertThat(dispatcher.flush(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(positionsByRover).hasSize(NUMBER_OF_ROVERS);
+		positionsByRover.values().forEach(positions -> assertThat(positions).hasSize(MOVES_PER_ROVER).isSorted());
+		assertThat(handlingThreads).doesNotContain(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void testSynchronousSubscriberCalledOnPublisherThread() {
+		dispatcher = new AsyncEventDispatcher(2);
+		DomainEventPublisherSubscriber.instance().useAsyncDispatcher(dispatcher);
+		DomainEventPublisherSubscriber.instance().subscribe(new RecordingSubscriber(true, null));
+		DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent("ROVER_1", 1));
+		assertThat(handlingThreads).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void testEventRejectedWhenQueueIsFull() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		dispatcher = new AsyncEventDispatcher(1, 1, BackpressurePolicy.REJECT);
+		DomainEventPublisherSubscriber.instance().useAsyncDispatcher(dispatcher);
+		DomainEventPublisherSubscriber.instance().subscribe(new RecordingSubscriber(false, release));
+		Throwable thrown = catchThrowable(() -> {
+			for (int move = 0; move < 3; move++) {
+				DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent("ROVER_1", move));
+			}
+		});
+		release.countDown();
+		assertThat(thrown).isInstanceOf(EventPublicationException.class);
+		assertThat(dispatcher.flush(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void testFailedDeliveriesReportedOnFlush() throws InterruptedException {
+		dispatcher = new AsyncEventDispatcher(2);
+		DomainEventPublisherSubscriber.instance().useAsyncDispatcher(dispatcher);
+		DomainEventPublisherSubscriber.instance().subscribe(new FailingSubscriber());
+		DomainEventPublisherSubscriber.instance().subscribe(new RecordingSubscriber(false, null));
+		DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent("ROVER_1", 1));
+		DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent("ROVER_2", 1));
+
+		Throwable thrown = catchThrowable(() -> dispatcher.flush(10, TimeUnit.SECONDS));
+		assertThat(thrown).isInstanceOf(EventPublicationException.class)
+				.hasMessageContaining(FailingSubscriber.class.getSimpleName()).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(thrown.getSuppressed()).hasSize(1);
+		// the other subscribers still get the events, the failures are reported once
+		assertThat(positionsByRover).hasSize(2);
+		assertThat(dispatcher.flush(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void testSameRoverSamePartition() {
+		dispatcher = new AsyncEventDispatcher(8);
+		assertThat(dispatcher.partitionIndex(getRoverMovedEvent("ROVER_1", 1)))
+				.isEqualTo(dispatcher.partitionIndex(getRoverMovedEvent("ROVER_1", 2)));
+	}
+
+	private RoverMovedEvent getRoverMovedEvent(String roverName, int y) {
+		return new RoverMovedEvent.Builder()
+				.withRoverId(new RoverIdentifierDto(new RoverIdentifier(plateauUuid, roverName), y))
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, y))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, y + 1)).build();
+	}
+
+	class FailingSubscriber extends AbstractDomainEventSubscriber<RoverMovedEvent> {
+
+		@Override
+		public void handleEvent(RoverMovedEvent event) {
+			throw new IllegalStateException("subscriber failure");
+		}
+
+		@Override
+		public Class<RoverMovedEvent> subscribedToEventType() {
+			return RoverMovedEvent.class;
+		}
+
+		@Override
+		public boolean isSynchronous() {
+			return false;
+		}
+	}
+
+	class RecordingSubscriber extends AbstractDomainEventSubscriber<RoverMovedEvent> {
+
+		private final boolean synchronous;
+
+		private final CountDownLatch release;
+
+		RecordingSubscriber(boolean synchronous, CountDownLatch release) {
+			this.synchronous = synchronous;
+			this.release = release;
+		}
+
+		@Override
+		public void handleEvent(RoverMovedEvent event) {
+			if (release != null) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			handlingThreads.add(Thread.currentThread().getName());
+			positionsByRover.computeIfAbsent(event.getRoverId().getId().getName(),
+					name -> Collections.synchronizedList(new ArrayList<>())).add(event.getPreviousPosition().getOrdinate());
+		}
+
+		@Override
+		public Class<RoverMovedEvent> subscribedToEventType() {
+			return RoverMovedEvent.class;
+		}
+
+		@Override
+		public boolean isSynchronous() {
+			return synchronous;
+		}
+	}
+
+}
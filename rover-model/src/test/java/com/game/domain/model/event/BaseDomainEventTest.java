@@ -1,6 +1,8 @@
 package com.game.domain.model.event;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import org.testng.annotations.Test;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,4 +20,37 @@ public class BaseDomainEventTest {
 		assertThat(now.getSecond()).isEqualTo(occuredOn.getSecond());
 	}
 
+	@Test
+	public void testOccuredOnDerivedFromTheClock() {
+		long timestamp = 1_500_000_000_123_456_789L;
+		EventClock previous = BaseDomainEvent.useClock(() -> timestamp);
+		try {
+			BaseDomainEvent event = new BaseDomainEvent();
+			assertThat(event.getTimestamp()).isEqualTo(timestamp);
+			assertThat(event.occuredOn()).isEqualTo(
+					LocalDateTime.ofInstant(Instant.ofEpochSecond(1_500_000_000L, 123_456_789), ZoneId.systemDefault()));
+		} finally {
+			BaseDomainEvent.useClock(previous);
+		}
+	}
+
+	@Test
+	public void testSetOccuredOnUpdatesTheTimestamp() {
+		BaseDomainEvent event = new BaseDomainEvent();
+		LocalDateTime occuredOn = LocalDateTime.of(2018, 6, 1, 12, 30, 15, 42);
+		event.setOccuredOn(occuredOn);
+		BaseDomainEvent copy = new BaseDomainEvent();
+		copy.setTimestamp(event.getTimestamp());
+		assertThat(copy.occuredOn()).isEqualTo(occuredOn);
+	}
+
+	@Test
+	public void testClocksFollowTheWallClock() {
+		for (EventClock.Type type : EventClock.Type.values()) {
+			long now = System.currentTimeMillis() * EventClock.NANOS_PER_MILLI;
+			assertThat(type.create().epochNanos()).isBetween(now - EventClock.NANOS_PER_SECOND,
+					now + EventClock.NANOS_PER_SECOND);
+		}
+	}
+
 }
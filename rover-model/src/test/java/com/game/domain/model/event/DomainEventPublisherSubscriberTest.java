@@ -0,0 +1,113 @@
+package com.game.domain.model.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.exception.BaseDomainEventWithException;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverMovedWithExceptionEvent;
+
+public class DomainEventPublisherSubscriberTest {
+
+	private List<String> handledBy = new ArrayList<>();
+
+	@BeforeMethod
+	public void clear() {
+		handledBy.clear();
+		DomainEventPublisherSubscriber.instance().clear();
+	}
+
+	@AfterMethod
+	public void clearSubscribers() {
+		DomainEventPublisherSubscriber.instance().clear();
+	}
+
+	@Test
+	public void testDispatchByExactType() {
+		DomainEventPublisherSubscriber.instance().subscribe(new MovedSubscriber("first"));
+		DomainEventPublisherSubscriber.instance().subscribe(new ExceptionSubscriber("exception", false));
+		DomainEventPublisherSubscriber.instance().subscribe(new MovedSubscriber("second"));
+		DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent());
+		assertThat(handledBy).containsExactly("first", "second");
+		DomainEventPublisherSubscriber.instance().publish(new RoverMovedWithExceptionEvent(getRoverMovedEvent(), new Exception()));
+		assertThat(handledBy).containsExactly("first", "second");
+	}
+
+	@Test
+	public void testDispatchToSubtypesSubscriber() {
+		DomainEventPublisherSubscriber.instance().subscribe(new ExceptionSubscriber("exception", true));
+		DomainEventPublisherSubscriber.instance().publish(new RoverMovedWithExceptionEvent(getRoverMovedEvent(), new Exception()));
+		DomainEventPublisherSubscriber.instance().publish(getRoverMovedEvent());
+		assertThat(handledBy).containsExactly("exception");
+	}
+
+	@Test
+	public void testSubscribeSameSubscriberOnlyOnce() {
+		MovedSubscriber subscriber = new MovedSubscriber("first");
+		DomainEventPublisherSubscriber.instance().subscribe(subscriber);
+		DomainEventPublisherSubscriber.instance().subscribe(subscriber);
+		assertThat(DomainEventPublisherSubscriber.getSubscribers()).containsExactly(subscriber);
+	}
+
+	private RoverMovedEvent getRoverMovedEvent() {
+		return new RoverMovedEvent.Builder()
+				.withRoverId(new RoverIdentifierDto(new RoverIdentifier(UUID.randomUUID(), GameContext.ROVER_NAME_PREFIX), 0))
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, 1))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, 2)).build();
+	}
+
+	class MovedSubscriber extends AbstractDomainEventSubscriber<RoverMovedEvent> {
+
+		MovedSubscriber(String id) {
+			this.id = id;
+		}
+
+		@Override
+		public void handleEvent(RoverMovedEvent event) {
+			handledBy.add(id);
+		}
+
+		@Override
+		public Class<RoverMovedEvent> subscribedToEventType() {
+			return RoverMovedEvent.class;
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	class ExceptionSubscriber extends AbstractDomainEventSubscriber<BaseDomainEventWithException> {
+
+		private final boolean subtypes;
+
+		ExceptionSubscriber(String id, boolean subtypes) {
+			this.id = id;
+			this.subtypes = subtypes;
+		}
+
+		@Override
+		public void handleEvent(BaseDomainEventWithException event) {
+			handledBy.add(id);
+		}
+
+		@Override
+		public Class<BaseDomainEventWithException> subscribedToEventType() {
+			return BaseDomainEventWithException.class;
+		}
+
+		@Override
+		public boolean isSubscribedToSubtypes() {
+			return subtypes;
+		}
+	}
+
+}
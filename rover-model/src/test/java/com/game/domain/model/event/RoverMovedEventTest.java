@@ -27,4 +27,15 @@ public class RoverMovedEventTest {
 		assertThat(event.getCurrentPosition()).isEqualTo(currentPosition);
 	}
 
+	@Test
+	public void testExpandCompactedEvent() {
+		RoverIdentifier id = new RoverIdentifier(UUID.randomUUID(), GameContext.ROVER_NAME_PREFIX);
+		RoverMovedEvent event = new RoverMovedEvent.Builder().withRoverId(new RoverIdentifierDto(id, 0))
+				.withPreviousPosition(new TwoDimensionalCoordinates(5, 1))
+				.withCurrentPosition(new TwoDimensionalCoordinates(2, 1)).withNumberOfSteps(3).build();
+		assertThat(event.isCompacted()).isTrue();
+		assertThat(event.expandSteps()).containsExactly(new TwoDimensionalCoordinates(4, 1),
+				new TwoDimensionalCoordinates(3, 1), new TwoDimensionalCoordinates(2, 1));
+	}
+
 }
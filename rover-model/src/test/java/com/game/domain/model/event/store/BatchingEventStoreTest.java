@@ -0,0 +1,110 @@
+package com.game.domain.model.event.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+
+public class BatchingEventStoreTest {
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	@Test
+	public void testEventsAppendedOnCommit() {
+		GroupCountingEventStore underlyingStore = new GroupCountingEventStore();
+		EventStore eventStore = new BatchingEventStore(underlyingStore);
+		eventStore.beginBatch();
+		for (int i = 0; i < 10; i++) {
+			eventStore.addEvent(getRoverMovedEvent(i));
+		}
+		assertThat(eventStore.size()).isEqualTo(0);
+		eventStore.commitBatch();
+		assertThat(eventStore.size()).isEqualTo(10);
+		assertThat(underlyingStore.groups).containsExactly(10);
+		assertThat(((RoverMovedEvent) eventStore.getAllEvents().get(9)).getCurrentPosition().getOrdinate()).isEqualTo(9);
+	}
+
+	@Test
+	public void testNestedBatches() {
+		GroupCountingEventStore underlyingStore = new GroupCountingEventStore();
+		EventStore eventStore = new BatchingEventStore(underlyingStore);
+		eventStore.beginBatch();
+		eventStore.addEvent(getRoverMovedEvent(1));
+		eventStore.beginBatch();
+		eventStore.addEvent(getRoverMovedEvent(2));
+		eventStore.commitBatch();
+		assertThat(eventStore.size()).isEqualTo(0);
+		eventStore.commitBatch();
+		assertThat(underlyingStore.groups).containsExactly(2);
+	}
+
+	@Test
+	public void testBatchCommittedWhenFull() {
+		GroupCountingEventStore underlyingStore = new GroupCountingEventStore();
+		EventStore eventStore = new BatchingEventStore(underlyingStore, 4);
+		eventStore.beginBatch();
+		for (int i = 0; i < 10; i++) {
+			eventStore.addEvent(getRoverMovedEvent(i));
+		}
+		eventStore.commitBatch();
+		assertThat(underlyingStore.groups).containsExactly(4, 4, 2);
+	}
+
+	@Test
+	public void testAppendOutsideOfBatch() {
+		EventStore eventStore = new BatchingEventStore(new ConcurrentEventStoreImpl());
+		eventStore.addEvent(getRoverMovedEvent(1));
+		assertThat(eventStore.size()).isEqualTo(1);
+		eventStore.beginBatch();
+		eventStore.addEvent(getRoverMovedEvent(2));
+		// the pending event is appended first
+		assertThat(eventStore.append(getRoverMovedEvent(3))).isEqualTo(2);
+		eventStore.commitBatch();
+		assertThat(eventStore.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void testBatchIsPerThread() throws InterruptedException {
+		EventStore eventStore = new BatchingEventStore(new ConcurrentEventStoreImpl());
+		eventStore.beginBatch();
+		eventStore.addEvent(getRoverMovedEvent(1));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.execute(() -> eventStore.addEvent(getRoverMovedEvent(2)));
+		executor.shutdown();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+		assertThat(eventStore.size()).isEqualTo(1);
+		eventStore.commitBatch();
+		assertThat(eventStore.size()).isEqualTo(2);
+	}
+
+	private RoverMovedEvent getRoverMovedEvent(int y) {
+		return new RoverMovedEvent.Builder()
+				.withRoverId(new RoverIdentifierDto(new RoverIdentifier(plateauUuid, "ROVER_TEST"), y))
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, y))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, y)).build();
+	}
+
+	class GroupCountingEventStore extends EventStoreImpl {
+
+		List<Integer> groups = new ArrayList<>();
+
+		@Override
+		public void addEvents(List<DomainEvent> events) {
+			groups.add(events.size());
+			super.addEvents(events);
+		}
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.game.domain.model.event.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.exception.EventStoreException;
+
+public class ConcurrentEventStoreImplTest {
+
+	private static final int NUMBER_OF_WRITERS = 8;
+
+	private static final int EVENTS_PER_WRITER = 5_000;
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	@Test
+	public void testSequencesAcrossChunks() {
+		EventStore eventStore = new ConcurrentEventStoreImpl();
+		int numberOfEvents = ConcurrentEventStoreImpl.CHUNK_SIZE + 10;
+		for (int i = 0; i < numberOfEvents; i++) {
+			assertThat(eventStore.append(getRoverMovedEvent("ROVER", i))).isEqualTo(i);
+		}
+		assertThat(eventStore.size()).isEqualTo(numberOfEvents);
+		List<DomainEvent> tail = eventStore.streamFrom(ConcurrentEventStoreImpl.CHUNK_SIZE - 1).collect(Collectors.toList());
+		assertThat(tail).hasSize(11);
+		assertThat(((RoverMovedEvent) tail.get(0)).getCurrentPosition().getOrdinate())
+				.isEqualTo(ConcurrentEventStoreImpl.CHUNK_SIZE - 1);
+	}
+
+	@Test
+	public void testConcurrentAppends() throws Exception {
+		EventStore eventStore = new ConcurrentEventStoreImpl();
+		ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_WRITERS);
+		List<Future<List<Long>>> futures = new ArrayList<>();
+		for (int writer = 0; writer < NUMBER_OF_WRITERS; writer++) {
+			String roverName = "ROVER_" + writer;
+			Callable<List<Long>> task = () -> {
+				List<Long> sequences = new ArrayList<>(EVENTS_PER_WRITER);
+				for (int i = 0; i < EVENTS_PER_WRITER; i++) {
+					sequences.add(eventStore.append(getRoverMovedEvent(roverName, i)));
+				}
+				return sequences;
+			};
+			futures.add(executor.submit(task));
+		}
+		Set<Long> sequences = new HashSet<>();
+		for (Future<List<Long>> future : futures) {
+			sequences.addAll(future.get());
+		}
+		executor.shutdown();
+
+		int numberOfEvents = NUMBER_OF_WRITERS * EVENTS_PER_WRITER;
+		assertThat(sequences).hasSize(numberOfEvents);
+		assertThat(eventStore.size()).isEqualTo(numberOfEvents);
+		List<DomainEvent> events = eventStore.getAllEvents();
+		assertThat(events).hasSize(numberOfEvents).doesNotContainNull();
+		// events of a given writer are kept in its own append order
+		List<Integer> positions = events.stream().map(RoverMovedEvent.class::cast)
+				.filter(event -> event.getRoverId().getId().getName().equals("ROVER_0"))
+				.map(event -> event.getCurrentPosition().getOrdinate()).collect(Collectors.toList());
+		assertThat(positions).hasSize(EVENTS_PER_WRITER).isSorted();
+	}
+
+	@Test
+	public void testClear() {
+		EventStore eventStore = new ConcurrentEventStoreImpl();
+		eventStore.addEvent(getRoverMovedEvent("ROVER", 1));
+		eventStore.clear();
+		assertThat(eventStore.size()).isEqualTo(0);
+		assertThat(eventStore.append(getRoverMovedEvent("ROVER", 2))).isEqualTo(0);
+	}
+
+	@Test
+	public void testNullEventsRejectedBeforeClaimingSequences() {
+		EventStore eventStore = new ConcurrentEventStoreImpl();
+		eventStore.addEvent(getRoverMovedEvent("ROVER", 1));
+		assertThat(catchThrowable(() -> eventStore.append(null))).isInstanceOf(NullPointerException.class);
+		assertThat(catchThrowable(() -> eventStore.addEvents(Arrays.asList(getRoverMovedEvent("ROVER", 2), null))))
+				.isInstanceOf(NullPointerException.class);
+		// the readers do not wait for the rejected events
+		assertThat(eventStore.size()).isEqualTo(1);
+		assertThat(eventStore.getAllEvents()).hasSize(1);
+	}
+
+	@Test
+	public void testFullLogLeavesNoHole() {
+		ConcurrentEventStoreImpl.Log log = new ConcurrentEventStoreImpl.Log();
+		log.tail.set(ConcurrentEventStoreImpl.CAPACITY - 1);
+		assertThat(catchThrowable(() -> log.append(Arrays.asList(getRoverMovedEvent("ROVER", 1), getRoverMovedEvent("ROVER", 2)))))
+				.isInstanceOf(EventStoreException.class);
+		assertThat(log.tail.get()).isEqualTo(ConcurrentEventStoreImpl.CAPACITY - 1);
+
+		assertThat(log.append(getRoverMovedEvent("ROVER", 3))).isEqualTo(ConcurrentEventStoreImpl.CAPACITY - 1);
+		assertThat(catchThrowable(() -> log.append(getRoverMovedEvent("ROVER", 4)))).isInstanceOf(EventStoreException.class);
+		assertThat(log.tail.get()).isEqualTo(ConcurrentEventStoreImpl.CAPACITY);
+		// the last claimed sequence is published, the readers do not wait on a rejected event
+		assertThat(log.iterator(ConcurrentEventStoreImpl.CAPACITY - 1, log.tail.get())).hasSize(1);
+	}
+
+	private RoverMovedEvent getRoverMovedEvent(String roverName, int y) {
+		return new RoverMovedEvent.Builder()
+				.withRoverId(new RoverIdentifierDto(new RoverIdentifier(plateauUuid, roverName), 1))
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, y))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, y)).build();
+	}
+
+}
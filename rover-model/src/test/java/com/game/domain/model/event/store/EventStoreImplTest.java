@@ -0,0 +1,96 @@
+package com.game.domain.model.event.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverTurnedEvent;
+
+public class EventStoreImplTest {
+
+	private static final int NUMBER_OF_MOVES = 10;
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private final RoverIdentifier roverId = new RoverIdentifier(plateauUuid, "ROVER_TEST");
+
+	private final RoverIdentifier otherRoverId = new RoverIdentifier(UUID.randomUUID(), "ROVER_OTHER");
+
+	private EventStore eventStore = new EventStoreImpl();
+
+	@BeforeMethod
+	public void addEvents() {
+		eventStore.clear();
+		for (int i = 0; i < NUMBER_OF_MOVES; i++) {
+			eventStore.addEvent(getRoverMovedEvent(i % 2 == 0 ? roverId : otherRoverId, i));
+		}
+		eventStore.addEvent(new RoverTurnedEvent.Builder().withRoverId(new RoverIdentifierDto(roverId, 1))
+				.withPreviousOrientation(Orientation.NORTH).withCurrentOrientation(Orientation.WEST).build());
+		eventStore.addEvent(new PlateauSwitchedLocationEvent.Builder().withPlateauId(plateauUuid)
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, 1))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, 2)).build());
+	}
+
+	@Test
+	public void testStreamFrom() {
+		assertThat(eventStore.size()).isEqualTo(NUMBER_OF_MOVES + 2);
+		assertThat(eventStore.streamFrom(NUMBER_OF_MOVES).collect(Collectors.toList())).hasSize(2);
+		assertThat(eventStore.streamFrom(NUMBER_OF_MOVES + 5).count()).isEqualTo(0);
+	}
+
+	@Test
+	public void testStreamIsBoundedAtCreation() {
+		eventStore.streamFrom(0).forEach(eventStore::addEvent);
+		assertThat(eventStore.size()).isEqualTo(2 * (NUMBER_OF_MOVES + 2));
+	}
+
+	@Test
+	public void testGetAllEventsIsACopy() {
+		eventStore.getAllEvents().clear();
+		assertThat(eventStore.size()).isEqualTo(NUMBER_OF_MOVES + 2);
+	}
+
+	@Test
+	public void testReadByPages() {
+		EventQuery query = new EventQuery.Builder().withPageSize(5).build();
+		EventPage page = eventStore.read(query);
+		assertThat(page.getEvents()).hasSize(5);
+		assertThat(page.getNextSequence()).isEqualTo(5);
+		assertThat(page.isEndOfStore()).isFalse();
+		page = eventStore.read(new EventQuery.Builder().fromSequence(page.getNextSequence()).withPageSize(10).build());
+		assertThat(page.getEvents()).hasSize(NUMBER_OF_MOVES + 2 - 5);
+		assertThat(page.isEndOfStore()).isTrue();
+	}
+
+	@Test
+	public void testReadByEventType() {
+		EventPage page = eventStore.read(new EventQuery.Builder().withEventType(RoverTurnedEvent.class).build());
+		assertThat(page.getEvents()).hasSize(1);
+		assertThat(page.getEvents().get(0)).isInstanceOf(RoverTurnedEvent.class);
+	}
+
+	@Test
+	public void testReadByRoverAndPlateau() {
+		assertThat(eventStore.read(new EventQuery.Builder().withRoverId(roverId).build()).getEvents())
+				.hasSize(NUMBER_OF_MOVES / 2 + 1);
+		assertThat(eventStore.read(new EventQuery.Builder().withPlateauId(plateauUuid).build()).getEvents())
+				.hasSize(NUMBER_OF_MOVES / 2 + 2);
+	}
+
+	private RoverMovedEvent getRoverMovedEvent(RoverIdentifier id, int y) {
+		return new RoverMovedEvent.Builder().withRoverId(new RoverIdentifierDto(id, 1))
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, y))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, y + 1)).build();
+	}
+
+}
@@ -3,6 +3,8 @@ package com.game.domain.model.service.plateau;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
@@ -10,11 +12,14 @@ import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
 import com.game.domain.application.context.GameContext;
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
 import com.game.domain.model.entity.dimensions.TwoDimensions;
 import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.exception.EntityValidationException;
 import com.game.domain.model.exception.GameExceptionLabels;
+import com.game.domain.model.exception.PlateauLocationAlreadySetException;
 import com.game.domain.model.repository.PlateauRepository;
 import com.game.domain.model.service.plateau.PlateauServiceImpl;
 import com.game.infrastructure.persistence.impl.InMemoryRoverRepositoryImpl;
@@ -92,6 +97,39 @@ public class PlateauServiceImplTest extends BaseUnitTest {
 		assertThat(plateauService.isLocationBusy(uuid, coordinates)).isTrue();
 	}
 
+	@Test
+	public void testSwitchLocationToBusyLocation() {
+		UUID uuid = UUID.randomUUID();
+		plateauRepository.add(getPlateau(uuid));
+		TwoDimensionalCoordinates previous = new TwoDimensionalCoordinates(3, 3);
+		TwoDimensionalCoordinates current = new TwoDimensionalCoordinates(3, 4);
+		plateauService.switchLocation(uuid, null, previous);
+		plateauService.switchLocation(uuid, null, current);
+		Throwable thrown = catchThrowable(() -> plateauService.switchLocation(uuid, previous, current));
+		assertThat(thrown).isInstanceOf(PlateauLocationAlreadySetException.class)
+				.hasMessageContaining(String.format(GameExceptionLabels.PLATEAU_LOCATION_ALREADY_SET, 3, 4));
+		assertThat(plateauService.isLocationBusy(uuid, previous)).isTrue();
+	}
+
+	@Test
+	public void testRoversIndexedWhenSwitchingLocation() {
+		UUID uuid = UUID.randomUUID();
+		plateauRepository.add(getPlateau(uuid));
+		RoverIdentifier roverId1 = new RoverIdentifier(uuid, GameContext.ROVER_NAME_PREFIX + 1);
+		RoverIdentifier roverId2 = new RoverIdentifier(uuid, GameContext.ROVER_NAME_PREFIX + 2);
+		plateauService.switchRoverLocation(roverId1, PackedCoordinates.NONE, PackedCoordinates.pack(1, 1));
+		plateauService.switchRoverLocation(roverId2, PackedCoordinates.NONE, PackedCoordinates.pack(4, 4));
+		plateauService.switchRoverLocation(roverId1, PackedCoordinates.pack(1, 1), PackedCoordinates.pack(1, 2));
+		assertThat(plateauService.getRoversInRegion(uuid, new TwoDimensionalCoordinates(0, 0),
+				new TwoDimensionalCoordinates(2, 2))).containsExactly(roverId1);
+		assertThat(plateauService.getRoversWithinDistance(uuid, new TwoDimensionalCoordinates(5, 5), 10))
+				.containsExactly(roverId2, roverId1);
+		plateauService.releaseRoverLocation(roverId2, new TwoDimensionalCoordinates(4, 4));
+		assertThat(plateauService.isLocationBusy(uuid, new TwoDimensionalCoordinates(4, 4))).isFalse();
+		assertThat(plateauService.getRoversWithinDistance(uuid, new TwoDimensionalCoordinates(5, 5), 10))
+				.containsExactly(roverId1);
+	}
+
 	private Plateau getPlateau(UUID uuid) {
 		return new Plateau(uuid, new TwoDimensions(new TwoDimensionalCoordinates(WIDTH, HEIGHT))).initializeLocations();
 	}
@@ -127,6 +165,11 @@ public class PlateauServiceImplTest extends BaseUnitTest {
 			
 		}
 
+		@Override
+		public Collection<Plateau> getAllPlateaus() {
+			return plateau == null ? Collections.emptyList() : Collections.singletonList(plateau);
+		}
+
 	}
 
 }
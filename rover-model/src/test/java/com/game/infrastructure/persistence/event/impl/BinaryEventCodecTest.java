@@ -0,0 +1,175 @@
+package com.game.infrastructure.persistence.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.plateau.PlateauInitializedEvent;
+import com.game.domain.model.event.plateau.PlateauInitializedWithExceptionEvent;
+import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
+import com.game.domain.model.event.rover.RoverInitializedEvent;
+import com.game.domain.model.event.rover.RoverInitializedWithExceptionEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverMovedWithExceptionEvent;
+import com.game.domain.model.event.rover.RoverTurnedEvent;
+import com.game.domain.model.exception.EventStoreException;
+import com.game.domain.model.exception.GameException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+public class BinaryEventCodecTest {
+
+	private static final String ROVER_NAME = "ROVER_TEST";
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private final RoverIdentifier roverId = new RoverIdentifier(plateauUuid, ROVER_NAME);
+
+	@Test
+	public void testEncodeAndDecodeEveryEventType() {
+		PlateauInitializedEvent plateauInitializedEvent = new PlateauInitializedEvent.Builder().withPlateauId(plateauUuid)
+				.withDimensions(new TwoDimensions(new TwoDimensionalCoordinates(5, 5))).build();
+		RoverInitializedEvent roverInitializedEvent = new RoverInitializedEvent.Builder().withRoverId(roverId)
+				.withPosition(new TwoDimensionalCoordinates(1, 2)).withOrientation(Orientation.NORTH).build();
+		List<DomainEvent> events = Arrays.asList(plateauInitializedEvent,
+				new PlateauSwitchedLocationEvent.Builder().withPlateauId(plateauUuid).withRoverId(roverId)
+						.withCurrentPosition(new TwoDimensionalCoordinates(1, 2)).build(),
+				roverInitializedEvent, getRoverMovedEvent(1, 2, 3, 1),
+				new PlateauSwitchedLocationEvent.Builder().withPlateauId(plateauUuid)
+						.withPreviousPosition(new TwoDimensionalCoordinates(1, 3)).build(),
+				new RoverTurnedEvent.Builder().withRoverId(new RoverIdentifierDto(roverId, 2))
+						.withPreviousOrientation(Orientation.NORTH).withCurrentOrientation(Orientation.WEST).build(),
+				getRoverMovedEvent(1, 3, 1, 0));
+		List<DomainEvent> decodedEvents = encodeAndDecode(events);
+		assertThat(decodedEvents).hasSameSizeAs(events);
+		for (int i = 0; i < events.size(); i++) {
+			assertThat(decodedEvents.get(i)).isExactlyInstanceOf(events.get(i).getClass());
+			assertThat(decodedEvents.get(i).toString()).isEqualTo(events.get(i).toString());
+		}
+		assertThat(((RoverMovedEvent) decodedEvents.get(6)).getNumberOfSteps()).isEqualTo(3);
+	}
+
+	@Test
+	public void testEncodeAndDecodeEventsWithException() {
+		GameException exception = new GameException("out of the plateau",
+				GameExceptionLabels.ROVER_ILLEGAL_POSITION_ERROR_CODE);
+		List<DomainEvent> decodedEvents = encodeAndDecode(Arrays.asList(
+				new PlateauInitializedWithExceptionEvent(new PlateauInitializedEvent.Builder().build(), exception),
+				new RoverInitializedWithExceptionEvent(
+						new RoverInitializedEvent.Builder().withRoverId(roverId).build(), exception),
+				new RoverMovedWithExceptionEvent(getRoverMovedEvent(1, 2, -1, 1),
+						new IllegalStateException("unexpected"))));
+		PlateauInitializedWithExceptionEvent plateauEvent = (PlateauInitializedWithExceptionEvent) decodedEvents.get(0);
+		assertThat(plateauEvent.getEvent().getPlateauId()).isNull();
+		assertThat(plateauEvent.getEvent().getDimensions()).isNull();
+		RoverInitializedWithExceptionEvent roverEvent = (RoverInitializedWithExceptionEvent) decodedEvents.get(1);
+		assertThat(roverEvent.getEvent().getRoverId()).isEqualTo(roverId);
+		assertThat(roverEvent.getEvent().getPosition()).isNull();
+		GameException decodedException = (GameException) roverEvent.getException();
+		assertThat(decodedException.getErrorCode()).isEqualTo(GameExceptionLabels.ROVER_ILLEGAL_POSITION_ERROR_CODE);
+		assertThat(decodedException.getOriginalMessage()).isEqualTo("out of the plateau");
+		RoverMovedWithExceptionEvent movedEvent = (RoverMovedWithExceptionEvent) decodedEvents.get(2);
+		assertThat(movedEvent.getEvent().getCurrentPosition()).isEqualTo(new TwoDimensionalCoordinates(-1, 1));
+		assertThat(((GameException) movedEvent.getException()).getOriginalMessage()).isEqualTo("unexpected");
+	}
+
+	@Test
+	public void testRoversAreInternedAndMovesCompact() {
+		List<DomainEvent> events = new ArrayList<>();
+		for (int y = 0; y < 1_000; y++) {
+			events.add(getRoverMovedEvent(7, y, 7, y + 1));
+		}
+		BinaryEventCodec codec = new BinaryEventCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+		events.forEach(event -> codec.encode(event, buffer));
+		int binarySize = buffer.position();
+		// self-contained records, as written in the segment log
+		ByteBuffer recordsBuffer = ByteBuffer.allocate(128 * 1024);
+		BinaryEventCodec recordsCodec = new BinaryEventCodec();
+		events.forEach(event -> {
+			recordsCodec.reset();
+			recordsCodec.encode(event, recordsBuffer);
+		});
+		assertThat(binarySize * 3).isLessThan(recordsBuffer.position());
+
+		buffer.flip();
+		BinaryEventCodec decoder = new BinaryEventCodec();
+		RoverMovedEvent first = (RoverMovedEvent) decoder.decode(buffer);
+		RoverMovedEvent second = (RoverMovedEvent) decoder.decode(buffer);
+		assertThat(second.getRoverId().getId()).isSameAs(first.getRoverId().getId());
+		assertThat(second.getCurrentPosition()).isEqualTo(new TwoDimensionalCoordinates(7, 2));
+		assertThat(second.occuredOn()).isEqualTo(events.get(1).occuredOn());
+	}
+
+	@Test
+	public void testOverflowLeavesTheStreamConsistent() {
+		BinaryEventCodec codec = new BinaryEventCodec();
+		ByteBuffer tooSmall = ByteBuffer.allocate(8);
+		Throwable thrown = catchThrowable(() -> codec.encode(getRoverMovedEvent(1, 2, 1, 3), tooSmall));
+		assertThat(thrown).isInstanceOf(BufferOverflowException.class);
+		assertThat(tooSmall.position()).isEqualTo(0);
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		codec.encode(getRoverMovedEvent(1, 3, 1, 4), buffer);
+		buffer.flip();
+		RoverMovedEvent event = (RoverMovedEvent) new BinaryEventCodec().decode(buffer);
+		assertThat(event.getRoverId().getId()).isEqualTo(roverId);
+		assertThat(event.getCurrentPosition()).isEqualTo(new TwoDimensionalCoordinates(1, 4));
+	}
+
+	@Test
+	public void testUnknownFormatVersionIsRejected() {
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		new BinaryEventCodec().encode(getRoverMovedEvent(1, 2, 1, 3), buffer);
+		buffer.put(0, (byte) ((BinaryEventCodec.FORMAT_VERSION + 1) << 5 | buffer.get(0) & 0x1F));
+		buffer.flip();
+		Throwable thrown = catchThrowable(() -> new BinaryEventCodec().decode(buffer));
+		assertThat(thrown).isInstanceOf(EventStoreException.class)
+				.hasMessageContaining(String.valueOf(BinaryEventCodec.FORMAT_VERSION + 1));
+	}
+
+	@Test
+	public void testVarLongRoundTrip() {
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		for (long value : new long[] { 0, -1, 63, -64, 64, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			buffer.clear();
+			BinaryEventCodec.writeVarLong(BinaryEventCodec.zigzag(value), buffer);
+			buffer.flip();
+			assertThat(BinaryEventCodec.unzigzag(BinaryEventCodec.readVarLong(buffer))).isEqualTo(value);
+		}
+	}
+
+	private List<DomainEvent> encodeAndDecode(List<DomainEvent> events) {
+		BinaryEventCodec codec = new BinaryEventCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(4096);
+		events.forEach(event -> codec.encode(event, buffer));
+		buffer.flip();
+		List<DomainEvent> decodedEvents = new ArrayList<>();
+		BinaryEventCodec decoder = new BinaryEventCodec();
+		while (buffer.hasRemaining()) {
+			decodedEvents.add(decoder.decode(buffer));
+		}
+		return decodedEvents;
+	}
+
+	private RoverMovedEvent getRoverMovedEvent(int previousX, int previousY, int currentX, int currentY) {
+		int steps = Math.abs(currentX - previousX) + Math.abs(currentY - previousY);
+		return new RoverMovedEvent.Builder().withRoverId(new RoverIdentifierDto(roverId, previousY))
+				.withPreviousPosition(new TwoDimensionalCoordinates(previousX, previousY))
+				.withCurrentPosition(new TwoDimensionalCoordinates(currentX, currentY)).withNumberOfSteps(steps)
+				.build();
+	}
+
+}
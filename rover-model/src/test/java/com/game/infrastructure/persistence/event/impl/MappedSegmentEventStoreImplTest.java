@@ -0,0 +1,219 @@
+package com.game.infrastructure.persistence.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.event.DomainEvent;
+import com.game.domain.model.event.plateau.PlateauSwitchedLocationEvent;
+import com.game.domain.model.event.rover.RoverMovedEvent;
+import com.game.domain.model.event.rover.RoverMovedWithExceptionEvent;
+import com.game.domain.model.event.rover.RoverTurnedEvent;
+import com.game.domain.model.event.store.EventPage;
+import com.game.domain.model.event.store.EventQuery;
+import com.game.domain.model.exception.GameException;
+import com.game.domain.model.exception.GameExceptionLabels;
+
+public class MappedSegmentEventStoreImplTest {
+
+	private static final int SEGMENT_SIZE = 1024;
+
+	private static final String ROVER_NAME = "ROVER_TEST";
+
+	private final UUID plateauUuid = UUID.randomUUID();
+
+	private Path directory;
+
+	@BeforeMethod
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("event-store");
+	}
+
+	@AfterMethod
+	public void deleteDirectory() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testAddAndReadEvents() {
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			RoverMovedEvent movedEvent = getRoverMovedEvent(3);
+			eventStore.addEvent(movedEvent);
+			eventStore.addEvent(getRoverTurnedEvent());
+			List<DomainEvent> events = eventStore.getAllEvents();
+			assertThat(events).hasSize(2);
+			RoverMovedEvent storedEvent = (RoverMovedEvent) events.get(0);
+			assertThat(storedEvent.getRoverId()).isEqualTo(movedEvent.getRoverId());
+			assertThat(storedEvent.getPreviousPosition()).isEqualTo(movedEvent.getPreviousPosition());
+			assertThat(storedEvent.getCurrentPosition()).isEqualTo(movedEvent.getCurrentPosition());
+			assertThat(storedEvent.getTimestamp()).isEqualTo(movedEvent.getTimestamp());
+			RoverTurnedEvent turnedEvent = (RoverTurnedEvent) events.get(1);
+			assertThat(turnedEvent.getPreviousOrientation()).isEqualTo(Orientation.NORTH);
+			assertThat(turnedEvent.getCurrentOrientation()).isEqualTo(Orientation.EAST);
+		}
+	}
+
+	@Test
+	public void testAddEventWithException() {
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			eventStore.addEvent(new RoverMovedWithExceptionEvent(getRoverMovedEvent(1),
+					new GameException("out of the plateau", GameExceptionLabels.ROVER_ILLEGAL_POSITION_ERROR_CODE)));
+			RoverMovedWithExceptionEvent event = (RoverMovedWithExceptionEvent) eventStore.getAllEvents().get(0);
+			assertThat(event.getRoverId()).isEqualTo(new RoverIdentifier(plateauUuid, ROVER_NAME));
+			GameException exception = (GameException) event.getException();
+			assertThat(exception.getErrorCode()).isEqualTo(GameExceptionLabels.ROVER_ILLEGAL_POSITION_ERROR_CODE);
+			assertThat(exception.getMessage()).contains("out of the plateau");
+		}
+	}
+
+	@Test
+	public void testEventsAreKeptAfterReopening() {
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			eventStore.addEvent(getRoverMovedEvent(1));
+			eventStore.addEvent(getRoverMovedEvent(2));
+		}
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			assertThat(eventStore.size()).isEqualTo(2);
+			eventStore.addEvent(getRoverMovedEvent(3));
+			List<DomainEvent> events = eventStore.getAllEvents();
+			assertThat(events).hasSize(3);
+			assertThat(((RoverMovedEvent) events.get(2)).getCurrentPosition())
+					.isEqualTo(new TwoDimensionalCoordinates(3, 4));
+		}
+	}
+
+	@Test
+	public void testSegmentRollsWhenFull() {
+		int numberOfEvents = 100;
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			for (int i = 0; i < numberOfEvents; i++) {
+				eventStore.addEvent(getRoverMovedEvent(i));
+			}
+			assertThat(eventStore.getNumberOfSegments()).isGreaterThan(1);
+			List<DomainEvent> events = eventStore.getAllEvents();
+			assertThat(events).hasSize(numberOfEvents);
+			assertThat(((RoverMovedEvent) events.get(numberOfEvents - 1)).getCurrentPosition())
+					.isEqualTo(new TwoDimensionalCoordinates(numberOfEvents - 1, 4));
+		}
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			assertThat(eventStore.size()).isEqualTo(numberOfEvents);
+		}
+	}
+
+	@Test
+	public void testStreamFromAcrossSegments() {
+		int numberOfEvents = 100;
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			for (int i = 0; i < numberOfEvents; i++) {
+				eventStore.addEvent(getRoverMovedEvent(i));
+			}
+			List<DomainEvent> events = eventStore.streamFrom(40).collect(Collectors.toList());
+			assertThat(events).hasSize(numberOfEvents - 40);
+			assertThat(((RoverMovedEvent) events.get(0)).getCurrentPosition())
+					.isEqualTo(new TwoDimensionalCoordinates(40, 4));
+			EventPage page = eventStore.read(new EventQuery.Builder().fromSequence(95).withPageSize(10).build());
+			assertThat(page.getEvents()).hasSize(5);
+			assertThat(page.getNextSequence()).isEqualTo(numberOfEvents);
+			assertThat(page.isEndOfStore()).isTrue();
+		}
+	}
+
+	@Test
+	public void testClear() {
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			for (int i = 0; i < 50; i++) {
+				eventStore.addEvent(getRoverMovedEvent(i));
+			}
+			eventStore.clear();
+			assertThat(eventStore.size()).isEqualTo(0);
+			assertThat(eventStore.getNumberOfSegments()).isEqualTo(1);
+			eventStore.addEvent(getRoverTurnedEvent());
+			assertThat(eventStore.streamFrom(0).count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void testAddEventsAsOneGroup() {
+		List<DomainEvent> events = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			events.add(getRoverMovedEvent(i));
+		}
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, true)) {
+			eventStore.addEvents(events);
+			assertThat(eventStore.size()).isEqualTo(30);
+			assertThat(eventStore.getNumberOfSegments()).isGreaterThan(1);
+		}
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			assertThat(((RoverMovedEvent) eventStore.getAllEvents().get(29)).getCurrentPosition())
+					.isEqualTo(new TwoDimensionalCoordinates(29, 4));
+		}
+	}
+
+	@Test
+	public void testCompactedMoveKeepsItsSteps() {
+		RoverMovedEvent movedEvent = new RoverMovedEvent.Builder().withRoverId(getRoverIdentifierDto())
+				.withPreviousPosition(new TwoDimensionalCoordinates(1, 1))
+				.withCurrentPosition(new TwoDimensionalCoordinates(1, 5)).withNumberOfSteps(4).build();
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			eventStore.addEvent(movedEvent);
+			eventStore.addEvent(new RoverMovedWithExceptionEvent(movedEvent,
+					new GameException("collision", GameExceptionLabels.PLATEAU_LOCATION_ERROR_CODE)));
+			eventStore.addEvent(getRoverMovedEvent(2));
+			List<DomainEvent> events = eventStore.getAllEvents();
+			assertThat(((RoverMovedEvent) events.get(0)).getNumberOfSteps()).isEqualTo(4);
+			assertThat(((RoverMovedWithExceptionEvent) events.get(1)).getEvent().getNumberOfSteps()).isEqualTo(4);
+			assertThat(((RoverMovedEvent) events.get(2)).isCompacted()).isFalse();
+		}
+	}
+
+	@Test
+	public void testSwitchedLocationKeepsItsRover() {
+		RoverIdentifier roverId = new RoverIdentifier(plateauUuid, ROVER_NAME);
+		try (MappedSegmentEventStoreImpl eventStore = new MappedSegmentEventStoreImpl(directory, SEGMENT_SIZE, false)) {
+			eventStore.addEvent(new PlateauSwitchedLocationEvent.Builder().withPlateauId(plateauUuid).withRoverId(roverId)
+					.withPreviousPosition(new TwoDimensionalCoordinates(1, 1))
+					.withCurrentPosition(new TwoDimensionalCoordinates(1, 2)).build());
+			eventStore.addEvent(new PlateauSwitchedLocationEvent.Builder().withPlateauId(plateauUuid)
+					.withCurrentPosition(new TwoDimensionalCoordinates(2, 2)).build());
+			List<DomainEvent> events = eventStore.getAllEvents();
+			assertThat(((PlateauSwitchedLocationEvent) events.get(0)).getRoverId()).isEqualTo(roverId);
+			assertThat(((PlateauSwitchedLocationEvent) events.get(0)).getCurrentPosition())
+					.isEqualTo(new TwoDimensionalCoordinates(1, 2));
+			assertThat(((PlateauSwitchedLocationEvent) events.get(1)).getRoverId()).isNull();
+		}
+	}
+
+	private RoverMovedEvent getRoverMovedEvent(int x) {
+		return new RoverMovedEvent.Builder().withRoverId(getRoverIdentifierDto())
+				.withPreviousPosition(new TwoDimensionalCoordinates(x, 3))
+				.withCurrentPosition(new TwoDimensionalCoordinates(x, 4)).build();
+	}
+
+	private RoverTurnedEvent getRoverTurnedEvent() {
+		return new RoverTurnedEvent.Builder().withRoverId(getRoverIdentifierDto())
+				.withPreviousOrientation(Orientation.NORTH).withCurrentOrientation(Orientation.EAST).build();
+	}
+
+	private RoverIdentifierDto getRoverIdentifierDto() {
+		return new RoverIdentifierDto(new RoverIdentifier(plateauUuid, ROVER_NAME), 1);
+	}
+
+}
@@ -73,6 +73,30 @@ public class InMemoryRoverRepositoryImplTest {
 		assertThat(roverRepository.getNumberOfRovers()).isEqualTo(0);
 	}
 	
+	@Test
+	public void testRoversIndexedByPlateau() {
+		UUID plateauUuid = UUID.randomUUID();
+		UUID otherPlateauUuid = UUID.randomUUID();
+		RoverIdentifier roverId1 = new RoverIdentifier(plateauUuid, ROVER_PREFIX + 1);
+		RoverIdentifier roverId2 = new RoverIdentifier(otherPlateauUuid, ROVER_PREFIX + 2);
+		roverRepository.add(getRover(roverId1));
+		roverRepository.add(getRover(roverId2));
+		assertThat(roverRepository.getAllRoversOnPlateau(plateauUuid)).extracting(Rover::getId).containsExactly(roverId1);
+		assertThat(roverRepository.exists(roverId2)).isTrue();
+		roverRepository.remove(roverId2);
+		assertThat(roverRepository.exists(roverId2)).isFalse();
+		assertThat(roverRepository.getAllRoversOnPlateau(otherPlateauUuid)).isEmpty();
+	}
+
+	@Test
+	public void testUpdateReplacesIndexedRover() {
+		RoverIdentifier roverId = new RoverIdentifier(UUID.randomUUID(), ROVER_PREFIX);
+		roverRepository.add(getRover(roverId));
+		Rover updatedRover = new Rover(roverId, new TwoDimensionalCoordinates(X + 1, Y), Orientation.NORTH);
+		roverRepository.update(updatedRover);
+		assertThat(roverRepository.getAllRoversOnPlateau(roverId.getPlateauId())).containsExactly(updatedRover);
+	}
+
 	private Rover getRover(RoverIdentifier id) {
 		TwoDimensionalCoordinates coordinates = new TwoDimensionalCoordinates(X, Y);
 		return new Rover(id, coordinates, Orientation.SOUTH);
@@ -0,0 +1,131 @@
+package com.game.infrastructure.persistence.snapshot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.game.domain.model.entity.dimensions.PackedCoordinates;
+import com.game.domain.model.entity.dimensions.RelativisticTwoDimensions;
+import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
+import com.game.domain.model.entity.dimensions.TwoDimensions;
+import com.game.domain.model.entity.plateau.BitSetPlateauOccupancy;
+import com.game.domain.model.entity.plateau.Plateau;
+import com.game.domain.model.entity.plateau.SparsePlateauOccupancy;
+import com.game.domain.model.entity.rover.Orientation;
+import com.game.domain.model.entity.rover.Rover;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.snapshot.GameSnapshot;
+
+public class FileSnapshotStoreImplTest {
+
+	private Path directory;
+
+	@BeforeMethod
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("snapshot");
+	}
+
+	@AfterMethod
+	public void deleteDirectory() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testSaveAndLoadSnapshot() {
+		Plateau densePlateau = getPlateau(5, 5);
+		Plateau sparsePlateau = getPlateau(9_999, 9_999);
+		Rover rover1 = getRover(densePlateau, "ROVER_1", 1, 2);
+		Rover rover2 = getRover(sparsePlateau, "ROVER_2", 9_000, 8_000);
+		rover2.setVersion(3);
+		FileSnapshotStoreImpl snapshotStore = new FileSnapshotStoreImpl(directory);
+		snapshotStore.save(new GameSnapshot(42, Arrays.asList(densePlateau, sparsePlateau), Arrays.asList(rover1, rover2)));
+
+		GameSnapshot snapshot = snapshotStore.loadLatest().get();
+		assertThat(snapshot.getSequence()).isEqualTo(42);
+		assertThat(snapshot.getRovers()).containsExactly(rover1, rover2);
+		assertThat(snapshot.getRovers().get(1).getVersion()).isEqualTo(3);
+		assertThat(snapshot.getRovers().get(1).getOrientation()).isEqualTo(Orientation.WEST);
+		Plateau restoredDense = snapshot.getPlateaus().get(0);
+		assertThat(restoredDense.getLocations()).isInstanceOf(BitSetPlateauOccupancy.class);
+		assertThat(restoredDense.isLocationBusy(new TwoDimensionalCoordinates(1, 2))).isTrue();
+		assertThat(restoredDense.isLocationBusy(new TwoDimensionalCoordinates(2, 1))).isFalse();
+		Plateau restoredSparse = snapshot.getPlateaus().get(1);
+		assertThat(restoredSparse.getId()).isEqualTo(sparsePlateau.getId());
+		assertThat(restoredSparse.getLocations()).isInstanceOf(SparsePlateauOccupancy.class);
+		assertThat(restoredSparse.isLocationBusy(new TwoDimensionalCoordinates(9_000, 8_000))).isTrue();
+		// the spatial index is rebuilt from the rovers
+		assertThat(restoredSparse.getRoversWithinDistance(new TwoDimensionalCoordinates(9_000, 8_001), 1))
+				.containsExactly(rover2.getId());
+	}
+
+	@Test
+	public void testSaveAndLoadRelativisticPlateau() {
+		int speed = RelativisticTwoDimensions.SPEED_OF_LIGHT / 2;
+		Plateau plateau = new Plateau(UUID.randomUUID(),
+				new RelativisticTwoDimensions(speed, new TwoDimensions(new TwoDimensionalCoordinates(100, 50))))
+						.initializeLocations();
+		Rover rover = getRover(plateau, "ROVER_1", 10, 20);
+		FileSnapshotStoreImpl snapshotStore = new FileSnapshotStoreImpl(directory);
+		snapshotStore.save(new GameSnapshot(7, Collections.singletonList(plateau), Collections.singletonList(rover)));
+
+		Plateau restored = snapshotStore.loadLatest().get().getPlateaus().get(0);
+		assertThat(restored.getDimensions()).isInstanceOf(RelativisticTwoDimensions.class);
+		RelativisticTwoDimensions dimensions = (RelativisticTwoDimensions) restored.getDimensions();
+		assertThat(dimensions.getObserverSpeed()).isEqualTo(speed);
+		assertThat(dimensions.getDimensions().getWidth()).isEqualTo(100);
+		assertThat(dimensions.getDimensions().getHeight()).isEqualTo(50);
+		// contracted once, as the original plateau
+		assertThat(restored.getWidth()).isEqualTo(plateau.getWidth()).isLessThan(100);
+		assertThat(restored.getHeight()).isEqualTo(plateau.getHeight()).isLessThan(50);
+		assertThat(restored.isLocationBusy(new TwoDimensionalCoordinates(10, 20))).isTrue();
+	}
+
+	@Test
+	public void testCorruptedSnapshotIsSkipped() throws IOException {
+		FileSnapshotStoreImpl snapshotStore = new FileSnapshotStoreImpl(directory);
+		snapshotStore.save(new GameSnapshot(10, Collections.singletonList(getPlateau(5, 5)), Collections.emptyList()));
+		snapshotStore.save(new GameSnapshot(20, Collections.singletonList(getPlateau(5, 5)), Collections.emptyList()));
+		Path latest = snapshotStore.listSnapshots().get(0);
+		byte[] content = Files.readAllBytes(latest);
+		content[content.length - 1] ^= 1;
+		Files.write(latest, content);
+		assertThat(snapshotStore.loadLatest().get().getSequence()).isEqualTo(10);
+	}
+
+	@Test
+	public void testOlderSnapshotsAreDeleted() {
+		FileSnapshotStoreImpl snapshotStore = new FileSnapshotStoreImpl(directory);
+		assertThat(snapshotStore.loadLatest().isPresent()).isFalse();
+		for (long sequence = 1; sequence <= 5; sequence++) {
+			snapshotStore.save(new GameSnapshot(sequence, Collections.emptyList(), Collections.emptyList()));
+		}
+		assertThat(snapshotStore.listSnapshots()).hasSize(FileSnapshotStoreImpl.KEPT_SNAPSHOTS);
+		assertThat(snapshotStore.loadLatest().get().getSequence()).isEqualTo(5);
+	}
+
+	private Plateau getPlateau(int width, int height) {
+		return new Plateau(UUID.randomUUID(), new TwoDimensions(new TwoDimensionalCoordinates(width, height)))
+				.initializeLocations();
+	}
+
+	private Rover getRover(Plateau plateau, String name, int x, int y) {
+		Rover rover = new Rover(new RoverIdentifier(plateau.getId(), name), new TwoDimensionalCoordinates(x, y),
+				Orientation.WEST);
+		plateau.tryMoveRover(rover.getId(), PackedCoordinates.NONE, rover.getPackedPosition());
+		return rover;
+	}
+
+}
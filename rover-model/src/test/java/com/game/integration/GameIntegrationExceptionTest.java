@@ -18,8 +18,6 @@ import com.game.domain.application.service.GameService;
 import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.entity.rover.RoverTurnInstruction;
-import com.game.domain.model.event.DomainEventPublisherSubscriber;
-import com.game.domain.model.event.subscriber.rover.RoverTurnedEventSubscriber;
 import com.game.domain.model.service.plateau.PlateauService;
 import com.game.domain.model.service.rover.RoverService;
 
@@ -171,8 +169,6 @@ public class GameIntegrationExceptionTest {
 			// copy to a new Rover with same version to prevent the update from in memory datastore by the main updates
 			Rover roverNew = new Rover(rover.getId(), rover.getCoordinates(), rover.getOrientation());
 			roverNew.setVersion(rover.getVersion());
-			// register the subscriber for the given type of event = RoverMovedEvent as we dont go through GameService
-			DomainEventPublisherSubscriber.instance().subscribe(new RoverTurnedEventSubscriber());
 		    try {
 		    	GameContext.getInstance().addPlateau(plateauService.getPlateau(roverId1.getPlateauId()));
 		    	// stop thread for 1s
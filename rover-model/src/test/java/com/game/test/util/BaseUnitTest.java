@@ -2,10 +2,12 @@ package com.game.test.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import com.game.domain.application.context.GameContext;
 import com.game.domain.model.entity.dimensions.TwoDimensionalCoordinates;
@@ -15,6 +17,7 @@ import com.game.domain.model.entity.rover.Orientation;
 import com.game.domain.model.entity.rover.Rover;
 import com.game.domain.model.entity.rover.RoverIdentifier;
 import com.game.domain.model.entity.rover.RoverIdentifierDto;
+import com.game.domain.model.entity.rover.RoverMoveResult;
 import com.game.domain.model.entity.rover.RoverTurnInstruction;
 import com.game.domain.model.event.AbstractDomainEventSubscriber;
 import com.game.domain.model.event.DomainEventPublisherSubscriber;
@@ -113,6 +116,17 @@ public class BaseUnitTest {
 			return rovers;
 		}
 
+		@Override
+		public Collection<Rover> getAllRoversOnPlateau(UUID plateauId) {
+			return rovers.stream().filter(rover -> rover.getId().getPlateauId().equals(plateauId))
+					.collect(Collectors.toList());
+		}
+
+		@Override
+		public boolean exists(RoverIdentifier id) {
+			return rovers.stream().anyMatch(rover -> rover.getId().equals(id));
+		}
+
 	}
 
 	protected List<RoverInitializedEvent> roverInitializedEvents = new ArrayList<RoverInitializedEvent>();
@@ -145,7 +159,7 @@ public class BaseUnitTest {
 	}
 	
 	protected void clearEventStore() {
-		GameContext.getInstance().getEventStore().getAllEvents().clear();
+		GameContext.getInstance().getEventStore().clear();
 	}
 
 	public class MockRoverInitizialiedEventSubscriber extends AbstractDomainEventSubscriber<RoverInitializedEvent> {
@@ -278,6 +292,35 @@ public class BaseUnitTest {
 			mapLocations.put(coordinates, Boolean.FALSE);
 		}
 
+		@Override
+		public void switchLocation(UUID uuid, TwoDimensionalCoordinates previous, TwoDimensionalCoordinates current) {
+			if (previous != null)
+				mapLocations.put(previous, Boolean.FALSE);
+			mapLocations.put(current, Boolean.TRUE);
+		}
+
+		@Override
+		public void switchRoverLocation(RoverIdentifier roverId, long previous, long current) {
+			switchLocation(roverId.getPlateauId(), previous, current);
+		}
+
+		@Override
+		public void releaseRoverLocation(RoverIdentifier roverId, TwoDimensionalCoordinates coordinates) {
+			updatePlateauWithFreeLocation(roverId.getPlateauId(), coordinates);
+		}
+
+		@Override
+		public List<RoverIdentifier> getRoversInRegion(UUID uuid, TwoDimensionalCoordinates lowerLeft,
+				TwoDimensionalCoordinates upperRight) {
+			return getPlateau(uuid).getRoversInRegion(lowerLeft, upperRight);
+		}
+
+		@Override
+		public List<RoverIdentifier> getRoversWithinDistance(UUID uuid, TwoDimensionalCoordinates coordinates,
+				int distance) {
+			return getPlateau(uuid).getRoversWithinDistance(coordinates, distance);
+		}
+
 		@Override
 		public Plateau getPlateau(UUID plateauUuid) {
 			if (BaseUnitTest.this.plateau == null)
@@ -289,6 +332,12 @@ public class BaseUnitTest {
 		public void updatePlateau(Plateau plateau) {
 		}
 
+		@Override
+		public List<Plateau> getAllPlateaus() {
+			return BaseUnitTest.this.plateau == null ? new ArrayList<>()
+					: Collections.singletonList(BaseUnitTest.this.plateau);
+		}
+
 		@Override
 		public void updatePlateauWithLocations(UUID plateauUUID, TwoDimensionalCoordinates freeLocation,
 				TwoDimensionalCoordinates busyLocation) {
@@ -322,6 +371,11 @@ public class BaseUnitTest {
 				throw new PlateauLocationAlreadySetException("Error");
 		}
 
+		@Override
+		public RoverMoveResult tryMoveRoverNumberOfTimes(RoverIdentifier id, int numberOfTimes) {
+			return null;
+		}
+
 		@Override
 		public void updateRover(Rover rover) {
 		}
@@ -4,6 +4,8 @@ import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
 
+import com.game.domain.application.context.GameContext;
+
 import java.io.IOException;
 import java.net.URI;
 
@@ -20,6 +22,9 @@ public class Main {
      * @return Grizzly HTTP server.
      */
     public static HttpServer startServer() {
+        // restore the state of the previous run (when the snapshots are enabled) before serving any command
+        GameContext.getInstance().recover();
+
         // create a resource config that scans for JAX-RS resources  in com.game package
     	// as well as for providers for exception mapping in com.game.provider
         final ResourceConfig rc = new ResourceConfig().packages("com.game.resource", "com.game.provider");
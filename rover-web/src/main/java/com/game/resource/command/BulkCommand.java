@@ -0,0 +1,91 @@
+package com.game.resource.command;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.service.GameServiceCommandVisitor;
+
+/**
+ * Wraps a command of the bulk request to record how its execution ended,
+ * including when it is executed in the shard of its aggregate
+ */
+class BulkCommand implements VoidApplicationCommand {
+
+	enum Status {
+		OK, FAILED, REJECTED, SKIPPED
+	}
+
+	private final int index;
+
+	private final String type;
+
+	private final VoidApplicationCommand command;
+
+	/**
+	 * Skipped until executed
+	 */
+	private volatile Status status = Status.SKIPPED;
+
+	private volatile String error;
+
+	BulkCommand(int index, String type, VoidApplicationCommand command) {
+		this.index = index;
+		this.type = type;
+		this.command = command;
+	}
+
+	/**
+	 * Command which could not be read or mapped
+	 */
+	static BulkCommand rejected(int index, String type, String error) {
+		BulkCommand rejected = new BulkCommand(index, type, null);
+		rejected.status = Status.REJECTED;
+		rejected.error = error;
+		return rejected;
+	}
+
+	@Override
+	public Object aggregateId() {
+		return command.aggregateId();
+	}
+
+	@Override
+	public Void acceptVisitor(GameServiceCommandVisitor visitor) {
+		try {
+			command.acceptVisitor(visitor);
+			status = Status.OK;
+		} catch (RuntimeException e) {
+			status = Status.FAILED;
+			error = e.getMessage();
+			throw e;
+		}
+		return null;
+	}
+
+	Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return one line of the response
+	 */
+	JsonObject toJson() {
+		JsonObjectBuilder builder = Json.createObjectBuilder().add("index", index);
+		if (type != null) {
+			builder.add("type", type);
+		}
+		builder.add("status", status.name());
+		if (error != null) {
+			builder.add("error", error);
+		}
+		return builder.build();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Command [%d] of type [%s]", index, type);
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.game.resource.command;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.service.GameService;
+
+/**
+ * Feeds the commands read from the request to the {@link GameService} by chunks
+ * and writes one result line per command once its chunk is executed.
+ * As for {@link GameService#execute(List)}, the first failure stops the mission:
+ * the next commands are only read to be reported as skipped
+ */
+class BulkCommandProcessor {
+
+	private final GameService gameService;
+
+	private final int chunkSize;
+
+	private final Writer writer;
+
+	private final List<BulkCommand> chunk = new ArrayList<>();
+
+	private int index;
+
+	private boolean failed;
+
+	BulkCommandProcessor(GameService gameService, int chunkSize, Writer writer) {
+		this.gameService = gameService;
+		this.chunkSize = chunkSize;
+		this.writer = writer;
+	}
+
+	void accept(JsonValue value) throws IOException {
+		if (value.getValueType() != JsonValue.ValueType.OBJECT) {
+			reject(null, String.format("Command should be a json object, found [%s]", value.getValueType()));
+			return;
+		}
+		JsonObject json = value.asJsonObject();
+		JsonValue typeValue = json.get(BulkCommandType.TYPE_FIELD);
+		String type = typeValue instanceof JsonString ? ((JsonString) typeValue).getString() : null;
+		if (failed) {
+			chunk.add(new BulkCommand(index++, type, null));
+			flushIfFull();
+			return;
+		}
+		VoidApplicationCommand command;
+		try {
+			command = BulkCommandType.get(type).toCommand(json);
+		} catch (RuntimeException e) {
+			reject(type, e.getMessage() == null ? e.toString() : e.getMessage());
+			return;
+		}
+		chunk.add(new BulkCommand(index++, type, command));
+		flushIfFull();
+	}
+
+	/**
+	 * The commands before the rejected one are executed first
+	 */
+	void reject(String type, String error) throws IOException {
+		if (failed) {
+			chunk.add(new BulkCommand(index++, type, null));
+		} else {
+			flush();
+			failed = true;
+			chunk.add(BulkCommand.rejected(index++, type, error));
+		}
+		flushIfFull();
+	}
+
+	/**
+	 * Executes the pending commands (none after a failure) and writes their results
+	 */
+	void flush() throws IOException {
+		if (!failed && !chunk.isEmpty()) {
+			try {
+				gameService.execute(new ArrayList<VoidApplicationCommand>(chunk));
+			} catch (RuntimeException e) {
+				// reported on the line of the failed command
+				failed = true;
+			}
+		}
+		for (BulkCommand command : chunk) {
+			writer.write(command.toJson().toString());
+			writer.write('\n');
+		}
+		chunk.clear();
+		writer.flush();
+	}
+
+	private void flushIfFull() throws IOException {
+		if (chunk.size() >= chunkSize) {
+			flush();
+		}
+	}
+
+}
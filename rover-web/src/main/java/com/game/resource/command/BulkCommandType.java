@@ -0,0 +1,85 @@
+package com.game.resource.command;
+
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+import com.game.domain.application.command.VoidApplicationCommand;
+import com.game.domain.application.command.plateau.PlateauInitializeCommand;
+import com.game.domain.application.command.rover.RoverInitializeCommand;
+import com.game.domain.application.command.rover.RoverMoveCommand;
+import com.game.domain.application.command.rover.RoverTurnCommand;
+import com.game.domain.model.entity.rover.RoverIdentifier;
+import com.game.domain.model.entity.rover.RoverTurnInstruction;
+
+/**
+ * Commands accepted by the bulk endpoint, named after the single command endpoints.
+ * The fields are the ones of the matching Dto, plus the "type" of the command
+ */
+enum BulkCommandType {
+
+	PLATEAU_INITIALIZE("plateau/initialize") {
+		@Override
+		VoidApplicationCommand toCommand(JsonObject json) {
+			return new PlateauInitializeCommand.Builder().withId(UUID.fromString(json.getString("uuid")))
+					.withWidth(json.getInt("width")).withHeight(json.getInt("height")).build();
+		}
+	},
+
+	ROVER_INITIALIZE("rover/initialize") {
+		@Override
+		VoidApplicationCommand toCommand(JsonObject json) {
+			return new RoverInitializeCommand.Builder()
+					.withPlateauUuid(UUID.fromString(json.getString("plateauUuid"))).withName(json.getString("name"))
+					.withAbscissa(json.getInt("abscissa")).withOrdinate(json.getInt("ordinate"))
+					.withOrientation(json.getString("orientation").charAt(0)).build();
+		}
+	},
+
+	ROVER_TURN("rover/turn") {
+		@Override
+		VoidApplicationCommand toCommand(JsonObject json) {
+			return new RoverTurnCommand(getRoverId(json), RoverTurnInstruction.get(json.getString("turn")));
+		}
+	},
+
+	ROVER_MOVE("rover/move") {
+		@Override
+		VoidApplicationCommand toCommand(JsonObject json) {
+			return new RoverMoveCommand(getRoverId(json), json.getInt("moves"));
+		}
+	};
+
+	public static final String TYPE_FIELD = "type";
+
+	private final String value;
+
+	private BulkCommandType(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Maps the json fields to the application command
+	 * 
+	 * @throws RuntimeException for a missing or malformed field
+	 */
+	abstract VoidApplicationCommand toCommand(JsonObject json);
+
+	static BulkCommandType get(String value) {
+		for (BulkCommandType type : values()) {
+			if (type.getValue().equals(value)) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException(String.format("Unknown command type [%s]", value));
+	}
+
+	private static RoverIdentifier getRoverId(JsonObject json) {
+		return new RoverIdentifier(UUID.fromString(json.getString("plateauUuid")), json.getString("name"));
+	}
+
+}
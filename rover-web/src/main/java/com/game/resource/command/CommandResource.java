@@ -0,0 +1,108 @@
+package com.game.resource.command;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonReader;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+
+import com.game.domain.application.context.GameContext;
+import com.game.domain.application.service.GameService;
+
+/**
+ * Root resource (exposed at "v1/commands" path)
+ * <p>
+ * Bulk upload of a mission: a json array, or one json object per line (NDJSON), of plateau
+ * and rover commands, each with its "type" (plateau/initialize, rover/initialize, rover/turn,
+ * rover/move) and the fields of the single command endpoint. The body is parsed while it is
+ * received, the commands are executed by chunks and one result line per command is streamed back.
+ * </p>
+ */
+@Path("v1/commands")
+public class CommandResource {
+
+	public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+	/**
+	 * Number of commands given at once to {@link GameService#execute(java.util.List)}
+	 */
+	static final int CHUNK_SIZE = 1000;
+
+	GameService gameService = GameContext.getInstance().getGameService();
+
+	@POST
+	@Path("bulk")
+	@Consumes({ MediaType.APPLICATION_JSON, APPLICATION_NDJSON })
+	@Produces(APPLICATION_NDJSON)
+	public StreamingOutput executeBulk(@HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+			InputStream body) {
+		boolean lineDelimited = contentType != null && contentType.startsWith(APPLICATION_NDJSON);
+		return output -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+			BulkCommandProcessor processor = new BulkCommandProcessor(gameService, CHUNK_SIZE, writer);
+			if (lineDelimited) {
+				readLines(body, processor);
+			} else {
+				readArray(body, processor);
+			}
+			processor.flush();
+		};
+	}
+
+	/**
+	 * A malformed line is rejected, the next lines are still read
+	 */
+	private void readLines(InputStream body, BulkCommandProcessor processor) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+				processor.accept(jsonReader.readValue());
+			} catch (JsonException e) {
+				processor.reject(null, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Only one command is materialized at a time. A malformed array ends the reading
+	 */
+	private void readArray(InputStream body, BulkCommandProcessor processor) throws IOException {
+		try (JsonParser parser = Json.createParser(body)) {
+			if (!parser.hasNext() || parser.next() != Event.START_ARRAY) {
+				processor.reject(null, "The body should be a json array of commands");
+				return;
+			}
+			while (parser.hasNext()) {
+				if (parser.next() == Event.END_ARRAY) {
+					return;
+				}
+				processor.accept(parser.getValue());
+			}
+		} catch (JsonException e) {
+			processor.reject(null, e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.game.resource.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Response;
+
+import org.junit.Test;
+
+import com.game.BaseUnitTest;
+
+public class CommandResourceTest extends BaseUnitTest {
+
+	private static final String PLATEAU_UUID = "4f0c7d5e-9f5b-4a1e-8d7c-2b1a3c4d5e6f";
+
+	@Test
+	public void testBulkJsonArray() {
+
+		String plateau = String.format("{\"type\": \"plateau/initialize\", \"uuid\": \"%s\", \"width\": 5, \"height\": 5}",
+				PLATEAU_UUID);
+		String rover = String.format(
+				"{\"type\": \"rover/initialize\", \"plateauUuid\": \"%s\", \"name\": \"ROVER_BULK\", \"abscissa\": 1, \"ordinate\": 2, \"orientation\": \"N\"}",
+				PLATEAU_UUID);
+		String turn = String.format("{\"type\": \"rover/turn\", \"plateauUuid\": \"%s\", \"name\": \"ROVER_BULK\", \"turn\": \"R\"}",
+				PLATEAU_UUID);
+		String move = String.format("{\"type\": \"rover/move\", \"plateauUuid\": \"%s\", \"name\": \"ROVER_BULK\", \"moves\": 2}",
+				PLATEAU_UUID);
+
+		Response response = target.path("v1/commands/bulk").request()
+				.post(Entity.json("[" + String.join(",", plateau, rover, turn, move) + "]"));
+
+		assertEquals(200, response.getStatus());
+		String[] results = response.readEntity(String.class).split("\n");
+		assertEquals(4, results.length);
+		assertEquals("{\"index\":0,\"type\":\"plateau/initialize\",\"status\":\"OK\"}", results[0]);
+		assertEquals("{\"index\":3,\"type\":\"rover/move\",\"status\":\"OK\"}", results[3]);
+
+		String getResponse = target.path(String.format("v1/rover/%s/%s", "ROVER_BULK", PLATEAU_UUID)).request()
+				.get(String.class);
+		assertEquals(
+				"{\"abscissa\":3,\"name\":\"ROVER_BULK\",\"ordinate\":2,\"orientation\":\"E\",\"plateauUuid\":\"" + PLATEAU_UUID + "\"}",
+				getResponse);
+	}
+
+	/**
+	 * The first failure stops the mission, the next commands are reported as skipped
+	 */
+	@Test
+	public void testBulkNdjsonStopsOnFirstFailure() {
+
+		String uuid = "7a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d";
+		String body = String.join("\n",
+				String.format("{\"type\": \"plateau/initialize\", \"uuid\": \"%s\", \"width\": 3, \"height\": 3}", uuid),
+				"{\"type\": \"rover/jump\"}",
+				String.format("{\"type\": \"plateau/initialize\", \"uuid\": \"%s\", \"width\": 3, \"height\": 3}", uuid));
+
+		Response response = target.path("v1/commands/bulk").request()
+				.post(Entity.entity(body, CommandResource.APPLICATION_NDJSON));
+
+		assertEquals(200, response.getStatus());
+		String[] results = response.readEntity(String.class).split("\n");
+		assertEquals(3, results.length);
+		assertTrue(results[0].contains("\"status\":\"OK\""));
+		assertTrue(results[1].contains("\"status\":\"REJECTED\""));
+		assertTrue(results[1].contains("rover/jump"));
+		assertTrue(results[2].contains("\"status\":\"SKIPPED\""));
+	}
+
+}